@@ -3,17 +3,37 @@ package br.dev.rplus.finv;
 import br.dev.rplus.cup.log.Logger;
 import br.dev.rplus.cup.object.export.ExportData;
 import br.dev.rplus.cup.object.export.ExportType;
+import br.dev.rplus.finv.cache.QuoteCache;
+import br.dev.rplus.finv.concurrent.ConcurrentFetcher;
+import br.dev.rplus.finv.data.QuoteSeries;
 import br.dev.rplus.finv.enums.*;
+import br.dev.rplus.finv.io.StockBinaryFormat;
+import br.dev.rplus.finv.io.StockStreamExporter;
 import br.dev.rplus.finv.provider.*;
-import br.dev.rplus.finv.stats.StockStats;
+import br.dev.rplus.finv.stats.BetaCalculator;
+import br.dev.rplus.finv.stats.FusedStatsEvaluator;
+import br.dev.rplus.finv.stats.ParallelStatsEvaluator;
+import br.dev.rplus.finv.stats.Returns;
+import br.dev.rplus.finv.stats.StatsMatrix;
+import br.dev.rplus.finv.stats.StatsResult;
+import br.dev.rplus.finv.stats.TechnicalIndicators;
 import br.dev.rplus.cup.utils.DateUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The FInv library is a software library that provides functions for
@@ -175,10 +195,7 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(String... tickers) {
-        return Arrays.stream(tickers)
-            .distinct()
-            .map(Finv::get)
-            .collect(Collectors.toCollection(ArrayList::new));
+        return getAll(tickers, Finv::get);
     }
 
     /**
@@ -189,10 +206,7 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(Event event, String... tickers) {
-        return Arrays.stream(tickers)
-            .distinct()
-            .map(ticker -> get(ticker, event))
-            .collect(Collectors.toCollection(ArrayList::new));
+        return getAll(tickers, ticker -> get(ticker, event));
     }
 
     /**
@@ -204,10 +218,7 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(Event event, Frequency frequency, String... tickers) {
-        return Arrays.stream(tickers)
-            .distinct()
-            .map(ticker -> get(ticker, event, frequency))
-            .collect(Collectors.toCollection(ArrayList::new));
+        return getAll(tickers, ticker -> get(ticker, event, frequency));
     }
 
     /**
@@ -220,10 +231,7 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(Event event, String startDate, String endDate, String... tickers) {
-        return Arrays.stream(tickers)
-            .distinct()
-            .map(ticker -> get(ticker, event, startDate, endDate))
-            .collect(Collectors.toCollection(ArrayList::new));
+        return getAll(tickers, ticker -> get(ticker, event, startDate, endDate));
     }
 
     /**
@@ -237,10 +245,7 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(Event event, String startDate, String endDate, Frequency frequency, String... tickers) {
-        return Arrays.stream(tickers)
-            .distinct()
-            .map(ticker -> get(ticker, event, startDate, endDate, frequency))
-            .collect(Collectors.toCollection(ArrayList::new));
+        return getAll(tickers, ticker -> get(ticker, event, startDate, endDate, frequency));
     }
 
     /**
@@ -251,10 +256,7 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(List<Event> events, String... tickers) {
-        return Arrays.stream(tickers)
-            .distinct()
-            .map(ticker -> get(ticker, events))
-            .collect(Collectors.toCollection(ArrayList::new));
+        return getAll(tickers, ticker -> get(ticker, events));
     }
 
     /**
@@ -266,10 +268,7 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(List<Event> events, Frequency frequency, String... tickers) {
-        return Arrays.stream(tickers)
-            .distinct()
-            .map(ticker -> get(ticker, events, frequency))
-            .collect(Collectors.toCollection(ArrayList::new));
+        return getAll(tickers, ticker -> get(ticker, events, frequency));
     }
 
     /**
@@ -282,10 +281,7 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(List<Event> events, String startDate, String endDate, String... tickers) {
-        return Arrays.stream(tickers)
-            .distinct()
-            .map(ticker -> get(ticker, events, startDate, endDate))
-            .collect(Collectors.toCollection(ArrayList::new));
+        return getAll(tickers, ticker -> get(ticker, events, startDate, endDate));
     }
 
     /**
@@ -299,27 +295,177 @@ public class Finv {
      * @return a list of Stock objects representing the retrieved stocks.
      */
     public static List<Stock> get(List<Event> events, String startDate, String endDate, Frequency frequency, String... tickers) {
-        return Arrays.stream(tickers)
+        return getAll(tickers, ticker -> get(ticker, events, startDate, endDate, frequency));
+    }
+
+
+    /**
+     * Retrieves the quotes of multiple stocks using batched requests.
+     * <p>
+     * Unlike {@link #get(String...)}, which issues one request per ticker, this method requests many symbols per
+     * HTTP call, grouped in chunks of {@link RequestParams#QUOTE_BATCH_SIZE} symbols.
+     *
+     * @param tickers the ticker symbols of the stocks to retrieve.
+     * @return a list of Stock objects representing the retrieved stocks, in the input order.
+     */
+    public static List<Stock> getQuotes(String... tickers) {
+        List<Stock> stocks = Arrays.stream(tickers)
             .distinct()
-            .map(ticker -> get(ticker, events, startDate, endDate, frequency))
+            .map(Stock::new)
             .collect(Collectors.toCollection(ArrayList::new));
+        new BatchStockData(stocks).fetchData();
+        return stocks;
     }
 
+    /**
+     * Retrieves a stock without blocking the calling thread.
+     * <p>
+     * When the {@link QuoteCache} is enabled, recently fetched quotes are served from it and complete immediately.
+     *
+     * @param ticker   the ticker symbol of the stock to retrieve.
+     * @param executor the executor used to build the request and parse the response.
+     * @return a {@link CompletableFuture} completed with the retrieved stock.
+     */
+    public static CompletableFuture<Stock> getAsync(String ticker, Executor executor) {
+        QuoteCache cache = QuoteCache.getInstance();
+        return cache.get(ticker)
+            .map(CompletableFuture::completedFuture)
+            .orElseGet(() -> new StockData(new Stock(ticker)).fetchDataAsync(executor)
+                .thenApply(stock -> {
+                    cache.put(stock);
+                    return stock;
+                }));
+    }
+
+    /**
+     * Retrieves a stock and the given event of the last 12 months without blocking the calling thread.
+     *
+     * @param ticker   the ticker symbol of the stock to retrieve.
+     * @param event    the event to include in the stock object.
+     * @param executor the executor used to build the requests and parse the responses.
+     * @return a {@link CompletableFuture} completed with the retrieved stock.
+     */
+    public static CompletableFuture<Stock> getAsync(String ticker, Event event, Executor executor) {
+        return getAsync(ticker, Collections.singletonList(event), Frequency.DAILY, executor);
+    }
+
+    /**
+     * Retrieves a stock and the given events of the last 12 months without blocking the calling thread.
+     *
+     * @param ticker    the ticker symbol of the stock to retrieve.
+     * @param events    the events to include in the stock object.
+     * @param frequency the frequency at which to retrieve the events.
+     * @param executor  the executor used to build the requests and parse the responses.
+     * @return a {@link CompletableFuture} completed with the retrieved stock.
+     */
+    public static CompletableFuture<Stock> getAsync(String ticker, List<Event> events, Frequency frequency, Executor executor) {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusMonths(12);
+        var du = new DateUtils();
+        return getAsync(ticker, events, du.format(startDate), du.format(endDate), frequency, executor);
+    }
+
+    /**
+     * Retrieves a stock and the given events without blocking the calling thread.
+     * <p>
+     * The quote and the events are fetched concurrently and populate the same {@link Stock} instance.
+     *
+     * @param ticker    the ticker symbol of the stock to retrieve.
+     * @param events    the events to include in the stock object.
+     * @param startDate the start date of the events range in string format.
+     * @param endDate   the end date of the events range in string format.
+     * @param frequency the frequency at which to retrieve the events.
+     * @param executor  the executor used to build the requests and parse the responses.
+     * @return a {@link CompletableFuture} completed with the retrieved stock.
+     */
+    public static CompletableFuture<Stock> getAsync(String ticker, List<Event> events, String startDate, String endDate, Frequency frequency, Executor executor) {
+        QuoteCache cache = QuoteCache.getInstance();
+        Stock cached = cache.get(ticker).orElse(null);
+        Stock stock = cached != null ? cached : new Stock(ticker);
+
+        CompletableFuture<Stock> quote = cached != null
+            ? CompletableFuture.completedFuture(stock)
+            : new StockData(stock).fetchDataAsync(executor).thenApply(fetched -> {
+                cache.put(fetched);
+                return fetched;
+            });
+        CompletableFuture<Stock> history = new EventsStockData(stock, startDate, endDate, frequency, events).fetchDataAsync(executor);
+
+        return quote.thenCombine(history, (fetchedQuote, fetchedHistory) -> stock);
+    }
+
+    /**
+     * Calculates a statistic of a stock on the given executor.
+     *
+     * @param stock    the stock object containing the stock information.
+     * @param stats    the statistic to be calculated.
+     * @param executor the executor used to run the calculation.
+     * @return a {@link CompletableFuture} completed with the calculated statistic.
+     */
+    public static CompletableFuture<Double> statsAsync(Stock stock, Stats stats, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> stats(stock, stats), executor);
+    }
+
+    /**
+     * Calculates a statistic of a stock as soon as it is retrieved, without blocking the calling thread.
+     * <p>
+     * This allows chaining a calculation to {@link #getAsync(String, List, String, String, Frequency, Executor)}.
+     *
+     * @param stock    the future of the stock.
+     * @param stats    the statistic to be calculated.
+     * @param executor the executor used to run the calculation.
+     * @return a {@link CompletableFuture} completed with the calculated statistic.
+     */
+    public static CompletableFuture<Double> statsAsync(CompletableFuture<Stock> stock, Stats stats, Executor executor) {
+        return stock.thenApplyAsync(fetched -> stats(fetched, stats), executor);
+    }
+
+    /**
+     * Retrieves the stocks of the given ticker symbols concurrently.
+     * <p>
+     * Duplicated tickers are fetched only once. The fetches run on virtual threads, limited by
+     * {@link RequestParams#MAX_CONCURRENT_REQUESTS}, and the result keeps the input order of the tickers.
+     * When a ticker fails, either because its request or response failed or because the fetcher threw, the failure is
+     * logged and the stock in its position is marked as failed: {@link Stock#isFailed()} is {@code true} and
+     * {@link Stock#getFailure()} returns the cause.
+     *
+     * @param tickers the ticker symbols of the stocks to retrieve.
+     * @param fetcher the function that retrieves a single stock.
+     * @return a list of Stock objects representing the retrieved stocks.
+     */
+    private static List<Stock> getAll(String[] tickers, Function<String, Stock> fetcher) {
+        List<String> distinctTickers = Arrays.stream(tickers)
+            .distinct()
+            .toList();
+        return ConcurrentFetcher.fetchOutcomes(distinctTickers, fetcher).stream()
+            .map(outcome -> outcome.isFailed() ? Stock.failed(outcome.key(), outcome.failure()) : outcome.value())
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
 
     /**
      * Retrieve the stock information for a given ticker symbol.
+     * <p>
+     * When the {@link QuoteCache} is enabled, recently fetched quotes are served from it, and its entries expire
+     * according to the market state.
      *
      * @param ticker the ticker symbol of the stock.
      * @return the stock information retrieved.
      */
     private static Stock getStock(String ticker) {
-        StockDataProvider provider = new StockData(new Stock(ticker));
-        provider.fetchData();
-        return provider.getStock();
+        QuoteCache cache = QuoteCache.getInstance();
+        return cache.get(ticker).orElseGet(() -> {
+            StockDataProvider provider = new StockData(new Stock(ticker));
+            provider.fetchData();
+            cache.put(provider.getStock());
+            return provider.getStock();
+        });
     }
 
     /**
      * Export the given stock using the specified export type.
+     * <p>
+     * The dates of the quote, historical quotes, dividends and splits are exported as their {@code epochMillis}
+     * component, in milliseconds since the epoch.
      *
      * @param stock      the stock to be exported.
      * @param exportType the type of export to be performed.
@@ -330,27 +476,352 @@ public class Finv {
         export.export(stock);
     }
 
+    /**
+     * Export the given stock to a file in the binary columnar format of {@link StockBinaryFormat}.
+     *
+     * @param stock the stock to be exported.
+     * @param path  the path of the file, replaced if it exists.
+     */
+    public static void export(Stock stock, Path path) {
+        export(Collections.singletonList(stock), path);
+    }
+
+    /**
+     * Export the given stocks to a single file in the binary columnar format of {@link StockBinaryFormat}.
+     *
+     * @param stocks the stocks to be exported.
+     * @param path   the path of the file, replaced if it exists.
+     */
+    public static void export(Collection<Stock> stocks, Path path) {
+        try {
+            StockBinaryFormat.write(stocks, path);
+        } catch (IOException e) {
+            Logger.getInstance().warn("Error exporting stocks to %s.", path.toString(), e);
+        }
+    }
+
+    /**
+     * Export a stream of stocks as CSV or JSON, writing each record as soon as it is read.
+     * <p>
+     * Only one stock is held at a time, so a lazily produced stream is exported in constant memory.
+     * The output stream is flushed but not closed.
+     *
+     * @param stocks the stocks to be exported.
+     * @param format the output format.
+     * @param out    the target output stream.
+     * @see StockStreamExporter
+     */
+    public static void export(Stream<Stock> stocks, StreamFormat format, OutputStream out) {
+        try {
+            StockStreamExporter.export(stocks, format, out);
+        } catch (IOException e) {
+            Logger.getInstance().warn("Error exporting stocks as %s.", format.getName(), e);
+        }
+    }
+
+    /**
+     * Export the stocks of an iterable as CSV or JSON, writing each record as soon as it is read.
+     * The output stream is flushed but not closed.
+     *
+     * @param stocks the stocks to be exported.
+     * @param format the output format.
+     * @param out    the target output stream.
+     * @see StockStreamExporter
+     */
+    public static void export(Iterable<Stock> stocks, StreamFormat format, OutputStream out) {
+        try {
+            StockStreamExporter.export(stocks, format, out);
+        } catch (IOException e) {
+            Logger.getInstance().warn("Error exporting stocks as %s.", format.getName(), e);
+        }
+    }
+
+    /**
+     * Export a stream of stocks as CSV or JSON to a channel, writing each record as soon as it is read.
+     * The channel is not closed.
+     *
+     * @param stocks  the stocks to be exported.
+     * @param format  the output format.
+     * @param channel the target channel.
+     * @see StockStreamExporter
+     */
+    public static void export(Stream<Stock> stocks, StreamFormat format, WritableByteChannel channel) {
+        try {
+            StockStreamExporter.export(stocks, format, channel);
+        } catch (IOException e) {
+            Logger.getInstance().warn("Error exporting stocks as %s.", format.getName(), e);
+        }
+    }
+
+    /**
+     * Export the stocks of an iterable as CSV or JSON to a channel, writing each record as soon as it is read.
+     * The channel is not closed.
+     *
+     * @param stocks  the stocks to be exported.
+     * @param format  the output format.
+     * @param channel the target channel.
+     * @see StockStreamExporter
+     */
+    public static void export(Iterable<Stock> stocks, StreamFormat format, WritableByteChannel channel) {
+        try {
+            StockStreamExporter.export(stocks, format, channel);
+        } catch (IOException e) {
+            Logger.getInstance().warn("Error exporting stocks as %s.", format.getName(), e);
+        }
+    }
+
+    /**
+     * Loads the first stock of a file written by {@link #export(Stock, Path)}.
+     *
+     * @param path the path of the file.
+     * @return the loaded stock, or {@code null} if the file is empty or cannot be read.
+     */
+    public static Stock load(Path path) {
+        List<Stock> stocks = loadAll(path);
+        return stocks.isEmpty() ? null : stocks.getFirst();
+    }
+
+    /**
+     * Loads every stock of a file written by {@link #export(Collection, Path)}.
+     * <p>
+     * The file is memory-mapped and each history column is copied with a single bulk read.
+     *
+     * @param path the path of the file.
+     * @return the loaded stocks, in the order they were exported, or an empty list if the file cannot be read.
+     */
+    public static List<Stock> loadAll(Path path) {
+        try {
+            return StockBinaryFormat.read(path);
+        } catch (IOException e) {
+            Logger.getInstance().warn("Error loading stocks from %s.", path.toString(), e);
+            return new ArrayList<>();
+        }
+    }
+
     /**
      * Calculates the statistics for a given stock using the provided stock and stats objects.
+     * The value is cached in the stock until its quote or histories change.
      *
      * @param stock the stock object containing the stock information.
      * @param stats the stats object containing the statistical calculations to be performed.
      * @return the calculated statistics for the stock.
      */
     public static double stats(Stock stock, Stats stats) {
-        return new StockStats(stock, stats).calculate();
+        return stock.stats(stats);
     }
 
     /**
      * Generates a list of statistical results based on the provided stock and list of statistics.
+     * The statistics are computed together, as in {@link #evaluate(Stock, Collection)}.
      *
      * @param stock     the stock object to perform the calculations on.
      * @param statsList the list of statistics to compute.
      * @return a list of double values representing the computed statistics.
      */
     public static List<Double> stats(Stock stock, List<Stats> statsList) {
-        List<Double> results = new ArrayList<>();
-        statsList.forEach(stats -> results.add(stats(stock, stats)));
-        return results;
+        return evaluate(stock, statsList).toList(statsList);
+    }
+
+    /**
+     * Calculates the same statistics for many stocks in parallel.
+     * <p>
+     * The stocks are split over a fork/join pool whose parallelism is defined by {@link ConfigParams#STATS_PARALLELISM}.
+     *
+     * @param stocks    the stocks to perform the calculations on, in the desired row order.
+     * @param statsList the statistics to compute, in the desired column order.
+     * @return a matrix with one row per stock and one column per statistic.
+     * @see ParallelStatsEvaluator
+     */
+    public static StatsMatrix stats(Collection<Stock> stocks, List<Stats> statsList) {
+        return ParallelStatsEvaluator.evaluate(stocks, statsList);
+    }
+
+    /**
+     * Calculates the same statistics for many stocks, using at most {@code parallelism} threads.
+     *
+     * @param stocks      the stocks to perform the calculations on, in the desired row order.
+     * @param statsList   the statistics to compute, in the desired column order.
+     * @param parallelism the maximum number of threads, or zero to use the common fork/join pool.
+     * @return a matrix with one row per stock and one column per statistic.
+     */
+    public static StatsMatrix stats(Collection<Stock> stocks, List<Stats> statsList, int parallelism) {
+        return ParallelStatsEvaluator.evaluate(stocks, statsList, parallelism);
+    }
+
+    /**
+     * Calculates several statistics of a stock with a single pass over each of its histories.
+     *
+     * @param stock     the stock object to perform the calculations on.
+     * @param statsList the statistics to compute.
+     * @return the computed statistics, looked up by their {@link Stats} constant.
+     * @see FusedStatsEvaluator
+     */
+    public static StatsResult evaluate(Stock stock, Collection<Stats> statsList) {
+        return stock.stats(statsList);
+    }
+
+    /**
+     * Calculates the beta of a stock against a benchmark, such as a market index.
+     *
+     * @param stock     the stock object containing the historical quotes.
+     * @param benchmark the stock object containing the historical quotes of the benchmark.
+     * @return the beta of the stock.
+     * @see BetaCalculator
+     */
+    public static double beta(Stock stock, Stock benchmark) {
+        return new BetaCalculator(benchmark).calculate(stock);
+    }
+
+    /**
+     * Calculates the simple returns of the adjusted closing prices of a stock.
+     *
+     * @param stock the stock object containing the historical quotes.
+     * @return the simple returns, one value per historical quote.
+     * @see Returns#simple(QuoteSeries, double[])
+     */
+    public static double[] simpleReturns(Stock stock) {
+        return Returns.simple(seriesOf(stock), null);
+    }
+
+    /**
+     * Calculates the logarithmic returns of the adjusted closing prices of a stock.
+     *
+     * @param stock the stock object containing the historical quotes.
+     * @return the logarithmic returns, one value per historical quote.
+     * @see Returns#log(QuoteSeries, double[])
+     */
+    public static double[] logReturns(Stock stock) {
+        return Returns.log(seriesOf(stock), null);
+    }
+
+    /**
+     * Calculates the exponential moving average of the closing prices of a stock.
+     *
+     * @param stock  the stock object containing the historical quotes.
+     * @param period the number of bars of the average.
+     * @return the exponential moving average, one value per historical quote.
+     * @see TechnicalIndicators#ema(QuoteSeries, int, double[])
+     */
+    public static double[] ema(Stock stock, int period) {
+        return ema(stock, period, null);
+    }
+
+    /**
+     * Calculates the exponential moving average of the closing prices of a stock, reusing a buffer.
+     *
+     * @param stock  the stock object containing the historical quotes.
+     * @param period the number of bars of the average.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the exponential moving average.
+     */
+    public static double[] ema(Stock stock, int period, double[] out) {
+        return TechnicalIndicators.ema(seriesOf(stock), period, out);
+    }
+
+    /**
+     * Calculates the relative strength index of the closing prices of a stock.
+     *
+     * @param stock  the stock object containing the historical quotes.
+     * @param period the number of bars of the index, usually 14.
+     * @return the relative strength index, one value per historical quote.
+     * @see TechnicalIndicators#rsi(QuoteSeries, int, double[])
+     */
+    public static double[] rsi(Stock stock, int period) {
+        return rsi(stock, period, null);
+    }
+
+    /**
+     * Calculates the relative strength index of the closing prices of a stock, reusing a buffer.
+     *
+     * @param stock  the stock object containing the historical quotes.
+     * @param period the number of bars of the index, usually 14.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the relative strength index.
+     */
+    public static double[] rsi(Stock stock, int period, double[] out) {
+        return TechnicalIndicators.rsi(seriesOf(stock), period, out);
+    }
+
+    /**
+     * Calculates the moving average convergence divergence of the closing prices of a stock.
+     *
+     * @param stock  the stock object containing the historical quotes.
+     * @param fast   the period of the fast average, usually 12.
+     * @param slow   the period of the slow average, usually 26.
+     * @param signal the period of the signal line, usually 9.
+     * @return the MACD line, signal line and histogram.
+     * @see TechnicalIndicators#macd(QuoteSeries, int, int, int, TechnicalIndicators.Macd)
+     */
+    public static TechnicalIndicators.Macd macd(Stock stock, int fast, int slow, int signal) {
+        return macd(stock, fast, slow, signal, null);
+    }
+
+    /**
+     * Calculates the moving average convergence divergence of the closing prices of a stock, reusing the buffers.
+     *
+     * @param stock  the stock object containing the historical quotes.
+     * @param fast   the period of the fast average, usually 12.
+     * @param slow   the period of the slow average, usually 26.
+     * @param signal the period of the signal line, usually 9.
+     * @param out    the buffers to be written, or {@code null} to allocate them.
+     * @return the buffers holding the MACD line, signal line and histogram.
+     */
+    public static TechnicalIndicators.Macd macd(Stock stock, int fast, int slow, int signal, TechnicalIndicators.Macd out) {
+        return TechnicalIndicators.macd(seriesOf(stock), fast, slow, signal, out);
+    }
+
+    /**
+     * Calculates the Bollinger Bands of the closing prices of a stock.
+     *
+     * @param stock      the stock object containing the historical quotes.
+     * @param period     the number of bars of the bands, usually 20.
+     * @param deviations the number of standard deviations of the outer bands, usually 2.
+     * @return the middle, upper and lower bands.
+     * @see TechnicalIndicators#bollinger(QuoteSeries, int, double, TechnicalIndicators.Bands)
+     */
+    public static TechnicalIndicators.Bands bollinger(Stock stock, int period, double deviations) {
+        return bollinger(stock, period, deviations, null);
+    }
+
+    /**
+     * Calculates the Bollinger Bands of the closing prices of a stock, reusing the buffers.
+     *
+     * @param stock      the stock object containing the historical quotes.
+     * @param period     the number of bars of the bands, usually 20.
+     * @param deviations the number of standard deviations of the outer bands, usually 2.
+     * @param out        the buffers to be written, or {@code null} to allocate them.
+     * @return the buffers holding the middle, upper and lower bands.
+     */
+    public static TechnicalIndicators.Bands bollinger(Stock stock, int period, double deviations, TechnicalIndicators.Bands out) {
+        return TechnicalIndicators.bollinger(seriesOf(stock), period, deviations, out);
+    }
+
+    /**
+     * Calculates the average true range of a stock.
+     *
+     * @param stock  the stock object containing the historical quotes.
+     * @param period the number of bars of the average, usually 14.
+     * @return the average true range, one value per historical quote.
+     * @see TechnicalIndicators#atr(QuoteSeries, int, double[])
+     */
+    public static double[] atr(Stock stock, int period) {
+        return atr(stock, period, null);
+    }
+
+    /**
+     * Calculates the average true range of a stock, reusing a buffer.
+     *
+     * @param stock  the stock object containing the historical quotes.
+     * @param period the number of bars of the average, usually 14.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the average true range.
+     */
+    public static double[] atr(Stock stock, int period, double[] out) {
+        return TechnicalIndicators.atr(seriesOf(stock), period, out);
+    }
+
+    private static QuoteSeries seriesOf(Stock stock) {
+        QuoteSeries series = stock.getQuoteSeries();
+        return series == null ? QuoteSeries.EMPTY : series;
     }
 }
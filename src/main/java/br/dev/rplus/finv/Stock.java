@@ -1,15 +1,28 @@
 package br.dev.rplus.finv;
 
 import br.dev.rplus.cup.log.Logger;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDescriptor;
 import br.dev.rplus.finv.data.StockDividend;
 import br.dev.rplus.finv.data.StockHistoricalQuote;
 import br.dev.rplus.finv.data.StockQuote;
 import br.dev.rplus.finv.data.StockSplit;
+import br.dev.rplus.finv.enums.Stats;
+import br.dev.rplus.finv.stats.FusedStatsEvaluator;
+import br.dev.rplus.finv.stats.StatsResult;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Stock is a class that represents a stock, containing information about the stock itself and its historical data.
@@ -22,39 +35,32 @@ public class Stock {
     @Setter
     private String name;
 
-    @Setter
-    private String currency;
-
-    @Setter
-    private String market;
-
-    @Setter
-    private String marketState;
-
-    @Setter
-    private String quoteType;
-
-    @Setter
-    private String region;
+    private StockDescriptor descriptor = StockDescriptor.EMPTY;
 
-    @Setter
-    private String exchangeTimezone;
-
-    @Setter
-    private String quoteSource;
-
-    @Setter
     private StockQuote quote;
 
-    @Setter
+    /**
+     * The columnar form of the quote history. It is not printed, since {@link #quoteHistory} holds the same bars.
+     */
+    private transient QuoteSeries quoteSeries;
+
     private List<StockHistoricalQuote> quoteHistory;
 
-    @Setter
     private List<StockDividend> dividendHistory;
 
-    @Setter
     private List<StockSplit> splitHistory;
 
+    /**
+     * The statistics already calculated for the current data of the stock, replaced by a new map whenever that data changes.
+     */
+    @Getter(AccessLevel.NONE)
+    private transient volatile Map<Stats, Double> statsCache = new ConcurrentHashMap<>();
+
+    /**
+     * The cause of the failure when the stock could not be fetched, or {@code null} if it was.
+     */
+    private transient Throwable failure;
+
     /**
      * Constructor for the Stock class.
      *
@@ -64,8 +70,318 @@ public class Stock {
         this.ticker = ticker;
     }
 
+    /**
+     * Creates a stock that could not be fetched, so that callers can tell it apart from a stock without data.
+     *
+     * @param ticker  the stock ticker.
+     * @param failure the cause of the failure.
+     * @return the failed stock.
+     */
+    static Stock failed(String ticker, Throwable failure) {
+        Stock stock = new Stock(ticker);
+        stock.setFailure(failure);
+        return stock;
+    }
+
+    /**
+     * Checks whether the stock could not be fetched.
+     * The cause is returned by {@link #getFailure()}.
+     * <p>
+     * A failed stock may still hold the data of the fetches that succeeded, or a history served from the local cache.
+     *
+     * @return {@code true} if fetching the stock failed, {@code false} otherwise.
+     */
+    public boolean isFailed() {
+        return this.failure != null;
+    }
+
+    /**
+     * Records that fetching the stock failed.
+     * This is called by the data providers when a request fails or its response cannot be parsed.
+     *
+     * @param failure the cause of the failure, or {@code null} to clear it.
+     */
+    public void setFailure(Throwable failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Sets the market metadata of the stock.
+     * The descriptor is kept as given, so a shared descriptor from {@link StockDescriptor#of} stays shared.
+     *
+     * @param descriptor the market metadata, or {@code null} if it is unknown.
+     */
+    public void setDescriptor(StockDescriptor descriptor) {
+        this.descriptor = descriptor == null ? StockDescriptor.EMPTY : descriptor;
+    }
+
+    /**
+     * Returns the currency in which the stock is traded.
+     *
+     * @return the currency in which the stock is traded.
+     */
+    public String getCurrency() {
+        return this.descriptor.currency();
+    }
+
+    /**
+     * Sets the currency in which the stock is traded.
+     *
+     * @param currency the currency in which the stock is traded.
+     */
+    public void setCurrency(String currency) {
+        this.descriptor = this.descriptor.withCurrency(currency);
+    }
+
+    /**
+     * Returns the full name of the exchange where the stock is traded.
+     *
+     * @return the full name of the exchange where the stock is traded.
+     */
+    public String getMarket() {
+        return this.descriptor.market();
+    }
+
+    /**
+     * Sets the full name of the exchange where the stock is traded.
+     *
+     * @param market the full name of the exchange where the stock is traded.
+     */
+    public void setMarket(String market) {
+        this.descriptor = this.descriptor.withMarket(market);
+    }
+
+    /**
+     * Returns the state of the market.
+     *
+     * @return the state of the market.
+     */
+    public String getMarketState() {
+        return this.descriptor.marketState();
+    }
+
+    /**
+     * Sets the state of the market.
+     *
+     * @param marketState the state of the market.
+     */
+    public void setMarketState(String marketState) {
+        this.descriptor = this.descriptor.withMarketState(marketState);
+    }
+
+    /**
+     * Returns the type of the quote.
+     *
+     * @return the type of the quote.
+     */
+    public String getQuoteType() {
+        return this.descriptor.quoteType();
+    }
+
+    /**
+     * Sets the type of the quote.
+     *
+     * @param quoteType the type of the quote.
+     */
+    public void setQuoteType(String quoteType) {
+        this.descriptor = this.descriptor.withQuoteType(quoteType);
+    }
+
+    /**
+     * Returns the region of the exchange.
+     *
+     * @return the region of the exchange.
+     */
+    public String getRegion() {
+        return this.descriptor.region();
+    }
+
+    /**
+     * Sets the region of the exchange.
+     *
+     * @param region the region of the exchange.
+     */
+    public void setRegion(String region) {
+        this.descriptor = this.descriptor.withRegion(region);
+    }
+
+    /**
+     * Returns the timezone name of the exchange.
+     *
+     * @return the timezone name of the exchange.
+     */
+    public String getExchangeTimezone() {
+        return this.descriptor.exchangeTimezone();
+    }
+
+    /**
+     * Sets the timezone name of the exchange.
+     *
+     * @param exchangeTimezone the timezone name of the exchange.
+     */
+    public void setExchangeTimezone(String exchangeTimezone) {
+        this.descriptor = this.descriptor.withExchangeTimezone(exchangeTimezone);
+    }
+
+    /**
+     * Returns the source of the quote.
+     *
+     * @return the source of the quote.
+     */
+    public String getQuoteSource() {
+        return this.descriptor.quoteSource();
+    }
+
+    /**
+     * Sets the source of the quote.
+     *
+     * @param quoteSource the source of the quote.
+     */
+    public void setQuoteSource(String quoteSource) {
+        this.descriptor = this.descriptor.withQuoteSource(quoteSource);
+    }
+
+    /**
+     * Returns the historical quotes of the stock in columnar form.
+     * <p>
+     * When the quote history was set with {@link #setQuoteHistoryView(List)}, the series is not zero-copy: every call
+     * copies the view into new heap arrays, which the stock does not keep, so that attaching a shared history never
+     * pins a heap copy of it. Callers reading several columns should keep the returned series.
+     *
+     * @return the historical quotes, or {@code null} if the stock has no quote history.
+     */
+    public QuoteSeries getQuoteSeries() {
+        if (this.quoteSeries == null && this.quoteHistory != null) {
+            return QuoteSeries.of(this.quoteHistory);
+        }
+        return this.quoteSeries;
+    }
+
+    /**
+     * Sets the historical quotes of the stock in columnar form.
+     * The quote history becomes a list view of the series.
+     *
+     * @param quoteSeries the historical quotes, or {@code null} to clear them.
+     */
+    public void setQuoteSeries(QuoteSeries quoteSeries) {
+        this.quoteSeries = quoteSeries;
+        this.quoteHistory = quoteSeries == null ? null : quoteSeries.asList();
+        invalidateStats();
+    }
+
+    /**
+     * Sets the historical quotes of the stock.
+     * The quotes are stored as a {@link QuoteSeries} and the quote history becomes a list view of it.
+     *
+     * @param quoteHistory the historical quotes, or {@code null} to clear them.
+     */
+    public void setQuoteHistory(List<StockHistoricalQuote> quoteHistory) {
+        setQuoteSeries(quoteHistory == null ? null : QuoteSeries.of(quoteHistory));
+    }
+
+    /**
+     * Sets the historical quotes of the stock to an immutable list view, without copying it.
+     * <p>
+     * This is used to attach histories held outside the heap, such as the memory-mapped series of the
+     * {@link br.dev.rplus.finv.cache.SharedHistoryStore}. The view must not change while it is attached.
+     * Statistics are still calculated on a temporary heap copy, as described in {@link #getQuoteSeries()}.
+     *
+     * @param quoteHistory the view of the historical quotes, or {@code null} to clear them.
+     */
+    public void setQuoteHistoryView(List<StockHistoricalQuote> quoteHistory) {
+        this.quoteSeries = null;
+        this.quoteHistory = quoteHistory;
+        invalidateStats();
+    }
+
+    /**
+     * Sets the current quote of the stock.
+     *
+     * @param quote the current quote.
+     */
+    public void setQuote(StockQuote quote) {
+        this.quote = quote;
+        invalidateStats();
+    }
+
+    /**
+     * Sets the dividend history of the stock.
+     *
+     * @param dividendHistory the dividends, or {@code null} to clear them.
+     */
+    public void setDividendHistory(List<StockDividend> dividendHistory) {
+        this.dividendHistory = dividendHistory;
+        invalidateStats();
+    }
+
+    /**
+     * Sets the split history of the stock.
+     *
+     * @param splitHistory the splits, or {@code null} to clear them.
+     */
+    public void setSplitHistory(List<StockSplit> splitHistory) {
+        this.splitHistory = splitHistory;
+        invalidateStats();
+    }
+
+    /**
+     * Calculates a statistic of the stock, reusing the value calculated since the data of the stock last changed.
+     * <p>
+     * Cached values are discarded by the setters of the quote and of the histories. Lists changed in place, without
+     * calling a setter, are not detected; call {@link #invalidateStats()} after changing them.
+     *
+     * @param stats the statistic to be calculated.
+     * @return the value of the statistic.
+     */
+    public double stats(Stats stats) {
+        Map<Stats, Double> cache = this.statsCache;
+        Double value = cache.get(stats);
+        if (value == null) {
+            value = stats.getCalculator().calculate(this);
+            cache.putIfAbsent(stats, value);
+        }
+        return value;
+    }
+
+    /**
+     * Calculates several statistics of the stock, reusing the values calculated since the data of the stock last changed.
+     * The statistics that are not cached are calculated together by the {@link FusedStatsEvaluator}.
+     *
+     * @param statsList the statistics to be calculated.
+     * @return the values of the statistics.
+     * @see #stats(Stats)
+     */
+    public StatsResult stats(Collection<Stats> statsList) {
+        Map<Stats, Double> cache = this.statsCache;
+        EnumMap<Stats, Double> values = new EnumMap<>(Stats.class);
+        EnumSet<Stats> missing = EnumSet.noneOf(Stats.class);
+        for (Stats stats : statsList) {
+            Double value = cache.get(stats);
+            if (value == null) {
+                missing.add(stats);
+            } else {
+                values.put(stats, value);
+            }
+        }
+        if (!missing.isEmpty()) {
+            FusedStatsEvaluator.evaluate(this, missing).asMap().forEach((stats, value) -> {
+                cache.putIfAbsent(stats, value);
+                values.put(stats, value);
+            });
+        }
+        return new StatsResult(values);
+    }
+
+    /**
+     * Discards the statistics cached for the stock.
+     */
+    public void invalidateStats() {
+        this.statsCache = new ConcurrentHashMap<>();
+    }
+
     /**
      * Creates a string representation of the stock.
+     * The market metadata is printed one value per line, as the other fields.
      *
      * @param console if true, the string will be printed to the console.
      * @return the string representation of the stock.
@@ -74,6 +390,13 @@ public class Stock {
         StringBuilder sb = new StringBuilder();
         sb.append("** ").append(this.ticker).append(" **\n");
         for (Field field : this.getClass().getDeclaredFields()) {
+            if (Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+            if (field.getType() == StockDescriptor.class) {
+                printDescriptor(sb);
+                continue;
+            }
             try {
                 sb.append(field.getName()).append(": ").append(field.get(this)).append("\n");
             } catch (IllegalArgumentException | IllegalAccessException ex) {
@@ -85,4 +408,17 @@ public class Stock {
         }
         return sb;
     }
+
+    /**
+     * Appends the values of the market metadata of the stock, one per line.
+     */
+    private void printDescriptor(StringBuilder sb) {
+        for (RecordComponent component : StockDescriptor.class.getRecordComponents()) {
+            try {
+                sb.append(component.getName()).append(": ").append(component.getAccessor().invoke(this.descriptor)).append("\n");
+            } catch (ReflectiveOperationException ex) {
+                Logger.getInstance().error("Error while getting field: %s", component.getName(), ex);
+            }
+        }
+    }
 }
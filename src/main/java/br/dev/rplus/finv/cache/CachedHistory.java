@@ -0,0 +1,168 @@
+package br.dev.rplus.finv.cache;
+
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.data.StockSplit;
+import br.dev.rplus.finv.enums.Event;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * CachedHistory is a record that represents the history of a stock stored by the {@link HistoryCache}.
+ * <p>
+ * All timestamps are expressed in epoch milliseconds. The range {@code [from, to)} is the period already
+ * requested from the API for the cached {@code events}, so any data inside it can be served without a new request.
+ *
+ * @param from the start of the cached range, inclusive.
+ * @param to the end of the cached range, exclusive.
+ * @param events the events stored in this history.
+ * @param quotes the historical quotes, sorted by date.
+ * @param dividends the dividends, sorted by date.
+ * @param splits the splits, sorted by date.
+ */
+public record CachedHistory(
+        long from,
+        long to,
+        Set<Event> events,
+        List<StockHistoricalQuote> quotes,
+        List<StockDividend> dividends,
+        List<StockSplit> splits
+) {
+
+    /**
+     * Checks whether this history can serve the given events from the given start, possibly after an incremental refresh.
+     *
+     * @param requestedEvents the events requested.
+     * @param start           the start of the requested range, in epoch milliseconds.
+     * @return {@code true} if the history contains the events and starts at or before {@code start}.
+     */
+    public boolean covers(Set<Event> requestedEvents, long start) {
+        return this.events.containsAll(requestedEvents) && this.from <= start;
+    }
+
+    /**
+     * Returns the point from which new data must be requested to bring this history up to date.
+     * <p>
+     * This is the date of the last cached quote, so that a bar still in progress when it was cached is replaced,
+     * or the end of the cached range when no quote is cached.
+     *
+     * @return the resume point, in epoch milliseconds.
+     */
+    public long resumePoint() {
+        if (this.events.contains(Event.HISTORY) && !this.quotes.isEmpty()) {
+            return Math.min(this.to, this.quotes.getLast().epochMillis());
+        }
+        return this.to;
+    }
+
+    /**
+     * Merges data fetched up to {@code until} into this history.
+     * <p>
+     * A cached entry is only replaced by a fetched entry with the same date, such as a bar that was still in progress
+     * when it was cached, so an incremental response without data for an event never removes cached entries. When
+     * nothing was fetched at all, this history is returned unchanged, so its range is not extended over a period
+     * for which the API returned no data.
+     *
+     * @param until     the end of the fetched range, in epoch milliseconds.
+     * @param quotes    the fetched historical quotes.
+     * @param dividends the fetched dividends.
+     * @param splits    the fetched splits.
+     * @return the merged history, or this history if nothing was fetched.
+     */
+    public CachedHistory merge(long until, List<StockHistoricalQuote> quotes, List<StockDividend> dividends, List<StockSplit> splits) {
+        if (isEmpty(quotes) && isEmpty(dividends) && isEmpty(splits)) {
+            return this;
+        }
+        return new CachedHistory(
+            this.from,
+            Math.max(this.to, until),
+            this.events,
+            merge(this.quotes, quotes, quote -> quote.epochMillis()),
+            merge(this.dividends, dividends, dividend -> dividend.epochMillis()),
+            merge(this.splits, splits, split -> split.epochMillis())
+        );
+    }
+
+    /**
+     * Creates a history from data fetched for a whole range, sorting its entries by date.
+     *
+     * @param from      the start of the fetched range, in epoch milliseconds.
+     * @param to        the end of the fetched range, in epoch milliseconds.
+     * @param events    the fetched events.
+     * @param quotes    the fetched historical quotes.
+     * @param dividends the fetched dividends.
+     * @param splits    the fetched splits.
+     * @return the new history.
+     */
+    public static CachedHistory of(long from, long to, Set<Event> events, List<StockHistoricalQuote> quotes, List<StockDividend> dividends, List<StockSplit> splits) {
+        return new CachedHistory(
+            from,
+            to,
+            EnumSet.copyOf(events),
+            merge(List.of(), quotes, quote -> quote.epochMillis()),
+            merge(List.of(), dividends, dividend -> dividend.epochMillis()),
+            merge(List.of(), splits, split -> split.epochMillis())
+        );
+    }
+
+    /**
+     * Returns the quotes dated within {@code [start, end)}.
+     */
+    public List<StockHistoricalQuote> quotesBetween(long start, long end) {
+        return slice(this.quotes, start, end, quote -> quote.epochMillis());
+    }
+
+    /**
+     * Returns the dividends dated within {@code [start, end)}.
+     */
+    public List<StockDividend> dividendsBetween(long start, long end) {
+        return slice(this.dividends, start, end, dividend -> dividend.epochMillis());
+    }
+
+    /**
+     * Returns the splits dated within {@code [start, end)}.
+     */
+    public List<StockSplit> splitsBetween(long start, long end) {
+        return slice(this.splits, start, end, split -> split.epochMillis());
+    }
+
+    private static <T> List<T> merge(List<T> cached, List<T> fetched, ToLongFunction<T> date) {
+        if (isEmpty(fetched)) {
+            return cached;
+        }
+        Set<Long> superseded = new HashSet<>();
+        for (T item : fetched) {
+            superseded.add(date.applyAsLong(item));
+        }
+        List<T> merged = new ArrayList<>(cached.size() + fetched.size());
+        for (T item : cached) {
+            if (!superseded.contains(date.applyAsLong(item))) {
+                merged.add(item);
+            }
+        }
+        merged.addAll(fetched);
+        merged.sort(Comparator.comparingLong(date));
+        return merged;
+    }
+
+    private static boolean isEmpty(List<?> items) {
+        return items == null || items.isEmpty();
+    }
+
+    private static <T> List<T> slice(List<T> items, long start, long end, ToLongFunction<T> date) {
+        List<T> slice = new ArrayList<>();
+        for (T item : items) {
+            long time = date.applyAsLong(item);
+            if (time >= start && time < end) {
+                slice.add(item);
+            }
+        }
+        return slice;
+    }
+}
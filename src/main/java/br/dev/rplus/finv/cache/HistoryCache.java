@@ -0,0 +1,203 @@
+package br.dev.rplus.finv.cache;
+
+import br.dev.rplus.cup.log.Logger;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.data.StockSplit;
+import br.dev.rplus.finv.enums.ConfigParams;
+import br.dev.rplus.finv.enums.Event;
+import br.dev.rplus.finv.enums.Frequency;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Singleton persistent cache of stock histories, stored in a local directory.
+ * <p>
+ * Each ticker and {@link Frequency} pair is stored in its own binary file, holding the historical quotes, dividends
+ * and splits already downloaded together with the range they cover. Past bars never change, so later requests only
+ * need to ask the API for the data after the last cached bar.
+ * <p>
+ * The cache is enabled by setting {@link ConfigParams#HISTORY_CACHE_DIR}. Files are replaced atomically, so concurrent
+ * readers always see a complete history.
+ */
+public class HistoryCache {
+
+    private static final int MAGIC = 0x46485331;
+    private static HistoryCache instance;
+    private final Logger logger = Logger.getInstance();
+    private final Path directory;
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private HistoryCache() {
+        String dir = ConfigParams.HISTORY_CACHE_DIR.get().asString();
+        this.directory = dir == null || dir.isBlank() ? null : Path.of(dir);
+    }
+
+    /**
+     * Returns the singleton instance of {@code HistoryCache}.
+     *
+     * @return the singleton instance of {@code HistoryCache}.
+     */
+    public static synchronized HistoryCache getInstance() {
+        if (instance == null) {
+            instance = new HistoryCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether a cache directory was configured.
+     *
+     * @return {@code true} if the cache is enabled.
+     */
+    public boolean isEnabled() {
+        return this.directory != null;
+    }
+
+    /**
+     * Loads the cached history of a ticker.
+     *
+     * @param ticker    the ticker symbol of the stock.
+     * @param frequency the frequency of the history.
+     * @return the cached history, or empty if the cache is disabled, the history is not cached or cannot be read.
+     */
+    public Optional<CachedHistory> load(String ticker, Frequency frequency) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Path file = fileOf(ticker, frequency);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return Optional.of(read(in));
+        } catch (IOException e) {
+            this.logger.warn("Error reading the cached history of %s.", ticker, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the history of a ticker, replacing any previously cached one.
+     *
+     * @param ticker    the ticker symbol of the stock.
+     * @param frequency the frequency of the history.
+     * @param history   the history to be stored.
+     */
+    public void store(String ticker, Frequency frequency, CachedHistory history) {
+        if (!isEnabled()) {
+            return;
+        }
+        Path file = fileOf(ticker, frequency);
+        try {
+            Files.createDirectories(this.directory);
+            Path temp = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(out, history);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.logger.debug("History of %s cached at %s", ticker, file.toString());
+        } catch (IOException e) {
+            this.logger.warn("Error caching the history of %s.", ticker, e);
+        }
+    }
+
+    private Path fileOf(String ticker, Frequency frequency) {
+        return this.directory.resolve(URLEncoder.encode(ticker, StandardCharsets.UTF_8) + "_" + frequency.name() + ".bin");
+    }
+
+    private static void write(DataOutputStream out, CachedHistory history) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeLong(history.from());
+        out.writeLong(history.to());
+        int mask = 0;
+        for (Event event : history.events()) {
+            mask |= 1 << event.ordinal();
+        }
+        out.writeInt(mask);
+
+        out.writeInt(history.quotes().size());
+        for (StockHistoricalQuote quote : history.quotes()) {
+            out.writeLong(quote.epochMillis());
+            out.writeDouble(quote.open());
+            out.writeDouble(quote.close());
+            out.writeDouble(quote.adjClose());
+            out.writeDouble(quote.low());
+            out.writeDouble(quote.high());
+            out.writeLong(quote.volume() == null ? 0L : quote.volume());
+        }
+
+        out.writeInt(history.dividends().size());
+        for (StockDividend dividend : history.dividends()) {
+            out.writeLong(dividend.epochMillis());
+            out.writeDouble(dividend.amount());
+        }
+
+        out.writeInt(history.splits().size());
+        for (StockSplit split : history.splits()) {
+            out.writeLong(split.epochMillis());
+            out.writeUTF(split.splitRatio() == null ? "" : split.splitRatio());
+        }
+    }
+
+    private static CachedHistory read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Unrecognized history cache file.");
+        }
+        long from = in.readLong();
+        long to = in.readLong();
+        int mask = in.readInt();
+        Set<Event> events = EnumSet.noneOf(Event.class);
+        for (Event event : Event.values()) {
+            if ((mask & (1 << event.ordinal())) != 0) {
+                events.add(event);
+            }
+        }
+
+        int quoteCount = in.readInt();
+        List<StockHistoricalQuote> quotes = new ArrayList<>(quoteCount);
+        for (int i = 0; i < quoteCount; i++) {
+            quotes.add(new StockHistoricalQuote(
+                in.readLong(),
+                in.readDouble(),
+                in.readDouble(),
+                in.readDouble(),
+                in.readDouble(),
+                in.readDouble(),
+                in.readLong()
+            ));
+        }
+
+        int dividendCount = in.readInt();
+        List<StockDividend> dividends = new ArrayList<>(dividendCount);
+        for (int i = 0; i < dividendCount; i++) {
+            long date = in.readLong();
+            dividends.add(new StockDividend(in.readDouble(), date));
+        }
+
+        int splitCount = in.readInt();
+        List<StockSplit> splits = new ArrayList<>(splitCount);
+        for (int i = 0; i < splitCount; i++) {
+            long date = in.readLong();
+            splits.add(new StockSplit(in.readUTF(), date));
+        }
+
+        return new CachedHistory(from, to, events, quotes, dividends, splits);
+    }
+}
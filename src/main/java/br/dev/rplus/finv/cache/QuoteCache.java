@@ -0,0 +1,180 @@
+package br.dev.rplus.finv.cache;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.StockDescriptor;
+import br.dev.rplus.finv.data.StockQuote;
+import br.dev.rplus.finv.enums.ConfigParams;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Singleton bounded in-memory cache of stock quotes.
+ * <p>
+ * Entries are evicted in least-recently-used order once {@link ConfigParams#QUOTE_CACHE_SIZE} tickers are cached,
+ * and expire after a time-to-live that depends on the market state of the stock: quotes of a market in its regular
+ * or pre-market session change quickly and use {@link ConfigParams#QUOTE_TTL_OPEN}, while quotes of a closed market
+ * use {@link ConfigParams#QUOTE_TTL_CLOSED}.
+ * <p>
+ * {@link Stock} is mutable, so the cache keeps an immutable snapshot of its quote data and every hit returns a new
+ * {@link Stock} instance that can be changed freely by the caller.
+ * <p>
+ * The cache is disabled unless {@link ConfigParams#QUOTE_CACHE_SIZE} is set, since it serves quotes that may be
+ * several minutes old.
+ */
+public class QuoteCache {
+
+    private static QuoteCache instance;
+    private final int maxSize;
+    private final long openTtl;
+    private final long closedTtl;
+    private final Map<String, Entry> entries;
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private QuoteCache() {
+        this(
+            ConfigParams.QUOTE_CACHE_SIZE.get().asInteger(),
+            ConfigParams.QUOTE_TTL_OPEN.get().asInteger(),
+            ConfigParams.QUOTE_TTL_CLOSED.get().asInteger()
+        );
+    }
+
+    /**
+     * Constructs a cache with the given limits.
+     *
+     * @param maxSize   the maximum number of cached tickers. Zero or less disables the cache.
+     * @param openTtl   the time-to-live, in milliseconds, of quotes fetched while the market is open.
+     * @param closedTtl the time-to-live, in milliseconds, of quotes fetched while the market is closed.
+     */
+    QuoteCache(int maxSize, long openTtl, long closedTtl) {
+        this.maxSize = maxSize;
+        this.openTtl = openTtl;
+        this.closedTtl = closedTtl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > QuoteCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the singleton instance of {@code QuoteCache}.
+     *
+     * @return the singleton instance of {@code QuoteCache}.
+     */
+    public static synchronized QuoteCache getInstance() {
+        if (instance == null) {
+            instance = new QuoteCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether the cache can hold any entry.
+     *
+     * @return {@code true} if the cache is enabled.
+     */
+    public boolean isEnabled() {
+        return this.maxSize > 0;
+    }
+
+    /**
+     * Returns a new stock populated with the cached quote of a ticker.
+     *
+     * @param ticker the ticker symbol of the stock.
+     * @return the cached stock, or empty if it is not cached or its entry expired.
+     */
+    public Optional<Stock> get(String ticker) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Entry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(ticker);
+            if (entry != null && entry.expiresAt() <= System.currentTimeMillis()) {
+                this.entries.remove(ticker);
+                entry = null;
+            }
+        }
+        return entry == null ? Optional.empty() : Optional.of(entry.toStock(ticker));
+    }
+
+    /**
+     * Caches the quote of a stock. Stocks without a quote and {@linkplain Stock#isFailed() failed} stocks are ignored.
+     *
+     * @param stock the stock whose quote will be cached.
+     */
+    public void put(Stock stock) {
+        if (!isEnabled() || stock == null || stock.getQuote() == null || stock.isFailed()) {
+            return;
+        }
+        Entry entry = new Entry(
+            stock.getName(),
+            stock.getDescriptor(),
+            stock.getQuote(),
+            System.currentTimeMillis() + ttlOf(stock.getMarketState())
+        );
+        synchronized (this.entries) {
+            this.entries.put(stock.getTicker(), entry);
+        }
+    }
+
+    /**
+     * Removes the cached quote of a ticker.
+     *
+     * @param ticker the ticker symbol of the stock.
+     */
+    public void invalidate(String ticker) {
+        synchronized (this.entries) {
+            this.entries.remove(ticker);
+        }
+    }
+
+    /**
+     * Removes all cached quotes.
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Returns the time-to-live of a quote fetched in the given market state.
+     *
+     * @param marketState the market state reported by the API (e.g., "REGULAR", "CLOSED", "POST").
+     * @return the time-to-live in milliseconds.
+     */
+    long ttlOf(String marketState) {
+        if (marketState == null) {
+            return this.openTtl;
+        }
+        return switch (marketState) {
+            case "REGULAR", "PRE" -> this.openTtl;
+            default -> this.closedTtl;
+        };
+    }
+
+    /**
+     * Immutable snapshot of the quote data of a stock.
+     */
+    private record Entry(
+            String name,
+            StockDescriptor descriptor,
+            StockQuote quote,
+            long expiresAt
+    ) {
+
+        private Stock toStock(String ticker) {
+            Stock stock = new Stock(ticker);
+            stock.setName(this.name);
+            stock.setDescriptor(this.descriptor);
+            stock.setQuote(this.quote);
+            return stock;
+        }
+    }
+}
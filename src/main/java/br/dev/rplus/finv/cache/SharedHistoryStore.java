@@ -0,0 +1,357 @@
+package br.dev.rplus.finv.cache;
+
+import br.dev.rplus.cup.log.Logger;
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.enums.ConfigParams;
+import br.dev.rplus.finv.enums.Frequency;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.net.URLEncoder;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Singleton store of quote histories kept in memory-mapped files, shared by every process of the same host.
+ * <p>
+ * One process writes the series of each ticker and {@link Frequency} with {@link #write(String, Frequency, QuoteSeries)},
+ * and any process maps them read-only with {@link #view(String, Frequency)}. The views read the bars straight from the
+ * mapped file, so the data is held once in the operating system page cache instead of once per JVM heap.
+ * <p>
+ * Each file has a fixed capacity and holds the series column by column after a small header. New bars are appended in
+ * place: their values are written first and the bar count in the header is then published with release semantics,
+ * while readers load it with acquire semantics, so a reader never sees a partially written bar and needs no lock.
+ * When a series cannot be appended (a past bar changed or the capacity is exceeded), it is written to a new file
+ * that atomically replaces the old one, and the old file is marked as superseded so that readers map the new one.
+ * <p>
+ * The store is enabled by setting {@link ConfigParams#SHARED_STORE_DIR}. Only one process should write to a directory.
+ */
+public class SharedHistoryStore {
+
+    private static final int MAGIC = 0x46485353;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int COUNT_OFFSET = 8;
+    private static final int STATE_OFFSET = 12;
+    private static final int VERSION_OFFSET = 16;
+    private static final int HEADER_SIZE = 64;
+    private static final int COLUMNS = 7;
+    private static final int MIN_CAPACITY = 256;
+    private static final int LIVE = 0;
+    private static final int SUPERSEDED = 1;
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private static SharedHistoryStore instance;
+    private final Logger logger = Logger.getInstance();
+    private final Path directory;
+    private final Map<Path, Segment> writers = new ConcurrentHashMap<>();
+    private final Map<Path, Segment> readers = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private SharedHistoryStore() {
+        String dir = ConfigParams.SHARED_STORE_DIR.get().asString();
+        this.directory = dir == null || dir.isBlank() ? null : Path.of(dir);
+    }
+
+    /**
+     * Constructs a store over the given directory.
+     *
+     * @param directory the directory of the store.
+     */
+    SharedHistoryStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the singleton instance of {@code SharedHistoryStore}.
+     *
+     * @return the singleton instance of {@code SharedHistoryStore}.
+     */
+    public static synchronized SharedHistoryStore getInstance() {
+        if (instance == null) {
+            instance = new SharedHistoryStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether a store directory was configured.
+     *
+     * @return {@code true} if the store is enabled.
+     */
+    public boolean isEnabled() {
+        return this.directory != null;
+    }
+
+    /**
+     * Publishes the series of a ticker, appending the new bars in place whenever possible.
+     *
+     * @param ticker    the ticker symbol of the stock.
+     * @param frequency the frequency of the series.
+     * @param series    the whole series, oldest bar first.
+     */
+    public synchronized void write(String ticker, Frequency frequency, QuoteSeries series) {
+        if (!isEnabled() || series == null) {
+            return;
+        }
+        Path file = fileOf(ticker, frequency);
+        try {
+            Segment segment = this.writers.get(file);
+            if (segment == null && Files.isRegularFile(file)) {
+                segment = Segment.open(file, true);
+            }
+            if (segment != null && segment.tryAppend(series)) {
+                this.writers.put(file, segment);
+                return;
+            }
+            this.writers.put(file, rewrite(file, series, segment));
+            this.logger.debug("History of %s written to the shared store at %s", ticker, file.toString());
+        } catch (IOException e) {
+            this.writers.remove(file);
+            this.logger.warn("Error writing the history of %s to the shared store.", ticker, e);
+        }
+    }
+
+    /**
+     * Returns a zero-copy view of the series of a ticker, as published when this method is called.
+     * <p>
+     * Bars appended later are not visible through the returned view; call this method again to see them.
+     *
+     * @param ticker    the ticker symbol of the stock.
+     * @param frequency the frequency of the series.
+     * @return the view of the historical quotes, or empty if the store is disabled or holds no series for the ticker.
+     */
+    public Optional<List<StockHistoricalQuote>> view(String ticker, Frequency frequency) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Path file = fileOf(ticker, frequency);
+        Segment segment = this.readers.compute(file, (path, cached) -> {
+            if (cached != null && !cached.isSuperseded()) {
+                return cached;
+            }
+            if (!Files.isRegularFile(path)) {
+                return null;
+            }
+            try {
+                return Segment.open(path, false);
+            } catch (IOException e) {
+                this.logger.warn("Error mapping the shared history of %s.", ticker, e);
+                return null;
+            }
+        });
+        return segment == null ? Optional.empty() : Optional.of(segment.view());
+    }
+
+    /**
+     * Attaches the shared series of a stock as its quote history, without copying it to the heap.
+     * The statistics of the stock are calculated on a temporary copy, which is not kept.
+     *
+     * @param stock     the stock whose quote history will be set.
+     * @param frequency the frequency of the series.
+     * @return {@code true} if the store holds a series for the stock.
+     * @see Stock#setQuoteHistoryView(List)
+     */
+    public boolean attach(Stock stock, Frequency frequency) {
+        Optional<List<StockHistoricalQuote>> view = view(stock.getTicker(), frequency);
+        view.ifPresent(stock::setQuoteHistoryView);
+        return view.isPresent();
+    }
+
+    private Path fileOf(String ticker, Frequency frequency) {
+        return this.directory.resolve(URLEncoder.encode(ticker, StandardCharsets.UTF_8) + "_" + frequency.name() + ".series");
+    }
+
+    /**
+     * Writes a series to a new file, atomically moves it over the current one and marks the current one as superseded.
+     */
+    private Segment rewrite(Path file, QuoteSeries series, Segment current) throws IOException {
+        Files.createDirectories(this.directory);
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, series.size())) << 1);
+        long version = current == null ? 1L : current.version() + 1L;
+
+        Path temp = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+        try {
+            Segment segment;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Segment.sizeOf(capacity));
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(CAPACITY_OFFSET, capacity);
+                buffer.putLong(VERSION_OFFSET, version);
+                INT.setRelease(buffer, STATE_OFFSET, LIVE);
+                INT.setRelease(buffer, COUNT_OFFSET, 0);
+                segment = new Segment(buffer, capacity);
+            }
+            segment.append(series, 0);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (current != null) {
+                current.supersede();
+            }
+            return segment;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * A mapped series file.
+     */
+    private static final class Segment {
+
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+
+        private Segment(MappedByteBuffer buffer, int capacity) {
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        private static long sizeOf(int capacity) {
+            return HEADER_SIZE + (long) COLUMNS * capacity * Long.BYTES;
+        }
+
+        private static Segment open(Path file, boolean writable) throws IOException {
+            StandardOpenOption[] options = writable
+                ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+            try (FileChannel channel = FileChannel.open(file, options)) {
+                long size = channel.size();
+                if (size < HEADER_SIZE) {
+                    throw new IOException("Not a shared history file: " + file);
+                }
+                MappedByteBuffer buffer = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+                int capacity = buffer.getInt(CAPACITY_OFFSET);
+                if (buffer.getInt(0) != MAGIC || capacity <= 0 || size < sizeOf(capacity)) {
+                    throw new IOException("Not a shared history file: " + file);
+                }
+                return new Segment(buffer, capacity);
+            }
+        }
+
+        private int count() {
+            return (int) INT.getAcquire(this.buffer, COUNT_OFFSET);
+        }
+
+        private long version() {
+            return this.buffer.getLong(VERSION_OFFSET);
+        }
+
+        private boolean isSuperseded() {
+            return (int) INT.getAcquire(this.buffer, STATE_OFFSET) == SUPERSEDED;
+        }
+
+        private void supersede() {
+            INT.setRelease(this.buffer, STATE_OFFSET, SUPERSEDED);
+        }
+
+        private int offset(int column, int index) {
+            return HEADER_SIZE + (column * this.capacity + index) * Long.BYTES;
+        }
+
+        /**
+         * Appends the bars of the series after the published ones, if the series starts with them and fits in the file.
+         */
+        private boolean tryAppend(QuoteSeries series) {
+            int count = count();
+            if (isSuperseded() || series.size() > this.capacity || series.size() < count) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (!isPublished(series, i)) {
+                    return false;
+                }
+            }
+            append(series, count);
+            return true;
+        }
+
+        /**
+         * Checks whether every column of a published bar is equal to the bar of the series, so that a revised bar,
+         * such as an intraday bar whose high, low or volume changed, is never kept.
+         */
+        private boolean isPublished(QuoteSeries series, int index) {
+            return this.buffer.getLong(offset(0, index)) == series.epochSeconds()[index]
+                && sameDouble(this.buffer.getDouble(offset(1, index)), series.open()[index])
+                && sameDouble(this.buffer.getDouble(offset(2, index)), series.high()[index])
+                && sameDouble(this.buffer.getDouble(offset(3, index)), series.low()[index])
+                && sameDouble(this.buffer.getDouble(offset(4, index)), series.close()[index])
+                && sameDouble(this.buffer.getDouble(offset(5, index)), series.adjClose()[index])
+                && this.buffer.getLong(offset(6, index)) == series.volume()[index];
+        }
+
+        private static boolean sameDouble(double published, double value) {
+            return Double.doubleToLongBits(published) == Double.doubleToLongBits(value);
+        }
+
+        /**
+         * Writes the bars of the series from {@code from} onwards and then publishes the new count.
+         */
+        private void append(QuoteSeries series, int from) {
+            for (int i = from; i < series.size(); i++) {
+                this.buffer.putLong(offset(0, i), series.epochSeconds()[i]);
+                this.buffer.putDouble(offset(1, i), series.open()[i]);
+                this.buffer.putDouble(offset(2, i), series.high()[i]);
+                this.buffer.putDouble(offset(3, i), series.low()[i]);
+                this.buffer.putDouble(offset(4, i), series.close()[i]);
+                this.buffer.putDouble(offset(5, i), series.adjClose()[i]);
+                this.buffer.putLong(offset(6, i), series.volume()[i]);
+            }
+            INT.setRelease(this.buffer, COUNT_OFFSET, series.size());
+        }
+
+        private List<StockHistoricalQuote> view() {
+            return new MappedQuoteList(this, count());
+        }
+    }
+
+    /**
+     * Unmodifiable list view of the bars published in a mapped series file.
+     */
+    private static final class MappedQuoteList extends AbstractList<StockHistoricalQuote> implements RandomAccess {
+
+        private final Segment segment;
+        private final int size;
+
+        private MappedQuoteList(Segment segment, int size) {
+            this.segment = segment;
+            this.size = size;
+        }
+
+        @Override
+        public StockHistoricalQuote get(int index) {
+            Objects.checkIndex(index, this.size);
+            MappedByteBuffer buffer = this.segment.buffer;
+            return new StockHistoricalQuote(
+                buffer.getLong(this.segment.offset(0, index)) * 1000L,
+                buffer.getDouble(this.segment.offset(1, index)),
+                buffer.getDouble(this.segment.offset(4, index)),
+                buffer.getDouble(this.segment.offset(5, index)),
+                buffer.getDouble(this.segment.offset(3, index)),
+                buffer.getDouble(this.segment.offset(2, index)),
+                buffer.getLong(this.segment.offset(6, index))
+            );
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package br.dev.rplus.finv.concurrent;
+
+import br.dev.rplus.cup.log.Logger;
+import br.dev.rplus.finv.enums.RequestParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Utility class that fetches data for several keys (usually ticker symbols) concurrently.
+ * <p>
+ * Each key is handled by its own virtual thread, while a {@link Semaphore} bounds how many fetches run at the same time.
+ * Results are always returned in the same order as the input keys. When the fetch of a key fails, the failure is logged
+ * with the offending key and a single bad ticker never aborts the batch: {@link #fetchOutcomes(List, Function)} reports
+ * the failure and its cause in the position of the key, and {@link #fetchAll(List, Function, Function)} places a
+ * fallback value there instead.
+ */
+public final class ConcurrentFetcher {
+
+    private static final Logger logger = Logger.getInstance();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ConcurrentFetcher() {}
+
+    /**
+     * Fetches all keys concurrently using the limit defined by {@link RequestParams#MAX_CONCURRENT_REQUESTS}.
+     *
+     * @param keys     the keys to be fetched, in the desired output order.
+     * @param fetcher  the function that fetches the value of a single key.
+     * @param fallback the function that provides the value used when the fetch of a key fails.
+     * @param <T>      the type of the fetched values.
+     * @return a list with one value per key, in input order.
+     */
+    public static <T> List<T> fetchAll(List<String> keys, Function<String, T> fetcher, Function<String, T> fallback) {
+        return fetchAll(keys, RequestParams.MAX_CONCURRENT_REQUESTS.get().asInteger(), fetcher, fallback);
+    }
+
+    /**
+     * Fetches all keys concurrently, running at most {@code maxConcurrency} fetches at the same time.
+     *
+     * @param keys           the keys to be fetched, in the desired output order.
+     * @param maxConcurrency the maximum number of fetches running at the same time.
+     * @param fetcher        the function that fetches the value of a single key.
+     * @param fallback       the function that provides the value used when the fetch of a key fails.
+     * @param <T>            the type of the fetched values.
+     * @return a list with one value per key, in input order.
+     */
+    public static <T> List<T> fetchAll(List<String> keys, int maxConcurrency, Function<String, T> fetcher, Function<String, T> fallback) {
+        List<FetchOutcome<T>> outcomes = fetchOutcomes(keys, maxConcurrency, fetcher);
+        List<T> results = new ArrayList<>(outcomes.size());
+        for (FetchOutcome<T> outcome : outcomes) {
+            results.add(outcome.isFailed() ? fallback.apply(outcome.key()) : outcome.value());
+        }
+        return results;
+    }
+
+    /**
+     * Fetches all keys concurrently using the limit defined by {@link RequestParams#MAX_CONCURRENT_REQUESTS},
+     * reporting the outcome of each key.
+     *
+     * @param keys    the keys to be fetched, in the desired output order.
+     * @param fetcher the function that fetches the value of a single key.
+     * @param <T>     the type of the fetched values.
+     * @return a list with one outcome per key, in input order.
+     */
+    public static <T> List<FetchOutcome<T>> fetchOutcomes(List<String> keys, Function<String, T> fetcher) {
+        return fetchOutcomes(keys, RequestParams.MAX_CONCURRENT_REQUESTS.get().asInteger(), fetcher);
+    }
+
+    /**
+     * Fetches all keys concurrently, running at most {@code maxConcurrency} fetches at the same time, and reports the
+     * outcome of each key. A failed fetch is logged and its outcome holds the cause of the failure.
+     *
+     * @param keys           the keys to be fetched, in the desired output order.
+     * @param maxConcurrency the maximum number of fetches running at the same time.
+     * @param fetcher        the function that fetches the value of a single key.
+     * @param <T>            the type of the fetched values.
+     * @return a list with one outcome per key, in input order.
+     */
+    public static <T> List<FetchOutcome<T>> fetchOutcomes(List<String> keys, int maxConcurrency, Function<String, T> fetcher) {
+        List<FetchOutcome<T>> outcomes = new ArrayList<>(keys.size());
+        if (keys.isEmpty()) {
+            return outcomes;
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return fetcher.apply(key);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                try {
+                    outcomes.add(FetchOutcome.success(key, futures.get(i).get()));
+                } catch (ExecutionException e) {
+                    logger.warn("Error fetching data for %s.", key, e.getCause());
+                    outcomes.add(FetchOutcome.failure(key, e.getCause()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("Interrupted while fetching data for %s.", key, e);
+                    outcomes.add(FetchOutcome.failure(key, e));
+                }
+            }
+        }
+        return outcomes;
+    }
+}
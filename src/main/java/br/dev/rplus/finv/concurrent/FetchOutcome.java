@@ -0,0 +1,52 @@
+package br.dev.rplus.finv.concurrent;
+
+/**
+ * FetchOutcome is a record that represents the outcome of fetching the value of a single key with the {@link ConcurrentFetcher}.
+ * <p>
+ * Exactly one of {@code value} and {@code failure} is meaningful: a successful fetch holds its value, which may be
+ * {@code null}, and a failed fetch holds the exception that made it fail.
+ *
+ * @param key     the fetched key.
+ * @param value   the fetched value, or {@code null} if the fetch failed.
+ * @param failure the cause of the failure, or {@code null} if the fetch succeeded.
+ * @param <T>     the type of the fetched value.
+ */
+public record FetchOutcome<T>(
+        String key,
+        T value,
+        Throwable failure
+) {
+
+    /**
+     * Creates the outcome of a successful fetch.
+     *
+     * @param key   the fetched key.
+     * @param value the fetched value.
+     * @param <T>   the type of the fetched value.
+     * @return the successful outcome.
+     */
+    public static <T> FetchOutcome<T> success(String key, T value) {
+        return new FetchOutcome<>(key, value, null);
+    }
+
+    /**
+     * Creates the outcome of a failed fetch.
+     *
+     * @param key     the fetched key.
+     * @param failure the cause of the failure.
+     * @param <T>     the type of the fetched value.
+     * @return the failed outcome.
+     */
+    public static <T> FetchOutcome<T> failure(String key, Throwable failure) {
+        return new FetchOutcome<>(key, null, failure);
+    }
+
+    /**
+     * Checks whether the fetch failed.
+     *
+     * @return {@code true} if the fetch failed, {@code false} otherwise.
+     */
+    public boolean isFailed() {
+        return this.failure != null;
+    }
+}
@@ -0,0 +1,107 @@
+package br.dev.rplus.finv.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls that share the same key into a single execution.
+ * <p>
+ * The first caller of a key (the leader) runs the supplied call, while every caller that arrives before it
+ * finishes (the followers) waits for and receives the same result, instead of running the call again.
+ * Once the call completes its key is released, so later callers start a new execution; results are never cached.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the results.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Runnable onJoin;
+
+    /**
+     * Constructs an empty {@code SingleFlight}.
+     */
+    public SingleFlight() {
+        this(() -> {});
+    }
+
+    /**
+     * Constructs an empty {@code SingleFlight} that notifies every caller joining an execution in flight.
+     *
+     * @param onJoin run by each follower once it has joined an execution, before waiting for it.
+     */
+    SingleFlight(Runnable onJoin) {
+        this.onJoin = onJoin;
+    }
+
+    /**
+     * Runs the call of a key, or waits for the execution already in flight for the same key.
+     *
+     * @param key  the key identifying the call.
+     * @param call the call to be run if no execution is in flight for the key.
+     * @return the result of the call, shared by every caller of the same execution.
+     * @throws CompletionException if the shared execution failed; the original exception is its cause.
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = this.calls.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            this.onJoin.run();
+            return inFlight.join();
+        }
+
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.calls.remove(key, flight);
+        }
+    }
+
+    /**
+     * Starts the asynchronous call of a key, or joins the execution already in flight for the same key.
+     *
+     * @param key  the key identifying the call.
+     * @param call the call to be started if no execution is in flight for the key.
+     * @return a {@link CompletableFuture} completed with the result shared by every caller of the same execution.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = this.calls.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            this.onJoin.run();
+            return inFlight;
+        }
+
+        try {
+            call.get().whenComplete((result, e) -> {
+                this.calls.remove(key, flight);
+                if (e != null) {
+                    flight.completeExceptionally(e);
+                } else {
+                    flight.complete(result);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            this.calls.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+        return flight;
+    }
+
+    /**
+     * Returns the number of executions currently in flight.
+     *
+     * @return the number of keys being executed.
+     */
+    public int inFlight() {
+        return this.calls.size();
+    }
+}
@@ -0,0 +1,52 @@
+package br.dev.rplus.finv.data;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Conversions between the epoch milliseconds stored by the quote and event records and the {@link Date} and
+ * {@link Instant} they expose.
+ * <p>
+ * A missing date, which the records used to hold as a {@code null} {@link Date}, is stored as {@link #UNKNOWN} and
+ * read back as {@code null}.
+ */
+final class EpochMillis {
+
+    /**
+     * The value stored for a missing date.
+     */
+    static final long UNKNOWN = Long.MIN_VALUE;
+
+    private EpochMillis() {
+    }
+
+    /**
+     * Returns the epoch milliseconds of a date.
+     *
+     * @param date the date, possibly {@code null}.
+     * @return the milliseconds since the epoch, or {@link #UNKNOWN} if the date is {@code null}.
+     */
+    static long of(Date date) {
+        return date == null ? UNKNOWN : date.getTime();
+    }
+
+    /**
+     * Returns the date of the given epoch milliseconds.
+     *
+     * @param epochMillis the milliseconds since the epoch, or {@link #UNKNOWN}.
+     * @return a new date, or {@code null} if the date is unknown.
+     */
+    static Date toDate(long epochMillis) {
+        return epochMillis == UNKNOWN ? null : new Date(epochMillis);
+    }
+
+    /**
+     * Returns the instant of the given epoch milliseconds.
+     *
+     * @param epochMillis the milliseconds since the epoch, or {@link #UNKNOWN}.
+     * @return the instant, or {@code null} if the date is unknown.
+     */
+    static Instant toInstant(long epochMillis) {
+        return epochMillis == UNKNOWN ? null : Instant.ofEpochMilli(epochMillis);
+    }
+}
@@ -0,0 +1,219 @@
+package br.dev.rplus.finv.data;
+
+import java.util.AbstractList;
+import java.util.Date;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * QuoteSeries is a class that represents a series of historical stock quotes in columnar form.
+ * <p>
+ * Instead of one {@link StockHistoricalQuote} object per bar, each field is kept in its own primitive array, so a bar
+ * costs a fixed number of bytes and no object headers or pointers. All arrays have the same length and the bars are
+ * kept in the order they were received, usually oldest first.
+ * <p>
+ * The arrays returned by the column accessors are shared with the series and must not be modified.
+ * A {@link StockHistoricalQuote} view of the series is available through {@link #asList()}.
+ */
+public final class QuoteSeries {
+
+    /**
+     * An empty series.
+     */
+    public static final QuoteSeries EMPTY = new QuoteSeries(new long[0], new double[0], new double[0], new double[0], new double[0], new double[0], new long[0]);
+
+    private final long[] epochSeconds;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] adjClose;
+    private final long[] volume;
+
+    /**
+     * Constructs a new series from its columns. The arrays are not copied.
+     *
+     * @param epochSeconds the date of each bar, in seconds since the epoch.
+     * @param open         the opening prices.
+     * @param high         the highest prices.
+     * @param low          the lowest prices.
+     * @param close        the closing prices.
+     * @param adjClose     the adjusted closing prices.
+     * @param volume       the volumes.
+     * @throws IllegalArgumentException if the columns do not have the same length.
+     */
+    public QuoteSeries(long[] epochSeconds, double[] open, double[] high, double[] low, double[] close, double[] adjClose, long[] volume) {
+        int size = epochSeconds.length;
+        if (open.length != size || high.length != size || low.length != size || close.length != size || adjClose.length != size || volume.length != size) {
+            throw new IllegalArgumentException("All columns of a quote series must have the same length.");
+        }
+        this.epochSeconds = epochSeconds;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.adjClose = adjClose;
+        this.volume = volume;
+    }
+
+    /**
+     * Creates a series from a list of historical quotes. Missing volumes are stored as zero.
+     *
+     * @param quotes the historical quotes.
+     * @return the series holding the same bars, in the same order.
+     */
+    public static QuoteSeries of(List<StockHistoricalQuote> quotes) {
+        if (quotes instanceof QuoteList list) {
+            return list.series();
+        }
+        int size = quotes.size();
+        long[] epochSeconds = new long[size];
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        double[] adjClose = new double[size];
+        long[] volume = new long[size];
+        for (int i = 0; i < size; i++) {
+            StockHistoricalQuote quote = quotes.get(i);
+            epochSeconds[i] = Math.floorDiv(quote.epochMillis(), 1000L);
+            open[i] = quote.open();
+            high[i] = quote.high();
+            low[i] = quote.low();
+            close[i] = quote.close();
+            adjClose[i] = quote.adjClose();
+            volume[i] = quote.volume() == null ? 0L : quote.volume();
+        }
+        return new QuoteSeries(epochSeconds, open, high, low, close, adjClose, volume);
+    }
+
+    /**
+     * Returns the number of bars of the series.
+     *
+     * @return the number of bars.
+     */
+    public int size() {
+        return this.epochSeconds.length;
+    }
+
+    /**
+     * Checks whether the series has no bars.
+     *
+     * @return {@code true} if the series is empty.
+     */
+    public boolean isEmpty() {
+        return this.epochSeconds.length == 0;
+    }
+
+    /**
+     * Returns the dates of the bars, in seconds since the epoch.
+     */
+    public long[] epochSeconds() {
+        return this.epochSeconds;
+    }
+
+    /**
+     * Returns the opening prices.
+     */
+    public double[] open() {
+        return this.open;
+    }
+
+    /**
+     * Returns the highest prices.
+     */
+    public double[] high() {
+        return this.high;
+    }
+
+    /**
+     * Returns the lowest prices.
+     */
+    public double[] low() {
+        return this.low;
+    }
+
+    /**
+     * Returns the closing prices.
+     */
+    public double[] close() {
+        return this.close;
+    }
+
+    /**
+     * Returns the adjusted closing prices.
+     */
+    public double[] adjClose() {
+        return this.adjClose;
+    }
+
+    /**
+     * Returns the volumes.
+     */
+    public long[] volume() {
+        return this.volume;
+    }
+
+    /**
+     * Builds the {@link StockHistoricalQuote} of a single bar.
+     *
+     * @param index the index of the bar.
+     * @return a new historical quote holding the values of the bar.
+     */
+    public StockHistoricalQuote get(int index) {
+        return new StockHistoricalQuote(
+            this.epochSeconds[index] * 1000L,
+            this.open[index],
+            this.close[index],
+            this.adjClose[index],
+            this.low[index],
+            this.high[index],
+            this.volume[index]
+        );
+    }
+
+    /**
+     * Returns an unmodifiable list view of the series.
+     * <p>
+     * The view holds no copy of the data: each {@link StockHistoricalQuote} is built when it is read.
+     *
+     * @return the list view of the series.
+     */
+    public List<StockHistoricalQuote> asList() {
+        return new QuoteList(this);
+    }
+
+    @Override
+    public String toString() {
+        return "QuoteSeries: {" +
+                "size: " + size() +
+                (isEmpty() ? "" : ", from: " + new Date(this.epochSeconds[0] * 1000L) + ", to: " + new Date(this.epochSeconds[size() - 1] * 1000L)) +
+                '}';
+    }
+
+    /**
+     * Unmodifiable list view of a {@link QuoteSeries}.
+     */
+    private static final class QuoteList extends AbstractList<StockHistoricalQuote> implements RandomAccess {
+
+        private final QuoteSeries series;
+
+        private QuoteList(QuoteSeries series) {
+            this.series = series;
+        }
+
+        private QuoteSeries series() {
+            return this.series;
+        }
+
+        @Override
+        public StockHistoricalQuote get(int index) {
+            return this.series.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.series.size();
+        }
+    }
+}
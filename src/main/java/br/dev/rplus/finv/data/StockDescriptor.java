@@ -0,0 +1,148 @@
+package br.dev.rplus.finv.data;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * StockDescriptor is a class that represents the market metadata of a stock, such as its currency and exchange.
+ * <p>
+ * Thousands of stocks share the same few dozen combinations of these values, so descriptors are immutable and the
+ * complete ones are interned: {@link #of(String, String, String, String, String, String, String)} returns a single
+ * shared instance for equal values, and stocks only hold a reference to it. The registry only holds weak references,
+ * so a descriptor no stock uses anymore is reclaimed. The {@code with*} methods, used when a stock is populated one
+ * field at a time, return plain descriptors that are not registered.
+ *
+ * @param currency         the currency in which the stock is traded.
+ * @param market           the full name of the exchange where the stock is traded.
+ * @param marketState      the state of the market (e.g., "REGULAR", "CLOSED").
+ * @param quoteType        the type of the quote (e.g., "EQUITY").
+ * @param region           the region of the exchange.
+ * @param exchangeTimezone the timezone name of the exchange.
+ * @param quoteSource      the source of the quote.
+ */
+public record StockDescriptor(
+        String currency,
+        String market,
+        String marketState,
+        String quoteType,
+        String region,
+        String exchangeTimezone,
+        String quoteSource
+) {
+
+    private static final Map<StockDescriptor, WeakReference<StockDescriptor>> REGISTRY = new WeakHashMap<>();
+
+    /**
+     * The descriptor of a stock whose metadata is unknown.
+     */
+    public static final StockDescriptor EMPTY = intern(new StockDescriptor(null, null, null, null, null, null, null));
+
+    /**
+     * Returns the shared descriptor with the given values.
+     *
+     * @param currency         the currency in which the stock is traded.
+     * @param market           the full name of the exchange where the stock is traded.
+     * @param marketState      the state of the market.
+     * @param quoteType        the type of the quote.
+     * @param region           the region of the exchange.
+     * @param exchangeTimezone the timezone name of the exchange.
+     * @param quoteSource      the source of the quote.
+     * @return the interned descriptor.
+     */
+    public static StockDescriptor of(String currency, String market, String marketState, String quoteType,
+                                     String region, String exchangeTimezone, String quoteSource) {
+        return intern(new StockDescriptor(currency, market, marketState, quoteType, region, exchangeTimezone, quoteSource));
+    }
+
+    /**
+     * Returns the shared descriptor equal to the given one, registering it if none exists yet.
+     *
+     * @param descriptor the descriptor to be interned.
+     * @return the interned descriptor, or {@code null} if the given descriptor is {@code null}.
+     */
+    public static StockDescriptor intern(StockDescriptor descriptor) {
+        if (descriptor == null) {
+            return null;
+        }
+        synchronized (REGISTRY) {
+            WeakReference<StockDescriptor> reference = REGISTRY.get(descriptor);
+            StockDescriptor shared = reference == null ? null : reference.get();
+            if (shared == null) {
+                REGISTRY.put(descriptor, new WeakReference<>(descriptor));
+                shared = descriptor;
+            }
+            return shared;
+        }
+    }
+
+    /**
+     * Returns a descriptor with the given currency and the other values of this one.
+     *
+     * @param currency the new currency.
+     * @return a descriptor that is not interned.
+     */
+    public StockDescriptor withCurrency(String currency) {
+        return new StockDescriptor(currency, this.market, this.marketState, this.quoteType, this.region, this.exchangeTimezone, this.quoteSource);
+    }
+
+    /**
+     * Returns a descriptor with the given market and the other values of this one.
+     *
+     * @param market the new market.
+     * @return a descriptor that is not interned.
+     */
+    public StockDescriptor withMarket(String market) {
+        return new StockDescriptor(this.currency, market, this.marketState, this.quoteType, this.region, this.exchangeTimezone, this.quoteSource);
+    }
+
+    /**
+     * Returns a descriptor with the given market state and the other values of this one.
+     *
+     * @param marketState the new market state.
+     * @return a descriptor that is not interned.
+     */
+    public StockDescriptor withMarketState(String marketState) {
+        return new StockDescriptor(this.currency, this.market, marketState, this.quoteType, this.region, this.exchangeTimezone, this.quoteSource);
+    }
+
+    /**
+     * Returns a descriptor with the given quote type and the other values of this one.
+     *
+     * @param quoteType the new quote type.
+     * @return a descriptor that is not interned.
+     */
+    public StockDescriptor withQuoteType(String quoteType) {
+        return new StockDescriptor(this.currency, this.market, this.marketState, quoteType, this.region, this.exchangeTimezone, this.quoteSource);
+    }
+
+    /**
+     * Returns a descriptor with the given region and the other values of this one.
+     *
+     * @param region the new region.
+     * @return a descriptor that is not interned.
+     */
+    public StockDescriptor withRegion(String region) {
+        return new StockDescriptor(this.currency, this.market, this.marketState, this.quoteType, region, this.exchangeTimezone, this.quoteSource);
+    }
+
+    /**
+     * Returns a descriptor with the given exchange timezone and the other values of this one.
+     *
+     * @param exchangeTimezone the new exchange timezone.
+     * @return a descriptor that is not interned.
+     */
+    public StockDescriptor withExchangeTimezone(String exchangeTimezone) {
+        return new StockDescriptor(this.currency, this.market, this.marketState, this.quoteType, this.region, exchangeTimezone, this.quoteSource);
+    }
+
+    /**
+     * Returns a descriptor with the given quote source and the other values of this one.
+     *
+     * @param quoteSource the new quote source.
+     * @return a descriptor that is not interned.
+     */
+    public StockDescriptor withQuoteSource(String quoteSource) {
+        return new StockDescriptor(this.currency, this.market, this.marketState, this.quoteType, this.region, this.exchangeTimezone, quoteSource);
+    }
+}
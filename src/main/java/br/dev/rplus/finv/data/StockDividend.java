@@ -1,5 +1,6 @@
 package br.dev.rplus.finv.data;
 
+import java.time.Instant;
 import java.util.Date;
 
 /**
@@ -8,18 +9,46 @@ import java.util.Date;
  * This is done to reward shareholders and increase the liquidity of the shares.
  *
  * @param amount the amount of the dividend.
- * @param date the date of the dividend.
+ * @param epochMillis the date of the dividend, in milliseconds since the epoch, or {@code Long.MIN_VALUE} if it is unknown.
  */
 public record StockDividend(
         double amount,
-        Date date
+        long epochMillis
 ) {
 
+    /**
+     * Constructs a dividend dated with a {@link Date}.
+     *
+     * @param amount the amount of the dividend.
+     * @param date the date of the dividend, or {@code null} if it is unknown.
+     */
+    public StockDividend(double amount, Date date) {
+        this(amount, EpochMillis.of(date));
+    }
+
+    /**
+     * Returns the date of the dividend as a new {@link Date}.
+     *
+     * @return the date of the dividend, or {@code null} if it is unknown.
+     */
+    public Date date() {
+        return EpochMillis.toDate(this.epochMillis);
+    }
+
+    /**
+     * Returns the date of the dividend as an {@link Instant}.
+     *
+     * @return the date of the dividend, or {@code null} if it is unknown.
+     */
+    public Instant instant() {
+        return EpochMillis.toInstant(this.epochMillis);
+    }
+
     @Override
     public String toString() {
         return "StockDividend: {" +
                 "amount: " + amount +
-                ", date: " + date +
+                ", date: " + date() +
                 '}';
     }
 }
@@ -1,12 +1,13 @@
 package br.dev.rplus.finv.data;
 
+import java.time.Instant;
 import java.util.Date;
 
 /**
  * StockHistoricalQuote is a class that represents a historical stock quote.
  * A historical stock quote is a snapshot of a stock's price and other relevant information at a specific point in time in the past.
  *
- * @param date the date of the quote.
+ * @param epochMillis the date of the quote, in milliseconds since the epoch, or {@code Long.MIN_VALUE} if it is unknown.
  * @param open the opening price of the day.
  * @param close the closing price of the day.
  * @param adjClose the adjusted closing price of the day.
@@ -15,7 +16,7 @@ import java.util.Date;
  * @param volume the volume of the day.
  */
 public record StockHistoricalQuote(
-        Date date,
+        long epochMillis,
         double open,
         double close,
         double adjClose,
@@ -24,10 +25,43 @@ public record StockHistoricalQuote(
         Long volume
 ) {
 
+    /**
+     * Constructs a historical quote dated with a {@link Date}.
+     *
+     * @param date the date of the quote, or {@code null} if it is unknown.
+     * @param open the opening price of the day.
+     * @param close the closing price of the day.
+     * @param adjClose the adjusted closing price of the day.
+     * @param low the lowest price of the day.
+     * @param high the highest price of the day.
+     * @param volume the volume of the day.
+     */
+    public StockHistoricalQuote(Date date, double open, double close, double adjClose, double low, double high, Long volume) {
+        this(EpochMillis.of(date), open, close, adjClose, low, high, volume);
+    }
+
+    /**
+     * Returns the date of the quote as a new {@link Date}.
+     *
+     * @return the date of the quote, or {@code null} if it is unknown.
+     */
+    public Date date() {
+        return EpochMillis.toDate(this.epochMillis);
+    }
+
+    /**
+     * Returns the date of the quote as an {@link Instant}.
+     *
+     * @return the date of the quote, or {@code null} if it is unknown.
+     */
+    public Instant instant() {
+        return EpochMillis.toInstant(this.epochMillis);
+    }
+
     @Override
     public String toString() {
         return "StockHistoricalQuote: {" +
-                "date: " + date +
+                "date: " + date() +
                 ", open: " + open +
                 ", close: " + close +
                 ", adjClose: " + adjClose +
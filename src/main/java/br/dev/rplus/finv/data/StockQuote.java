@@ -1,12 +1,13 @@
 package br.dev.rplus.finv.data;
 
+import java.time.Instant;
 import java.util.Date;
 
 /**
  * StockQuote is a class that represents a stock quote.
  * A stock quote is a snapshot of a stock's price and other relevant information at a specific point in time.
  *
- * @param marketTime the market time of the quote.
+ * @param epochMillis the market time of the quote, in milliseconds since the epoch, or {@code Long.MIN_VALUE} if it is unknown.
  * @param price the current price of the stock.
  * @param change the change in price since the previous quote.
  * @param open the opening price of the day.
@@ -18,7 +19,7 @@ import java.util.Date;
  * @param ask the ask price of the stock.
  */
 public record StockQuote(
-        Date marketTime,
+        long epochMillis,
         double price,
         double change,
         double open,
@@ -30,10 +31,46 @@ public record StockQuote(
         double ask
 ) {
 
+    /**
+     * Constructs a stock quote whose market time is a {@link Date}.
+     *
+     * @param marketTime the market time of the quote, or {@code null} if it is unknown.
+     * @param price the current price of the stock.
+     * @param change the change in price since the previous quote.
+     * @param open the opening price of the day.
+     * @param previousClose the previous closing price of the day.
+     * @param low the lowest price of the day.
+     * @param high the highest price of the day.
+     * @param volume the volume of the day.
+     * @param bid the bid price of the stock.
+     * @param ask the ask price of the stock.
+     */
+    public StockQuote(Date marketTime, double price, double change, double open, double previousClose, double low, double high, Long volume, double bid, double ask) {
+        this(EpochMillis.of(marketTime), price, change, open, previousClose, low, high, volume, bid, ask);
+    }
+
+    /**
+     * Returns the market time of the quote as a new {@link Date}.
+     *
+     * @return the market time of the quote, or {@code null} if it is unknown.
+     */
+    public Date marketTime() {
+        return EpochMillis.toDate(this.epochMillis);
+    }
+
+    /**
+     * Returns the market time of the quote as an {@link Instant}.
+     *
+     * @return the market time of the quote, or {@code null} if it is unknown.
+     */
+    public Instant instant() {
+        return EpochMillis.toInstant(this.epochMillis);
+    }
+
     @Override
     public String toString() {
         return "StockQuote: {" +
-                "marketTime: " + marketTime +
+                "marketTime: " + marketTime() +
                 ", price: " + price +
                 ", change: " + change +
                 ", open: " + open +
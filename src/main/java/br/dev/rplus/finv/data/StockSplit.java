@@ -1,5 +1,6 @@
 package br.dev.rplus.finv.data;
 
+import java.time.Instant;
 import java.util.Date;
 
 /**
@@ -8,18 +9,46 @@ import java.util.Date;
  * This is done to increase the liquidity of the shares and make them more affordable to investors.
  *
  * @param splitRatio the ratio of the split.
- * @param date the date of the split.
+ * @param epochMillis the date of the split, in milliseconds since the epoch, or {@code Long.MIN_VALUE} if it is unknown.
  */
 public record StockSplit(
         String splitRatio,
-        Date date
+        long epochMillis
 ) {
 
+    /**
+     * Constructs a split dated with a {@link Date}.
+     *
+     * @param splitRatio the ratio of the split.
+     * @param date the date of the split, or {@code null} if it is unknown.
+     */
+    public StockSplit(String splitRatio, Date date) {
+        this(splitRatio, EpochMillis.of(date));
+    }
+
+    /**
+     * Returns the date of the split as a new {@link Date}.
+     *
+     * @return the date of the split, or {@code null} if it is unknown.
+     */
+    public Date date() {
+        return EpochMillis.toDate(this.epochMillis);
+    }
+
+    /**
+     * Returns the date of the split as an {@link Instant}.
+     *
+     * @return the date of the split, or {@code null} if it is unknown.
+     */
+    public Instant instant() {
+        return EpochMillis.toInstant(this.epochMillis);
+    }
+
     @Override
     public String toString() {
         return "StockSplit: {" +
                 "splitRatio: '" + splitRatio + '\'' +
-                ", date: " + date +
+                ", date: " + date() +
                 '}';
     }
 }
@@ -20,7 +20,84 @@ public enum ConfigParams {
     /**
      * The log handler of the library.
      */
-    USE_LOG_HANDLER(Boolean.valueOf(System.getProperty("finv.log.handler", "false")));
+    USE_LOG_HANDLER(Boolean.valueOf(System.getProperty("finv.log.handler", "false"))),
+
+    /**
+     * Whether chart responses are parsed with the streaming parser.
+     * <p>
+     * When enabled, historical quotes, dividends and splits are decoded while the response is received,
+     * without building a JSON tree of the whole body.
+     */
+    STREAMING_PARSER(Boolean.valueOf(System.getProperty("finv.parser.streaming", "false"))),
+
+    /**
+     * Whether chart responses are received into pooled direct buffers and parsed in place.
+     * <p>
+     * When enabled, the response body is never decoded into a string; it takes precedence over {@link #STREAMING_PARSER}.
+     */
+    POOLED_BUFFERS(Boolean.valueOf(System.getProperty("finv.parser.buffers", "false"))),
+
+    /**
+     * The directory of the persistent history cache.
+     * <p>
+     * When set, downloaded histories are stored on disk and later requests only fetch the bars after the last cached one.
+     * The cache is disabled by default.
+     */
+    HISTORY_CACHE_DIR(System.getProperty("finv.cache.dir", "")),
+
+    /**
+     * The maximum number of tickers held by the in-memory quote cache. Zero disables the cache.
+     * When enabled, quotes can be served up to {@link #QUOTE_TTL_CLOSED} old outside the regular session, so the cache
+     * is disabled by default.
+     */
+    QUOTE_CACHE_SIZE(Integer.parseInt(System.getProperty("finv.quote.cache.size", "0"))),
+
+    /**
+     * The time-to-live, in milliseconds, of cached quotes while the market is in its regular or pre-market session.
+     */
+    QUOTE_TTL_OPEN(Integer.parseInt(System.getProperty("finv.quote.ttl.open", "5000"))),
+
+    /**
+     * The time-to-live, in milliseconds, of cached quotes while the market is closed or in its post-market session.
+     */
+    QUOTE_TTL_CLOSED(Integer.parseInt(System.getProperty("finv.quote.ttl.closed", "300000"))),
+
+    /**
+     * The directory of the memory-mapped history store shared by the processes of the same host.
+     * The store is disabled by default.
+     */
+    SHARED_STORE_DIR(System.getProperty("finv.store.dir", "")),
+
+    /**
+     * The maximum number of idle response buffers kept by the buffer pool for each buffer size.
+     */
+    BUFFER_POOL_SIZE(Integer.parseInt(System.getProperty("finv.buffer.pool.size", "16"))),
+
+    /**
+     * The number of threads used to compute the statistics of many stocks.
+     * Zero, the default value, uses the common fork/join pool, sized after the available processors.
+     */
+    STATS_PARALLELISM(Integer.parseInt(System.getProperty("finv.stats.parallelism", "0"))),
+
+    /**
+     * Whether statistics use the kernels built on the Vector API when the {@code jdk.incubator.vector} module is present.
+     */
+    VECTOR_KERNELS(Boolean.valueOf(System.getProperty("finv.stats.vector", "true"))),
+
+    /**
+     * The annual risk-free rate used by the Sharpe and Sortino ratios, as a fraction. The default value is zero.
+     */
+    RISK_FREE_RATE(Double.parseDouble(System.getProperty("finv.stats.risk.free", "0"))),
+
+    /**
+     * The number of bars in a year, used to annualize the return-based statistics. The default value fits daily bars.
+     */
+    PERIODS_PER_YEAR(Integer.parseInt(System.getProperty("finv.stats.periods", "252"))),
+
+    /**
+     * The confidence level of the value at risk, as a fraction.
+     */
+    VAR_CONFIDENCE(Double.parseDouble(System.getProperty("finv.stats.var.confidence", "0.95")));
 
     private final TypedValue value;
 
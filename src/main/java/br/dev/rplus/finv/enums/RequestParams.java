@@ -24,6 +24,13 @@ public enum RequestParams {
      */
     STOCKS_QUERY_URL_V8(System.getProperty("finv.query.v8", "https://query1.finance.yahoo.com/v8/finance/chart/")),
 
+    /**
+     * The URL used to query quotes of multiple stocks in a single request (version 7).
+     * <p>
+     * This endpoint receives a comma-separated list of symbols and returns the quote of each one of them.
+     */
+    STOCKS_QUOTE_URL_V7(System.getProperty("finv.query.quote", "https://query1.finance.yahoo.com/v7/finance/quote")),
+
     /**
      * The URL used to get the cookie.
      * <p>
@@ -44,7 +51,47 @@ public enum RequestParams {
      * This value is used for setting the timeout for HTTP requests to the Yahoo Finance API.
      * The default value is 5 seconds.
      */
-    TIMEOUT(Integer.parseInt(System.getProperty("finv.timeout", "5000")));
+    TIMEOUT(Integer.parseInt(System.getProperty("finv.timeout", "5000"))),
+
+    /**
+     * The maximum number of requests executed at the same time when fetching multiple tickers.
+     * <p>
+     * Each ticker is fetched on its own virtual thread, and this value bounds how many of them may be
+     * talking to the Yahoo Finance API simultaneously. The default value is 16.
+     */
+    MAX_CONCURRENT_REQUESTS(Integer.parseInt(System.getProperty("finv.concurrency", "16"))),
+
+    /**
+     * The maximum number of symbols requested in a single batched quote request.
+     * <p>
+     * Larger lists of tickers are split into chunks of this size. The default value is 50.
+     */
+    QUOTE_BATCH_SIZE(Integer.parseInt(System.getProperty("finv.batch.size", "50"))),
+
+    /**
+     * The HTTP transport used to talk to the Yahoo Finance API.
+     * <p>
+     * Accepted values are {@code http-client}, a shared and connection-pooled {@link java.net.http.HttpClient}
+     * with HTTP/2 support, and {@code legacy}, which opens a new connection for every request.
+     * The default value is {@code http-client}.
+     */
+    TRANSPORT(System.getProperty("finv.transport", "http-client")),
+
+    /**
+     * The maximum lifetime, in milliseconds, of the Yahoo authentication cookie and crumb.
+     * <p>
+     * Credentials are refreshed in the background before this time, or before the expiry announced by the cookie
+     * itself when it is shorter. The default value is 1 hour.
+     */
+    CREDENTIALS_TTL(Integer.parseInt(System.getProperty("finv.crumb.ttl", "3600000"))),
+
+    /**
+     * The time, in milliseconds, during which no new Yahoo authentication is attempted after one failed.
+     * <p>
+     * While it lasts, requests are sent with the last credentials obtained, if any, instead of each one contacting
+     * Yahoo again. The default value is 30 seconds.
+     */
+    CREDENTIALS_RETRY(Integer.parseInt(System.getProperty("finv.crumb.retry", "30000")));
 
     private final TypedValue value;
 
@@ -3,13 +3,17 @@ package br.dev.rplus.finv.enums;
 import br.dev.rplus.cup.enums.TypedValue;
 import br.dev.rplus.finv.stats.*;
 
+import java.util.function.Supplier;
+
 /**
  * Enum for stock statistics (stats).
  * <p>
  * This enum represents various statistical calculations that can be performed on stock data. Each constant
- * corresponds to a specific stock statistic and is associated with a calculator for computing that statistic.
+ * corresponds to a specific stock statistic and is associated with a calculator for computing that statistic,
+ * and with an accumulator for computing it incrementally.
  *
  * @see StatisticsCalculator
+ * @see StatisticsAccumulator
  */
 public enum Stats {
 
@@ -18,40 +22,77 @@ public enum Stats {
      * <p>
      * This statistic calculates the average closing price of a stock over a given period.
      */
-    AVERAGE_CLOSE_PRICE(new AverageClosePriceCalculator()),
+    AVERAGE_CLOSE_PRICE(new AverageClosePriceCalculator(), AverageClosePriceCalculator.Accumulator::new),
 
     /**
      * The total dividends paid by a stock.
      * <p>
      * This statistic calculates the total amount of dividends paid by a stock over a given period.
      */
-    TOTAL_DIVIDENDS(new TotalDividendsCalculator()),
+    TOTAL_DIVIDENDS(new TotalDividendsCalculator(), TotalDividendsCalculator.Accumulator::new),
 
     /**
      * The maximum closing price of a stock.
      * <p>
      * This statistic calculates the maximum closing price of a stock over a given period.
      */
-    MAX_CLOSING_PRICE(new MaxClosingPriceCalculator()),
+    MAX_CLOSING_PRICE(new MaxClosingPriceCalculator(), MaxClosingPriceCalculator.Accumulator::new),
 
     /**
      * The minimum closing price of a stock.
      * <p>
      * This statistic calculates the minimum closing price of a stock over a given period.
      */
-    MIN_CLOSING_PRICE(new MinClosingPriceCalculator()),
+    MIN_CLOSING_PRICE(new MinClosingPriceCalculator(), MinClosingPriceCalculator.Accumulator::new),
 
     /**
      * The maximum dividend yield of a stock.
      * <p>
      * This statistic calculates the maximum dividend yield of a stock over a given period.
      */
-    DIVIDEND_YIELD(new DividendYieldCalculator());
+    DIVIDEND_YIELD(new DividendYieldCalculator(), DividendYieldCalculator.Accumulator::new),
+
+    /**
+     * The annualized volatility of a stock.
+     * <p>
+     * This statistic calculates the annualized standard deviation of the logarithmic returns of a stock over a given period.
+     */
+    ANNUALIZED_VOLATILITY(new AnnualizedVolatilityCalculator(), AnnualizedVolatilityCalculator.Accumulator::new),
+
+    /**
+     * The maximum drawdown of a stock.
+     * <p>
+     * This statistic calculates the largest fall of a stock from a previous peak over a given period, as a fraction of the peak.
+     */
+    MAX_DRAWDOWN(new MaxDrawdownCalculator(), MaxDrawdownCalculator.Accumulator::new),
+
+    /**
+     * The Sharpe ratio of a stock.
+     * <p>
+     * This statistic calculates the annualized excess return of a stock per unit of volatility over a given period.
+     */
+    SHARPE_RATIO(new SharpeRatioCalculator(), SharpeRatioCalculator.Accumulator::new),
+
+    /**
+     * The Sortino ratio of a stock.
+     * <p>
+     * This statistic calculates the annualized excess return of a stock per unit of downside deviation over a given period.
+     */
+    SORTINO_RATIO(new SortinoRatioCalculator(), SortinoRatioCalculator.Accumulator::new),
+
+    /**
+     * The value at risk of a stock.
+     * <p>
+     * This statistic calculates the historical loss of a single period that a stock exceeds with a given probability over a given period.
+     */
+    VALUE_AT_RISK(new ValueAtRiskCalculator(), ValueAtRiskCalculator.Accumulator::new);
 
     private final TypedValue value;
+    private final Supplier<StatisticsAccumulator> accumulator;
 
-    Stats(StatisticsCalculator calculator) {
+    Stats(StatisticsCalculator calculator, Supplier<StatisticsAccumulator> accumulator) {
         this.value = new TypedValue(calculator);
+        this.accumulator = accumulator;
     }
 
     /**
@@ -64,4 +105,15 @@ public enum Stats {
     public StatisticsCalculator getCalculator() {
         return this.value.getTypedValue(StatisticsCalculator.class);
     }
+
+    /**
+     * Creates a new, empty {@link StatisticsAccumulator} for the statistic represented by this enum constant.
+     * <p>
+     * The accumulator calculates the same statistic as {@link #getCalculator()}, incrementally.
+     *
+     * @return a new {@link StatisticsAccumulator}.
+     */
+    public StatisticsAccumulator newAccumulator() {
+        return this.accumulator.get();
+    }
 }
@@ -0,0 +1,41 @@
+package br.dev.rplus.finv.enums;
+
+import br.dev.rplus.cup.enums.TypedValue;
+
+/**
+ * Enum representing the text formats supported by the streaming export.
+ * <p>
+ * Both formats are written record by record, so any number of stocks can be exported with a bounded amount of memory.
+ */
+public enum StreamFormat {
+
+    /**
+     * Comma-separated values.
+     * <p>
+     * One row is written for the quote and for every historical quote, dividend and split of each stock,
+     * below a single header row.
+     */
+    CSV("csv"),
+
+    /**
+     * JavaScript Object Notation.
+     * <p>
+     * The output is a JSON array with one object per stock.
+     */
+    JSON("json");
+
+    private final TypedValue value;
+
+    StreamFormat(Object value) {
+        this.value = new TypedValue(value);
+    }
+
+    /**
+     * Retrieves the name associated with the format, usually used as a file extension.
+     *
+     * @return the name of the format as a string.
+     */
+    public String getName() {
+        return this.value.asString();
+    }
+}
@@ -0,0 +1,312 @@
+package br.dev.rplus.finv.io;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDescriptor;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockQuote;
+import br.dev.rplus.finv.data.StockSplit;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact binary columnar format for {@link Stock} snapshots.
+ * <p>
+ * A file holds any number of stocks. Each stock stores its descriptor, its current {@link StockQuote} and its quote,
+ * dividend and split histories. Histories are stored column by column: the timestamps are delta-encoded as the first
+ * timestamp followed by 32-bit differences, in seconds, and every numeric column is a contiguous block of fixed-width
+ * big-endian values, so a column is read back with a single bulk copy.
+ * <p>
+ * Files are read through a memory-mapped buffer and written to a temporary file that is then moved into place,
+ * so a reader never sees a partially written snapshot.
+ *
+ * <pre>
+ * file      := MAGIC:int VERSION:short count:int stock*
+ * stock     := ticker:string name:string currency:string market:string marketState:string quoteType:string
+ *              region:string exchangeTimezone:string quoteSource:string quote history dividends splits
+ * quote     := present:byte [epochMillis:long price change open previousClose low high:double volume:long bid ask:double]
+ * history   := count:int (-1 if absent) [firstSecond:long delta:int*(count-1)
+ *              open:double*count high:double*count low:double*count close:double*count adjClose:double*count volume:long*count]
+ * dividends := count:int (-1 if absent) [firstSecond:long delta:int*(count-1) amount:double*count]
+ * splits    := count:int (-1 if absent) [firstSecond:long delta:int*(count-1) ratio:string*count]
+ * string    := length:int (-1 if null) utf8:byte*length
+ * </pre>
+ */
+public final class StockBinaryFormat {
+
+    private static final int MAGIC = 0x46494E56;
+    private static final short VERSION = 1;
+    private static final long NO_VOLUME = Long.MIN_VALUE;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private StockBinaryFormat() {}
+
+    /**
+     * Writes the given stocks to a file, replacing it if it exists.
+     *
+     * @param stocks the stocks to be written.
+     * @param path   the path of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Collection<Stock> stocks, Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeInt(stocks.size());
+                for (Stock stock : stocks) {
+                    writeStock(out, stock);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads every stock of a file.
+     *
+     * @param path the path of the file.
+     * @return the stocks, in the order they were written.
+     * @throws IOException if the file cannot be read or is not a valid snapshot.
+     */
+    public static List<Stock> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 10 || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a stock snapshot: " + path);
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported stock snapshot version " + version + ": " + path);
+            }
+
+            int count = buffer.getInt();
+            List<Stock> stocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                stocks.add(readStock(buffer));
+            }
+            return stocks;
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IOException("Truncated or corrupted stock snapshot: " + path, e);
+        }
+    }
+
+    private static void writeStock(DataOutputStream out, Stock stock) throws IOException {
+        writeString(out, stock.getTicker());
+        writeString(out, stock.getName());
+        writeString(out, stock.getCurrency());
+        writeString(out, stock.getMarket());
+        writeString(out, stock.getMarketState());
+        writeString(out, stock.getQuoteType());
+        writeString(out, stock.getRegion());
+        writeString(out, stock.getExchangeTimezone());
+        writeString(out, stock.getQuoteSource());
+
+        StockQuote quote = stock.getQuote();
+        out.writeBoolean(quote != null);
+        if (quote != null) {
+            out.writeLong(quote.epochMillis());
+            out.writeDouble(quote.price());
+            out.writeDouble(quote.change());
+            out.writeDouble(quote.open());
+            out.writeDouble(quote.previousClose());
+            out.writeDouble(quote.low());
+            out.writeDouble(quote.high());
+            out.writeLong(quote.volume() == null ? NO_VOLUME : quote.volume());
+            out.writeDouble(quote.bid());
+            out.writeDouble(quote.ask());
+        }
+
+        QuoteSeries series = stock.getQuoteSeries();
+        if (series == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(series.size());
+            writeTimestamps(out, series.epochSeconds());
+            writeColumn(out, series.open());
+            writeColumn(out, series.high());
+            writeColumn(out, series.low());
+            writeColumn(out, series.close());
+            writeColumn(out, series.adjClose());
+            for (long volume : series.volume()) {
+                out.writeLong(volume);
+            }
+        }
+
+        List<StockDividend> dividends = stock.getDividendHistory();
+        if (dividends == null) {
+            out.writeInt(-1);
+        } else {
+            long[] seconds = new long[dividends.size()];
+            for (int i = 0; i < seconds.length; i++) {
+                seconds[i] = Math.floorDiv(dividends.get(i).epochMillis(), 1000L);
+            }
+            out.writeInt(seconds.length);
+            writeTimestamps(out, seconds);
+            for (StockDividend dividend : dividends) {
+                out.writeDouble(dividend.amount());
+            }
+        }
+
+        List<StockSplit> splits = stock.getSplitHistory();
+        if (splits == null) {
+            out.writeInt(-1);
+        } else {
+            long[] seconds = new long[splits.size()];
+            for (int i = 0; i < seconds.length; i++) {
+                seconds[i] = Math.floorDiv(splits.get(i).epochMillis(), 1000L);
+            }
+            out.writeInt(seconds.length);
+            writeTimestamps(out, seconds);
+            for (StockSplit split : splits) {
+                writeString(out, split.splitRatio());
+            }
+        }
+    }
+
+    private static Stock readStock(ByteBuffer buffer) {
+        Stock stock = new Stock(readString(buffer));
+        stock.setName(readString(buffer));
+        stock.setDescriptor(StockDescriptor.of(
+            readString(buffer),
+            readString(buffer),
+            readString(buffer),
+            readString(buffer),
+            readString(buffer),
+            readString(buffer),
+            readString(buffer)
+        ));
+
+        if (buffer.get() != 0) {
+            long epochMillis = buffer.getLong();
+            double price = buffer.getDouble();
+            double change = buffer.getDouble();
+            double open = buffer.getDouble();
+            double previousClose = buffer.getDouble();
+            double low = buffer.getDouble();
+            double high = buffer.getDouble();
+            long volume = buffer.getLong();
+            double bid = buffer.getDouble();
+            double ask = buffer.getDouble();
+            stock.setQuote(new StockQuote(epochMillis, price, change, open, previousClose, low, high, volume == NO_VOLUME ? null : volume, bid, ask));
+        }
+
+        int bars = buffer.getInt();
+        if (bars >= 0) {
+            long[] epochSeconds = readTimestamps(buffer, bars);
+            double[] open = readColumn(buffer, bars);
+            double[] high = readColumn(buffer, bars);
+            double[] low = readColumn(buffer, bars);
+            double[] close = readColumn(buffer, bars);
+            double[] adjClose = readColumn(buffer, bars);
+            long[] volume = new long[bars];
+            buffer.asLongBuffer().get(volume);
+            buffer.position(buffer.position() + bars * Long.BYTES);
+            stock.setQuoteSeries(new QuoteSeries(epochSeconds, open, high, low, close, adjClose, volume));
+        }
+
+        int dividendCount = buffer.getInt();
+        if (dividendCount >= 0) {
+            long[] seconds = readTimestamps(buffer, dividendCount);
+            double[] amounts = readColumn(buffer, dividendCount);
+            List<StockDividend> dividends = new ArrayList<>(dividendCount);
+            for (int i = 0; i < dividendCount; i++) {
+                dividends.add(new StockDividend(amounts[i], seconds[i] * 1000L));
+            }
+            stock.setDividendHistory(dividends);
+        }
+
+        int splitCount = buffer.getInt();
+        if (splitCount >= 0) {
+            long[] seconds = readTimestamps(buffer, splitCount);
+            List<StockSplit> splits = new ArrayList<>(splitCount);
+            for (int i = 0; i < splitCount; i++) {
+                splits.add(new StockSplit(readString(buffer), seconds[i] * 1000L));
+            }
+            stock.setSplitHistory(splits);
+        }
+        return stock;
+    }
+
+    private static void writeTimestamps(DataOutputStream out, long[] seconds) throws IOException {
+        if (seconds.length == 0) {
+            return;
+        }
+        out.writeLong(seconds[0]);
+        for (int i = 1; i < seconds.length; i++) {
+            long delta = seconds[i] - seconds[i - 1];
+            if (delta < Integer.MIN_VALUE || delta > Integer.MAX_VALUE) {
+                throw new IOException("The gap between two timestamps is too large to be delta-encoded: " + delta + "s.");
+            }
+            out.writeInt((int) delta);
+        }
+    }
+
+    private static long[] readTimestamps(ByteBuffer buffer, int count) {
+        long[] seconds = new long[count];
+        if (count == 0) {
+            return seconds;
+        }
+        seconds[0] = buffer.getLong();
+        int[] deltas = new int[count - 1];
+        buffer.asIntBuffer().get(deltas);
+        buffer.position(buffer.position() + deltas.length * Integer.BYTES);
+        for (int i = 1; i < count; i++) {
+            seconds[i] = seconds[i - 1] + deltas[i - 1];
+        }
+        return seconds;
+    }
+
+    private static void writeColumn(DataOutputStream out, double[] column) throws IOException {
+        for (double value : column) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static double[] readColumn(ByteBuffer buffer, int count) {
+        double[] column = new double[count];
+        buffer.asDoubleBuffer().get(column);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        return column;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,347 @@
+package br.dev.rplus.finv.io;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockQuote;
+import br.dev.rplus.finv.data.StockSplit;
+import br.dev.rplus.finv.enums.StreamFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streaming exporter that writes any number of stocks as CSV or JSON.
+ * <p>
+ * Stocks are consumed one at a time from an {@link Iterable} or a {@link Stream} and each record is written as soon as
+ * it is read, through a buffer of {@link #BUFFER_SIZE} characters. Nothing is accumulated between stocks, so when the
+ * source produces stocks lazily (for example, a stream of tickers mapped to {@code Finv.get}), the export runs in
+ * constant memory regardless of the number of stocks or the length of their histories.
+ * <p>
+ * The target stream or channel is flushed but not closed.
+ */
+public final class StockStreamExporter {
+
+    /**
+     * The size, in characters, of the output buffer.
+     */
+    public static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String CSV_HEADER = "ticker,record,date,price,open,high,low,close,adjClose,volume,amount,splitRatio";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private StockStreamExporter() {}
+
+    /**
+     * Writes the stocks of a stream to an output stream.
+     *
+     * @param stocks the stocks to be exported. The stream is consumed but not closed.
+     * @param format the output format.
+     * @param out    the target output stream.
+     * @throws IOException if the output cannot be written.
+     */
+    public static void export(Stream<Stock> stocks, StreamFormat format, OutputStream out) throws IOException {
+        export(stocks.iterator(), format, out);
+    }
+
+    /**
+     * Writes the stocks of an iterable to an output stream.
+     *
+     * @param stocks the stocks to be exported.
+     * @param format the output format.
+     * @param out    the target output stream.
+     * @throws IOException if the output cannot be written.
+     */
+    public static void export(Iterable<Stock> stocks, StreamFormat format, OutputStream out) throws IOException {
+        export(stocks.iterator(), format, out);
+    }
+
+    /**
+     * Writes the stocks of a stream to a channel.
+     *
+     * @param stocks  the stocks to be exported. The stream is consumed but not closed.
+     * @param format  the output format.
+     * @param channel the target channel.
+     * @throws IOException if the output cannot be written.
+     */
+    public static void export(Stream<Stock> stocks, StreamFormat format, WritableByteChannel channel) throws IOException {
+        export(stocks.iterator(), format, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Writes the stocks of an iterable to a channel.
+     *
+     * @param stocks  the stocks to be exported.
+     * @param format  the output format.
+     * @param channel the target channel.
+     * @throws IOException if the output cannot be written.
+     */
+    public static void export(Iterable<Stock> stocks, StreamFormat format, WritableByteChannel channel) throws IOException {
+        export(stocks.iterator(), format, Channels.newOutputStream(channel));
+    }
+
+    private static void export(Iterator<Stock> stocks, StreamFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            switch (format) {
+                case CSV -> writeCsv(stocks, writer);
+                case JSON -> writeJson(stocks, writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsv(Iterator<Stock> stocks, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (stocks.hasNext()) {
+            Stock stock = stocks.next();
+            if (stock == null) {
+                continue;
+            }
+            String ticker = csv(stock.getTicker());
+
+            StockQuote quote = stock.getQuote();
+            if (quote != null) {
+                writer.write(ticker);
+                writer.write(",quote,");
+                writer.write(Instant.ofEpochMilli(quote.epochMillis()).toString());
+                writer.write(',');
+                writer.write(number(quote.price()));
+                writer.write(',');
+                writer.write(number(quote.open()));
+                writer.write(',');
+                writer.write(number(quote.high()));
+                writer.write(',');
+                writer.write(number(quote.low()));
+                writer.write(",,,");
+                writer.write(quote.volume() == null ? "" : Long.toString(quote.volume()));
+                writer.write(",,\n");
+            }
+
+            QuoteSeries series = stock.getQuoteSeries();
+            if (series != null) {
+                for (int i = 0; i < series.size(); i++) {
+                    writer.write(ticker);
+                    writer.write(",history,");
+                    writer.write(Instant.ofEpochSecond(series.epochSeconds()[i]).toString());
+                    writer.write(",,");
+                    writer.write(number(series.open()[i]));
+                    writer.write(',');
+                    writer.write(number(series.high()[i]));
+                    writer.write(',');
+                    writer.write(number(series.low()[i]));
+                    writer.write(',');
+                    writer.write(number(series.close()[i]));
+                    writer.write(',');
+                    writer.write(number(series.adjClose()[i]));
+                    writer.write(',');
+                    writer.write(Long.toString(series.volume()[i]));
+                    writer.write(",,\n");
+                }
+            }
+
+            for (StockDividend dividend : orEmpty(stock.getDividendHistory())) {
+                writer.write(ticker);
+                writer.write(",dividend,");
+                writer.write(Instant.ofEpochMilli(dividend.epochMillis()).toString());
+                writer.write(",,,,,,,,");
+                writer.write(number(dividend.amount()));
+                writer.write(",\n");
+            }
+
+            for (StockSplit split : orEmpty(stock.getSplitHistory())) {
+                writer.write(ticker);
+                writer.write(",split,");
+                writer.write(Instant.ofEpochMilli(split.epochMillis()).toString());
+                writer.write(",,,,,,,,,");
+                writer.write(csv(split.splitRatio()));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static void writeJson(Iterator<Stock> stocks, Writer writer) throws IOException {
+        writer.write('[');
+        boolean first = true;
+        while (stocks.hasNext()) {
+            Stock stock = stocks.next();
+            if (stock == null) {
+                continue;
+            }
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+
+            writer.write("\n{\"ticker\":");
+            writer.write(json(stock.getTicker()));
+            writer.write(",\"name\":");
+            writer.write(json(stock.getName()));
+            writer.write(",\"currency\":");
+            writer.write(json(stock.getCurrency()));
+            writer.write(",\"market\":");
+            writer.write(json(stock.getMarket()));
+            writer.write(",\"marketState\":");
+            writer.write(json(stock.getMarketState()));
+            writer.write(",\"quoteType\":");
+            writer.write(json(stock.getQuoteType()));
+            writer.write(",\"region\":");
+            writer.write(json(stock.getRegion()));
+            writer.write(",\"exchangeTimezone\":");
+            writer.write(json(stock.getExchangeTimezone()));
+            writer.write(",\"quoteSource\":");
+            writer.write(json(stock.getQuoteSource()));
+
+            writer.write(",\"quote\":");
+            StockQuote quote = stock.getQuote();
+            if (quote == null) {
+                writer.write("null");
+            } else {
+                writer.write("{\"marketTime\":");
+                writer.write(json(Instant.ofEpochMilli(quote.epochMillis()).toString()));
+                writer.write(",\"price\":" + jsonNumber(quote.price()));
+                writer.write(",\"change\":" + jsonNumber(quote.change()));
+                writer.write(",\"open\":" + jsonNumber(quote.open()));
+                writer.write(",\"previousClose\":" + jsonNumber(quote.previousClose()));
+                writer.write(",\"low\":" + jsonNumber(quote.low()));
+                writer.write(",\"high\":" + jsonNumber(quote.high()));
+                writer.write(",\"volume\":" + quote.volume());
+                writer.write(",\"bid\":" + jsonNumber(quote.bid()));
+                writer.write(",\"ask\":" + jsonNumber(quote.ask()));
+                writer.write('}');
+            }
+
+            writer.write(",\"quoteHistory\":");
+            QuoteSeries series = stock.getQuoteSeries();
+            if (series == null) {
+                writer.write("null");
+            } else {
+                writer.write('[');
+                for (int i = 0; i < series.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write("{\"date\":");
+                    writer.write(json(Instant.ofEpochSecond(series.epochSeconds()[i]).toString()));
+                    writer.write(",\"open\":");
+                    writer.write(jsonNumber(series.open()[i]));
+                    writer.write(",\"high\":");
+                    writer.write(jsonNumber(series.high()[i]));
+                    writer.write(",\"low\":");
+                    writer.write(jsonNumber(series.low()[i]));
+                    writer.write(",\"close\":");
+                    writer.write(jsonNumber(series.close()[i]));
+                    writer.write(",\"adjClose\":");
+                    writer.write(jsonNumber(series.adjClose()[i]));
+                    writer.write(",\"volume\":");
+                    writer.write(Long.toString(series.volume()[i]));
+                    writer.write('}');
+                }
+                writer.write(']');
+            }
+
+            writer.write(",\"dividendHistory\":");
+            List<StockDividend> dividends = stock.getDividendHistory();
+            if (dividends == null) {
+                writer.write("null");
+            } else {
+                writer.write('[');
+                for (int i = 0; i < dividends.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write("{\"date\":");
+                    writer.write(json(Instant.ofEpochMilli(dividends.get(i).epochMillis()).toString()));
+                    writer.write(",\"amount\":");
+                    writer.write(jsonNumber(dividends.get(i).amount()));
+                    writer.write('}');
+                }
+                writer.write(']');
+            }
+
+            writer.write(",\"splitHistory\":");
+            List<StockSplit> splits = stock.getSplitHistory();
+            if (splits == null) {
+                writer.write("null");
+            } else {
+                writer.write('[');
+                for (int i = 0; i < splits.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write("{\"date\":");
+                    writer.write(json(Instant.ofEpochMilli(splits.get(i).epochMillis()).toString()));
+                    writer.write(",\"splitRatio\":");
+                    writer.write(json(splits.get(i).splitRatio()));
+                    writer.write('}');
+                }
+                writer.write(']');
+            }
+            writer.write('}');
+        }
+        writer.write("\n]\n");
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    private static String number(double value) {
+        return Double.isFinite(value) ? Double.toString(value) : "";
+    }
+
+    private static String jsonNumber(double value) {
+        return Double.isFinite(value) ? Double.toString(value) : "null";
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String json(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
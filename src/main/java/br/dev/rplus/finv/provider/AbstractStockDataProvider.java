@@ -1,17 +1,33 @@
 package br.dev.rplus.finv.provider;
 
-import br.dev.rplus.cup.request.HttpRequester;
 import br.dev.rplus.finv.Stock;
 import br.dev.rplus.cup.log.Logger;
 import br.dev.rplus.cup.request.UrlBuilder;
-import br.dev.rplus.finv.enums.RequestParams;
+import br.dev.rplus.finv.concurrent.SingleFlight;
+import br.dev.rplus.finv.data.StockDescriptor;
+import br.dev.rplus.finv.provider.transport.HttpStatusException;
+import br.dev.rplus.finv.provider.transport.HttpTransport;
+import br.dev.rplus.finv.provider.transport.HttpTransports;
+import br.dev.rplus.finv.provider.transport.PooledBody;
+import br.dev.rplus.finv.provider.transport.TransportResponse;
 import br.dev.rplus.finv.provider.yahoo.CrumbYahoo;
+import br.dev.rplus.finv.provider.yahoo.CrumbYahoo.Credentials;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * An abstract base class for fetching stock data from external APIs.
@@ -27,6 +43,20 @@ public abstract class AbstractStockDataProvider implements StockDataProvider {
 
     protected final Logger logger = Logger.getInstance();
 
+    /**
+     * The fetches currently in flight, shared by every provider so that identical concurrent requests are sent once.
+     */
+    private static final SingleFlight<String, Stock> IN_FLIGHT = new SingleFlight<>();
+
+    /**
+     * The headers sent with every request, except for the authentication cookie.
+     */
+    private static final Map<String, String> DEFAULT_HEADERS = Map.of(
+        "Content-Type", "application/json",
+        "Accept", "*/*",
+        "User-Agent", "Mozilla/5.0 (Windows NT 6.1; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/58.0.3029.110 Safari/537.36"
+    );
+
     /**
      * Constructs an {@code AbstractStockDataProvider} with a given {@link Stock} object.
      * This stock object will be populated with the data fetched from the external API.
@@ -42,40 +72,325 @@ public abstract class AbstractStockDataProvider implements StockDataProvider {
         return this.stock;
     }
 
+    /**
+     * Fetches stock data and populates the associated {@link Stock} object.
+     * <p>
+     * Concurrent fetches with the same {@linkplain #getRequestKey(URI) request key} are coalesced: only the first one
+     * sends the request and parses the response, and the others {@linkplain #adopt(Stock) adopt} its parsed result.
+     */
     @Override
     public void fetchData() {
+        Credentials credentials;
+        URI url;
+        try {
+            credentials = credentials();
+            url = buildUrl(credentials);
+        } catch (Exception e) {
+            this.logger.warn("Error fetching stock data.", e);
+            fail(e);
+            return;
+        }
+
+        Stock source = IN_FLIGHT.execute(getRequestKey(url), () -> {
+            fetch(url, credentials);
+            return this.stock;
+        });
+        if (source != this.stock) {
+            this.logger.debug("Reusing the in-flight response of %s", url.toString());
+            adoptFrom(source);
+        }
+    }
+
+    /**
+     * Fetches stock data through {@link HttpTransport#sendAsync(URI, Map)}.
+     * <p>
+     * The request is built and the response is parsed on the given executor, while no thread waits for the response.
+     * Responses are always parsed from a string, even when {@link #isStreaming()} is enabled. Concurrent fetches are
+     * coalesced as in {@link #fetchData()}.
+     */
+    @Override
+    public CompletableFuture<Stock> fetchDataAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::credentials, executor)
+            .thenCompose(credentials -> {
+                URI url = buildUrl(credentials);
+                return IN_FLIGHT.executeAsync(getRequestKey(url), () -> fetchAsync(url, credentials, executor));
+            })
+            .handle((source, e) -> {
+                if (e != null) {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    this.logger.warn("Error fetching stock data.", cause);
+                    fail(cause);
+                } else if (source != this.stock) {
+                    adoptFrom(source);
+                }
+                return this.stock;
+            });
+    }
+
+    /**
+     * Sends the request and parses its response into the associated {@link Stock} object.
+     *
+     * @param url         the request URL.
+     * @param credentials the credentials the URL was built with.
+     */
+    private void fetch(URI url, Credentials credentials) {
         try {
-            URI url = UrlBuilder.builder()
-                .url(getApiUrl())
-                .addParameters(getRequestParameters())
-                .toURI();
             this.logger.debug("Fetching stock data from the API: %s", url.toString());
 
-            Map<String, String> headers = new HashMap<>() {{
-                put("Cookie", CrumbYahoo.getCookie());
-                put("Content-Type", "application/json");
-                put("Accept", "*/*");
-                put("User-Agent", "Mozilla/5.0 (Windows NT 6.1; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/58.0.3029.110 Safari/537.36");
-            }};
-            StringBuilder response = HttpRequester.builder()
-                .url(url)
-                .method(HttpRequester.HttpMethod.GET)
-                .connectionTimeout(RequestParams.TIMEOUT.get().asInteger())
-                .headers(headers)
-                .send();
+            if (isBuffered()) {
+                try (PooledBody response = sendBuffered(url, credentials, this::buildUrl)) {
+                    parseApiResponse(response.buffer());
+                }
+                return;
+            }
+
+            if (isStreaming()) {
+                try (InputStream response = sendStreaming(url, credentials, this::buildUrl)) {
+                    parseApiResponse(response);
+                }
+                return;
+            }
+
+            String response = sendRequest(url, credentials, this::buildUrl);
 
             if (response == null) {
                 this.logger.warn("Error fetching stock data. The response is null.");
+                fail(new IOException("The API answered with an unsuccessful status code."));
                 return;
             }
 
-            parseApiResponse(response.toString());
+            parseApiResponse(response);
 
         } catch (Exception e) {
             this.logger.warn("Error fetching stock data.", e);
+            fail(e);
+        }
+    }
+
+    /**
+     * Sends the request asynchronously and parses its response into the associated {@link Stock} object.
+     * <p>
+     * A request rejected with HTTP 401 or 403 is sent once more after authenticating again.
+     *
+     * @param url         the request URL.
+     * @param credentials the credentials the URL was built with.
+     * @param executor    the executor used to parse the response.
+     * @return a {@link CompletableFuture} completed with the associated {@link Stock}, even if the fetch failed.
+     */
+    private CompletableFuture<Stock> fetchAsync(URI url, Credentials credentials, Executor executor) {
+        this.logger.debug("Fetching stock data from the API: %s", url.toString());
+        return HttpTransports.getDefault().sendAsync(url, requestHeaders(credentials))
+            .thenComposeAsync(response -> isRejected(response.statusCode())
+                ? reauthenticateAndRetry(credentials, this::buildUrl, response)
+                : CompletableFuture.completedFuture(response), executor)
+            .thenAcceptAsync(response -> {
+                if (!response.isSuccessful()) {
+                    this.logger.warn("Error fetching stock data. The API answered with HTTP status %d.", response.statusCode());
+                    fail(new HttpStatusException(response.statusCode()));
+                    return;
+                }
+                parseApiResponse(response.body());
+            }, executor)
+            .handle((ignored, e) -> {
+                if (e != null) {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    this.logger.warn("Error fetching stock data.", cause);
+                    fail(cause);
+                }
+                return this.stock;
+            });
+    }
+
+    /**
+     * Returns the key used to coalesce concurrent fetches.
+     * Fetches with the same key must populate their stocks with the same data.
+     * <p>
+     * The default key is the request URL, parameters included.
+     *
+     * @param url the request URL.
+     * @return the key of the request.
+     */
+    protected String getRequestKey(URI url) {
+        return url.toString();
+    }
+
+    /**
+     * Populates the associated {@link Stock} object with the data parsed by a coalesced fetch of another provider.
+     * <p>
+     * The default implementation copies every non-null field of the source stock. Subclasses should override it to
+     * copy only the data they fetch.
+     *
+     * @param source the stock populated by the fetch that actually sent the request.
+     */
+    protected void adopt(Stock source) {
+        if (source.getName() != null) this.stock.setName(source.getName());
+        if (source.getDescriptor() != StockDescriptor.EMPTY) this.stock.setDescriptor(source.getDescriptor());
+        if (source.getQuote() != null) this.stock.setQuote(source.getQuote());
+        if (source.getQuoteSeries() != null) this.stock.setQuoteSeries(source.getQuoteSeries());
+        if (source.getDividendHistory() != null) this.stock.setDividendHistory(new ArrayList<>(source.getDividendHistory()));
+        if (source.getSplitHistory() != null) this.stock.setSplitHistory(new ArrayList<>(source.getSplitHistory()));
+    }
+
+    /**
+     * Adopts the data of a coalesced fetch, together with its failure, if any.
+     *
+     * @param source the stock populated by the fetch that actually sent the request.
+     */
+    private void adoptFrom(Stock source) {
+        adopt(source);
+        if (source.isFailed()) {
+            fail(source.getFailure());
         }
     }
 
+    /**
+     * Records on the associated {@link Stock} that the fetch failed, so that callers can tell it apart from a stock
+     * without data. Subclasses should call it when the response cannot be parsed.
+     *
+     * @param cause the cause of the failure.
+     */
+    protected void fail(Throwable cause) {
+        this.stock.setFailure(cause);
+    }
+
+    /**
+     * Takes the snapshot of the Yahoo credentials used by a fetch, so that its crumb and cookie always match.
+     *
+     * @return the credentials, or {@code null} if the request does not need a crumb or none could be obtained.
+     */
+    private Credentials credentials() {
+        return requiresCrumb() ? CrumbYahoo.getCredentials() : null;
+    }
+
+    /**
+     * Builds the full request URL from {@link #getApiUrl()} and {@link #getRequestParameters()}, adding the crumb of
+     * the given credentials when {@link #requiresCrumb()} is enabled.
+     *
+     * @param credentials the credentials the request is sent with, possibly {@code null}.
+     * @return the request URL.
+     */
+    private URI buildUrl(Credentials credentials) {
+        Map<String, String> params = getRequestParameters();
+        if (requiresCrumb() && credentials != null) {
+            params = new LinkedHashMap<>(params);
+            params.put("crumb", credentials.crumb());
+        }
+        return UrlBuilder.builder()
+            .url(getApiUrl())
+            .addParameters(params)
+            .toURI();
+    }
+
+    /**
+     * Sends an authenticated GET request to the given Yahoo Finance URL through the default {@link HttpTransport}.
+     * <p>
+     * This method is shared by the providers of this package that are not bound to a single {@link Stock},
+     * such as {@link BatchStockData}. The cookie is taken from the same credentials as the crumb of the URL. A request
+     * rejected with HTTP 401 or 403 is sent once more after authenticating again, using the URL built by
+     * {@code rebuild} from the new credentials.
+     *
+     * @param url         the full URL of the request, including its parameters.
+     * @param credentials the credentials the URL was built with, possibly {@code null}.
+     * @param rebuild     builds the URL again from the new credentials.
+     * @return the response body, or {@code null} if the server answered with an unsuccessful status code.
+     * @throws IOException if the request could not be sent or its response could not be read.
+     */
+    static String sendRequest(URI url, Credentials credentials, Function<Credentials, URI> rebuild) throws IOException {
+        TransportResponse response = HttpTransports.getDefault().send(url, requestHeaders(credentials));
+        Credentials retry;
+        if (isRejected(response.statusCode()) && (retry = CrumbYahoo.reauthenticate(credentials)) != null) {
+            Logger.getInstance().info("Retrying the request with new credentials.");
+            response = HttpTransports.getDefault().send(rebuild.apply(retry), requestHeaders(retry));
+        }
+        if (!response.isSuccessful()) {
+            Logger.getInstance().warn("The API answered with HTTP status %d.", response.statusCode());
+            return null;
+        }
+        return response.body();
+    }
+
+    /**
+     * Sends an authenticated GET request and returns its body as a stream, retrying once on HTTP 401 or 403
+     * as {@link #sendRequest(URI, Credentials, Function)} does.
+     *
+     * @param url         the full URL of the request, including its parameters.
+     * @param credentials the credentials the URL was built with, possibly {@code null}.
+     * @param rebuild     builds the URL again from the new credentials.
+     * @return the response body.
+     * @throws IOException if the request fails or the server answers with an unsuccessful status code.
+     */
+    static InputStream sendStreaming(URI url, Credentials credentials, Function<Credentials, URI> rebuild) throws IOException {
+        try {
+            return HttpTransports.getDefault().sendStreaming(url, requestHeaders(credentials));
+        } catch (HttpStatusException e) {
+            Credentials retry = isRejected(e.getStatusCode()) ? CrumbYahoo.reauthenticate(credentials) : null;
+            if (retry == null) {
+                throw e;
+            }
+            Logger.getInstance().info("Retrying the request with new credentials.");
+            return HttpTransports.getDefault().sendStreaming(rebuild.apply(retry), requestHeaders(retry));
+        }
+    }
+
+    /**
+     * Sends an authenticated GET request and receives its body into a pooled direct buffer, retrying once on
+     * HTTP 401 or 403 as {@link #sendRequest(URI, Credentials, Function)} does.
+     *
+     * @param url         the full URL of the request, including its parameters.
+     * @param credentials the credentials the URL was built with, possibly {@code null}.
+     * @param rebuild     builds the URL again from the new credentials.
+     * @return the response body, to be closed by the caller.
+     * @throws IOException if the request fails or the server answers with an unsuccessful status code.
+     */
+    static PooledBody sendBuffered(URI url, Credentials credentials, Function<Credentials, URI> rebuild) throws IOException {
+        try {
+            return HttpTransports.getDefault().sendBuffered(url, requestHeaders(credentials));
+        } catch (HttpStatusException e) {
+            Credentials retry = isRejected(e.getStatusCode()) ? CrumbYahoo.reauthenticate(credentials) : null;
+            if (retry == null) {
+                throw e;
+            }
+            Logger.getInstance().info("Retrying the request with new credentials.");
+            return HttpTransports.getDefault().sendBuffered(rebuild.apply(retry), requestHeaders(retry));
+        }
+    }
+
+    /**
+     * Authenticates again after an asynchronous request was rejected and sends it once more.
+     *
+     * @return the response of the retried request, or the rejected response if no new credentials could be obtained.
+     */
+    private static CompletableFuture<TransportResponse> reauthenticateAndRetry(Credentials credentials, Function<Credentials, URI> rebuild, TransportResponse rejected) {
+        Credentials retry = CrumbYahoo.reauthenticate(credentials);
+        if (retry == null) {
+            return CompletableFuture.completedFuture(rejected);
+        }
+        Logger.getInstance().info("Retrying the request with new credentials.");
+        return HttpTransports.getDefault().sendAsync(rebuild.apply(retry), requestHeaders(retry));
+    }
+
+    /**
+     * Checks whether a status code means the credentials were rejected.
+     */
+    private static boolean isRejected(int statusCode) {
+        return statusCode == HttpURLConnection.HTTP_UNAUTHORIZED || statusCode == HttpURLConnection.HTTP_FORBIDDEN;
+    }
+
+    /**
+     * Builds the headers of an authenticated request, reusing the immutable default headers.
+     *
+     * @param credentials the credentials the request is sent with, possibly {@code null}.
+     * @return the request headers, including the Yahoo authentication cookie when available.
+     */
+    static Map<String, String> requestHeaders(Credentials credentials) {
+        if (credentials == null || credentials.cookie() == null) {
+            return DEFAULT_HEADERS;
+        }
+        Map<String, String> headers = new HashMap<>(DEFAULT_HEADERS);
+        headers.put("Cookie", credentials.cookie());
+        return headers;
+    }
+
     /**
      * Prepares a request URL by appending the stock's ticker to the given base URL.
      * This method ensures the ticker is URL-encoded.
@@ -98,11 +413,24 @@ public abstract class AbstractStockDataProvider implements StockDataProvider {
     /**
      * Retrieves the request parameters required for the API call.
      * Subclasses must implement this method to return a map of key-value pairs representing the parameters.
+     * The crumb is added separately, when {@link #requiresCrumb()} is enabled.
      *
      * @return a map of request parameters.
      */
     protected abstract Map<String, String> getRequestParameters();
 
+    /**
+     * Indicates whether the request must carry the Yahoo crumb as a parameter.
+     * <p>
+     * When enabled, the crumb is taken from the same {@linkplain CrumbYahoo#getCredentials() credentials} as the
+     * cookie sent with the request. The default is {@code false}.
+     *
+     * @return {@code true} if the crumb must be sent, {@code false} otherwise.
+     */
+    protected boolean requiresCrumb() {
+        return false;
+    }
+
     /**
      * Parses the response received from the API and populates the associated {@link Stock} object with relevant data.
      * Subclasses must implement this method to extract and set the required information from the API response.
@@ -110,4 +438,49 @@ public abstract class AbstractStockDataProvider implements StockDataProvider {
      * @param response a string containing the API response in JSON format.
      */
     protected abstract void parseApiResponse(String response);
+
+    /**
+     * Indicates whether the response should be handed to {@link #parseApiResponse(InputStream)} while it is received,
+     * instead of being read into a string first.
+     * Subclasses that can parse the response incrementally should override this method.
+     *
+     * @return {@code true} to parse the response as a stream, {@code false} otherwise.
+     */
+    protected boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Parses the response received from the API as a stream.
+     * The default implementation reads the whole stream and delegates to {@link #parseApiResponse(String)}.
+     *
+     * @param response the stream of the API response body, encoded as UTF-8.
+     * @throws IOException if the stream cannot be read.
+     */
+    protected void parseApiResponse(InputStream response) throws IOException {
+        parseApiResponse(new String(response.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Indicates whether the response should be received into a pooled direct buffer and handed to
+     * {@link #parseApiResponse(ByteBuffer)}, without being decoded into a string.
+     * This takes precedence over {@link #isStreaming()}. Subclasses that can parse the raw bytes should override it.
+     *
+     * @return {@code true} to parse the response from a pooled buffer, {@code false} otherwise.
+     */
+    protected boolean isBuffered() {
+        return false;
+    }
+
+    /**
+     * Parses the response received from the API in place.
+     * The buffer is returned to the pool as soon as this method returns, so it must not be retained.
+     * The default implementation decodes the buffer and delegates to {@link #parseApiResponse(String)}.
+     *
+     * @param response a read-only buffer holding the API response body, encoded as UTF-8.
+     * @throws IOException if the response cannot be parsed.
+     */
+    protected void parseApiResponse(ByteBuffer response) throws IOException {
+        parseApiResponse(StandardCharsets.UTF_8.decode(response).toString());
+    }
 }
@@ -0,0 +1,209 @@
+package br.dev.rplus.finv.provider;
+
+import br.dev.rplus.cup.log.Logger;
+import br.dev.rplus.cup.request.UrlBuilder;
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.concurrent.ConcurrentFetcher;
+import br.dev.rplus.finv.data.StockQuote;
+import br.dev.rplus.finv.enums.RequestParams;
+import br.dev.rplus.finv.provider.yahoo.CrumbYahoo;
+import br.dev.rplus.finv.provider.yahoo.CrumbYahoo.Credentials;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Class responsible for fetching the quotes of many stocks using the batched quote endpoint of the API.
+ * <p>
+ * Instead of issuing one request per ticker, as {@link StockData} does, the tickers are grouped in chunks of
+ * {@link RequestParams#QUOTE_BATCH_SIZE} symbols and each chunk is fetched with a single request. The chunks are fetched
+ * concurrently and every entry of the returned result array is parsed into its matching {@link Stock} and {@link StockQuote}.
+ * Symbols are matched regardless of case, and a symbol shared by several stocks is requested once and populates all of them.
+ */
+public class BatchStockData {
+
+    private final Logger logger = Logger.getInstance();
+    private final List<Stock> stocks;
+    private final int batchSize;
+
+    /**
+     * Constructs a new {@code BatchStockData} instance using the default batch size.
+     *
+     * @param stocks the stocks for which the quotes will be fetched.
+     */
+    public BatchStockData(List<Stock> stocks) {
+        this(stocks, RequestParams.QUOTE_BATCH_SIZE.get().asInteger());
+    }
+
+    /**
+     * Constructs a new {@code BatchStockData} instance.
+     *
+     * @param stocks    the stocks for which the quotes will be fetched.
+     * @param batchSize the maximum number of symbols requested in a single request.
+     */
+    public BatchStockData(List<Stock> stocks, int batchSize) {
+        this.stocks = stocks;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Retrieves the stocks associated with this provider.
+     *
+     * @return the list of stocks, in the order they were given.
+     */
+    public List<Stock> getStocks() {
+        return Collections.unmodifiableList(this.stocks);
+    }
+
+    /**
+     * Fetches the quotes of all stocks, one request per chunk of symbols.
+     * <p>
+     * Stocks whose symbol is not present in the response, or whose chunk could not be fetched, are left without a quote
+     * and {@linkplain Stock#isFailed() marked as failed}, and a warning is logged.
+     */
+    public void fetchData() {
+        Map<String, List<Stock>> stocksBySymbol = new LinkedHashMap<>();
+        this.stocks.forEach(stock -> stocksBySymbol.computeIfAbsent(symbolOf(stock.getTicker()), symbol -> new ArrayList<>()).add(stock));
+
+        List<String> symbols = new ArrayList<>(stocksBySymbol.keySet());
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < symbols.size(); i += this.batchSize) {
+            chunks.add(String.join(",", symbols.subList(i, Math.min(i + this.batchSize, symbols.size()))));
+        }
+
+        ConcurrentFetcher.fetchAll(chunks, chunk -> fetchChunk(chunk, stocksBySymbol), chunk -> Boolean.FALSE);
+
+        stocksBySymbol.values().stream()
+            .flatMap(List::stream)
+            .filter(stock -> stock.getQuote() == null)
+            .forEach(stock -> {
+                this.logger.warn("The stock ticker might be invalid: %s. Please check the ticker and try again.", stock.getTicker());
+                if (!stock.isFailed()) {
+                    stock.setFailure(new NoSuchElementException("The API returned no quote for " + stock.getTicker() + "."));
+                }
+            });
+    }
+
+    /**
+     * Fetches a single chunk of symbols and populates the matching stocks.
+     *
+     * @param symbols        the comma-separated symbols of the chunk.
+     * @param stocksBySymbol the stocks indexed by their {@linkplain #symbolOf(String) symbol}.
+     * @return {@code true} if the chunk was fetched and parsed, {@code false} otherwise.
+     */
+    private Boolean fetchChunk(String symbols, Map<String, List<Stock>> stocksBySymbol) {
+        try {
+            Credentials credentials = CrumbYahoo.getCredentials();
+            URI url = buildUrl(symbols, credentials);
+            this.logger.debug("Fetching batched stock data from the API: %s", url.toString());
+
+            String response = AbstractStockDataProvider.sendRequest(url, credentials, retry -> buildUrl(symbols, retry));
+            if (response == null) {
+                this.logger.warn("Error fetching batched stock data. The response is null.");
+                fail(symbols, stocksBySymbol, new IOException("The API answered with an unsuccessful status code."));
+                return Boolean.FALSE;
+            }
+
+            parseApiResponse(response, stocksBySymbol);
+            return Boolean.TRUE;
+        } catch (Exception e) {
+            this.logger.warn("Error fetching batched stock data.", e);
+            fail(symbols, stocksBySymbol, e);
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * Marks every stock of a chunk that could not be fetched as failed.
+     *
+     * @param symbols        the comma-separated symbols of the chunk.
+     * @param stocksBySymbol the stocks indexed by their {@linkplain #symbolOf(String) symbol}.
+     * @param cause          the cause of the failure.
+     */
+    private static void fail(String symbols, Map<String, List<Stock>> stocksBySymbol, Throwable cause) {
+        for (String symbol : symbols.split(",")) {
+            stocksBySymbol.getOrDefault(symbol, List.of()).forEach(stock -> stock.setFailure(cause));
+        }
+    }
+
+    /**
+     * Returns the symbol under which a ticker is requested and matched, which is the ticker in upper case.
+     *
+     * @param ticker the ticker of a stock, or a symbol returned by the API.
+     * @return the symbol of the ticker.
+     */
+    private static String symbolOf(String ticker) {
+        return ticker.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Builds the request URL of a chunk.
+     *
+     * @param symbols     the comma-separated symbols of the chunk.
+     * @param credentials the credentials whose crumb is sent, possibly {@code null}.
+     * @return the request URL.
+     */
+    private URI buildUrl(String symbols, Credentials credentials) {
+        return UrlBuilder.builder()
+            .url(RequestParams.STOCKS_QUOTE_URL_V7.get().asString())
+            .addParameters(getRequestParameters(symbols, credentials))
+            .toURI();
+    }
+
+    /**
+     * Builds the request parameters of a chunk.
+     *
+     * @param symbols     the comma-separated symbols of the chunk.
+     * @param credentials the credentials whose crumb is sent, possibly {@code null}.
+     * @return a map of request parameters.
+     */
+    private Map<String, String> getRequestParameters(String symbols, Credentials credentials) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("symbols", symbols);
+        if (credentials != null) {
+            params.put("crumb", credentials.crumb());
+        }
+        return params;
+    }
+
+    /**
+     * Parses the multi-result array of the batched quote endpoint.
+     *
+     * @param response       the API response in JSON format.
+     * @param stocksBySymbol the stocks indexed by their {@linkplain #symbolOf(String) symbol}.
+     */
+    private void parseApiResponse(String response, Map<String, List<Stock>> stocksBySymbol) {
+        JSONObject oResponse = null;
+
+        try {
+            oResponse = new JSONObject(response).getJSONObject("quoteResponse");
+            JSONArray results = oResponse.getJSONArray("result");
+
+            for (int i = 0; i < results.length(); i++) {
+                JSONObject oQuote = results.getJSONObject(i);
+                for (Stock stock : stocksBySymbol.getOrDefault(symbolOf(oQuote.optString("symbol")), List.of())) {
+                    try {
+                        StockData.populate(stock, oQuote);
+                    } catch (Exception e) {
+                        this.logger.warn("Error parsing the quote of %s.", stock.getTicker(), e);
+                        stock.setFailure(e);
+                    }
+                }
+            }
+            this.logger.info("Batched stock data fetched successfully for %d symbols.", results.length());
+        } catch (Exception e) {
+            this.logger.warn("Error parsing the API response.", e);
+        } finally {
+            if (oResponse != null) oResponse.clear();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package br.dev.rplus.finv.provider;
+
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.data.StockSplit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar result of the {@link ChartStreamParser}.
+ * <p>
+ * Every array of the chart response is decoded straight into a primitive array, so no intermediate JSON tree or
+ * boxed value is created while parsing. Missing prices are stored as {@link Double#NaN} and missing volumes as zero.
+ */
+final class ChartColumns {
+
+    long[] timestamps = new long[0];
+    double[] open = new double[0];
+    double[] high = new double[0];
+    double[] low = new double[0];
+    double[] close = new double[0];
+    double[] adjClose = new double[0];
+    long[] volume = new long[0];
+
+    long[] dividendTimestamps = new long[0];
+    double[] dividendAmounts = new double[0];
+
+    long[] splitTimestamps = new long[0];
+    String[] splitRatios = new String[0];
+
+    /**
+     * Converts the quote columns into a {@link QuoteSeries}, without copying the columns that are complete.
+     * <p>
+     * Columns shorter than the timestamp column, which happens when the API omits an array, are padded with missing values.
+     *
+     * @return the historical quotes, in the order they were received.
+     */
+    QuoteSeries toQuoteSeries() {
+        int size = this.timestamps.length;
+        return new QuoteSeries(
+            this.timestamps,
+            padded(this.open, size),
+            padded(this.high, size),
+            padded(this.low, size),
+            padded(this.close, size),
+            padded(this.adjClose, size),
+            this.volume.length == size ? this.volume : Arrays.copyOf(this.volume, size)
+        );
+    }
+
+    /**
+     * Converts the quote columns into a list of {@link StockHistoricalQuote}.
+     *
+     * @return the historical quotes, in the order they were received.
+     * @see #toQuoteSeries()
+     */
+    List<StockHistoricalQuote> toQuotes() {
+        return toQuoteSeries().asList();
+    }
+
+    /**
+     * Converts the dividend columns into a list of {@link StockDividend}.
+     *
+     * @return the dividends, in the order they were received.
+     */
+    List<StockDividend> toDividends() {
+        List<StockDividend> dividends = new ArrayList<>(this.dividendTimestamps.length);
+        for (int i = 0; i < this.dividendTimestamps.length; i++) {
+            dividends.add(new StockDividend(this.dividendAmounts[i], this.dividendTimestamps[i] * 1000L));
+        }
+        return dividends;
+    }
+
+    /**
+     * Converts the split columns into a list of {@link StockSplit}.
+     *
+     * @return the splits, in the order they were received.
+     */
+    List<StockSplit> toSplits() {
+        List<StockSplit> splits = new ArrayList<>(this.splitTimestamps.length);
+        for (int i = 0; i < this.splitTimestamps.length; i++) {
+            splits.add(new StockSplit(this.splitRatios[i], this.splitTimestamps[i] * 1000L));
+        }
+        return splits;
+    }
+
+    private static double[] padded(double[] column, int size) {
+        if (column.length == size) {
+            return column;
+        }
+        double[] padded = Arrays.copyOf(column, size);
+        if (column.length < size) {
+            Arrays.fill(padded, column.length, size, Double.NaN);
+        }
+        return padded;
+    }
+
+    /**
+     * Growable primitive {@code double} column.
+     */
+    static final class DoubleColumn {
+
+        private double[] values = new double[256];
+        private int size;
+
+        void add(double value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size << 1);
+            }
+            this.values[this.size++] = value;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        }
+    }
+
+    /**
+     * Growable primitive {@code long} column.
+     */
+    static final class LongColumn {
+
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size << 1);
+            }
+            this.values[this.size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        }
+    }
+}
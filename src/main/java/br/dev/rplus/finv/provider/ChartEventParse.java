@@ -0,0 +1,64 @@
+package br.dev.rplus.finv.provider;
+
+import br.dev.rplus.cup.log.Logger;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Functional interface for parsing the events of a chart response into a list of objects of type {@code T}.
+ * <p>
+ * Implementations extract their events from the chart result of the response, which is parsed only once and can be
+ * shared by several implementations, so they must not modify it. The chart response can still be parsed from a string
+ * through {@link EventParse#parse(String)}.
+ *
+ * @param <T> The type of object that the response will be parsed into.
+ */
+@FunctionalInterface
+public interface ChartEventParse<T> extends EventParse<T> {
+
+    /**
+     * Parses the given chart result and converts it into a list of objects of type {@code T}.
+     *
+     * @param chartResult the first entry of the {@code chart.result} array of the API response.
+     * @return A list of parsed objects of type {@code T}.
+     */
+    List<T> parse(JSONObject chartResult);
+
+    /**
+     * Parses the given response string and converts it into a list of objects of type {@code T}.
+     * <p>
+     * When several events are extracted from the same response, prefer {@link #chartResult(String)} followed by
+     * {@link #parse(JSONObject)}, so that the response is parsed only once.
+     *
+     * @param response A string representing the API response (e.g., in JSON format).
+     * @return A list of parsed objects of type {@code T}.
+     */
+    @Override
+    default List<T> parse(String response) {
+        JSONObject oResult = null;
+        try {
+            oResult = chartResult(response);
+            return parse(oResult);
+        } catch (Exception e) {
+            Logger.getInstance().warn("Error parsing the API response.", e);
+            return new ArrayList<>();
+        } finally {
+            if (oResult != null) oResult.clear();
+        }
+    }
+
+    /**
+     * Parses the chart response and returns the first entry of its {@code chart.result} array.
+     *
+     * @param response the API response in JSON format.
+     * @return the chart result object.
+     */
+    static JSONObject chartResult(String response) {
+        return new JSONObject(response)
+            .getJSONObject("chart")
+            .getJSONArray("result")
+            .getJSONObject(0);
+    }
+}
@@ -0,0 +1,573 @@
+package br.dev.rplus.finv.provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming, allocation-light parser for the v8 chart response of the API.
+ * <p>
+ * Instead of building a JSON tree, the parser walks the response byte by byte, skipping everything it does not need
+ * and decoding the {@code timestamp}, {@code open}, {@code high}, {@code low}, {@code close}, {@code volume} and
+ * {@code adjclose} arrays, as well as the dividend and split events, straight into the primitive arrays of a
+ * {@link ChartColumns}. Only the first entry of {@code chart.result} is read.
+ * <p>
+ * Instances are not thread-safe and are meant to parse a single response, through {@link #parse(InputStream)} or
+ * {@link #parse(ByteBuffer)}.
+ */
+final class ChartStreamParser {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream in;
+    private final ByteBuffer source;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private int peeked = -2;
+    private byte[] scratch = new byte[64];
+
+    private ChartStreamParser(InputStream in) {
+        this.in = in;
+        this.source = null;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    private ChartStreamParser(ByteBuffer source) {
+        this.in = null;
+        this.source = source.duplicate();
+        this.buffer = null;
+    }
+
+    /**
+     * Parses a chart response read from the given stream. The stream is not closed.
+     *
+     * @param in the stream of the response body, encoded as UTF-8.
+     * @return the decoded columns, empty if the response has no result.
+     * @throws IOException if the stream cannot be read or the response is malformed.
+     */
+    static ChartColumns parse(InputStream in) throws IOException {
+        return new ChartStreamParser(in).parseRoot();
+    }
+
+    /**
+     * Parses a chart response stored in the remaining bytes of the given buffer.
+     * <p>
+     * The buffer is read in place and its position is not modified.
+     *
+     * @param buffer the buffer holding the response body, encoded as UTF-8.
+     * @return the decoded columns, empty if the response has no result.
+     * @throws IOException if the response is malformed.
+     */
+    static ChartColumns parse(ByteBuffer buffer) throws IOException {
+        return new ChartStreamParser(buffer).parseRoot();
+    }
+
+    private ChartColumns parseRoot() throws IOException {
+        ChartColumns columns = new ChartColumns();
+        expect('{');
+        String key;
+        while ((key = nextKey()) != null) {
+            if ("chart".equals(key)) {
+                parseChart(columns);
+            } else {
+                skipValue();
+            }
+        }
+        return columns;
+    }
+
+    private void parseChart(ChartColumns columns) throws IOException {
+        if (skipNull()) {
+            return;
+        }
+        expect('{');
+        String key;
+        while ((key = nextKey()) != null) {
+            if ("result".equals(key)) {
+                if (skipNull()) {
+                    continue;
+                }
+                expect('[');
+                boolean first = true;
+                while (hasNextElement()) {
+                    if (first) {
+                        parseResult(columns);
+                        first = false;
+                    } else {
+                        skipValue();
+                    }
+                }
+            } else {
+                skipValue();
+            }
+        }
+    }
+
+    private void parseResult(ChartColumns columns) throws IOException {
+        expect('{');
+        String key;
+        while ((key = nextKey()) != null) {
+            switch (key) {
+                case "timestamp" -> columns.timestamps = readLongArray();
+                case "events" -> parseEvents(columns);
+                case "indicators" -> parseIndicators(columns);
+                default -> skipValue();
+            }
+        }
+    }
+
+    private void parseIndicators(ChartColumns columns) throws IOException {
+        if (skipNull()) {
+            return;
+        }
+        expect('{');
+        String key;
+        while ((key = nextKey()) != null) {
+            if ("quote".equals(key) || "adjclose".equals(key)) {
+                if (skipNull()) {
+                    continue;
+                }
+                expect('[');
+                boolean first = true;
+                while (hasNextElement()) {
+                    if (first) {
+                        parseIndicator(columns);
+                        first = false;
+                    } else {
+                        skipValue();
+                    }
+                }
+            } else {
+                skipValue();
+            }
+        }
+    }
+
+    private void parseIndicator(ChartColumns columns) throws IOException {
+        expect('{');
+        String key;
+        while ((key = nextKey()) != null) {
+            switch (key) {
+                case "open" -> columns.open = readDoubleArray();
+                case "high" -> columns.high = readDoubleArray();
+                case "low" -> columns.low = readDoubleArray();
+                case "close" -> columns.close = readDoubleArray();
+                case "adjclose" -> columns.adjClose = readDoubleArray();
+                case "volume" -> columns.volume = readLongArray();
+                default -> skipValue();
+            }
+        }
+    }
+
+    private void parseEvents(ChartColumns columns) throws IOException {
+        if (skipNull()) {
+            return;
+        }
+        expect('{');
+        String key;
+        while ((key = nextKey()) != null) {
+            switch (key) {
+                case "dividends" -> parseDividends(columns);
+                case "splits" -> parseSplits(columns);
+                default -> skipValue();
+            }
+        }
+    }
+
+    private void parseDividends(ChartColumns columns) throws IOException {
+        if (skipNull()) {
+            return;
+        }
+        ChartColumns.LongColumn timestamps = new ChartColumns.LongColumn();
+        ChartColumns.DoubleColumn amounts = new ChartColumns.DoubleColumn();
+        expect('{');
+        String eventKey;
+        while ((eventKey = nextKey()) != null) {
+            long date = Long.MIN_VALUE;
+            double amount = Double.NaN;
+            expect('{');
+            String key;
+            while ((key = nextKey()) != null) {
+                switch (key) {
+                    case "amount" -> amount = readDouble();
+                    case "date" -> date = readLong();
+                    default -> skipValue();
+                }
+            }
+            timestamps.add(date == Long.MIN_VALUE ? Long.parseLong(eventKey) : date);
+            amounts.add(amount);
+        }
+        columns.dividendTimestamps = timestamps.toArray();
+        columns.dividendAmounts = amounts.toArray();
+    }
+
+    private void parseSplits(ChartColumns columns) throws IOException {
+        if (skipNull()) {
+            return;
+        }
+        ChartColumns.LongColumn timestamps = new ChartColumns.LongColumn();
+        List<String> ratios = new ArrayList<>();
+        expect('{');
+        String eventKey;
+        while ((eventKey = nextKey()) != null) {
+            long date = Long.MIN_VALUE;
+            String ratio = null;
+            expect('{');
+            String key;
+            while ((key = nextKey()) != null) {
+                switch (key) {
+                    case "splitRatio" -> ratio = skipNull() ? null : readString();
+                    case "date" -> date = readLong();
+                    default -> skipValue();
+                }
+            }
+            timestamps.add(date == Long.MIN_VALUE ? Long.parseLong(eventKey) : date);
+            ratios.add(ratio);
+        }
+        columns.splitTimestamps = timestamps.toArray();
+        columns.splitRatios = ratios.toArray(new String[0]);
+    }
+
+    private double[] readDoubleArray() throws IOException {
+        if (skipNull()) {
+            return new double[0];
+        }
+        ChartColumns.DoubleColumn column = new ChartColumns.DoubleColumn();
+        expect('[');
+        while (hasNextElement()) {
+            column.add(readDouble());
+        }
+        return column.toArray();
+    }
+
+    private long[] readLongArray() throws IOException {
+        if (skipNull()) {
+            return new long[0];
+        }
+        ChartColumns.LongColumn column = new ChartColumns.LongColumn();
+        expect('[');
+        while (hasNextElement()) {
+            column.add(readLong());
+        }
+        return column.toArray();
+    }
+
+    // ---- Tokens ----
+
+    /**
+     * Reads the next key of the current object, consuming the separator before it and the colon after it.
+     *
+     * @return the key, or {@code null} if the end of the object was reached.
+     */
+    private String nextKey() throws IOException {
+        int c = nextNonWhitespace();
+        if (c == ',') {
+            c = nextNonWhitespace();
+        }
+        if (c == '}') {
+            return null;
+        }
+        if (c != '"') {
+            throw syntaxError(c, "'\"'");
+        }
+        String key = readStringBody();
+        expect(':');
+        return key;
+    }
+
+    /**
+     * Checks whether the current array has another element, consuming the separator before it or the closing bracket.
+     */
+    private boolean hasNextElement() throws IOException {
+        int c = peekNonWhitespace();
+        if (c == ',') {
+            next();
+            c = peekNonWhitespace();
+        }
+        if (c == ']') {
+            next();
+            return false;
+        }
+        if (c == -1) {
+            throw new IOException("Unexpected end of the chart response.");
+        }
+        return true;
+    }
+
+    /**
+     * Consumes a {@code null} literal if it is the next value.
+     *
+     * @return {@code true} if a {@code null} was consumed.
+     */
+    private boolean skipNull() throws IOException {
+        if (peekNonWhitespace() == 'n') {
+            skipValue();
+            return true;
+        }
+        return false;
+    }
+
+    private double readDouble() throws IOException {
+        if (skipNull()) {
+            return Double.NaN;
+        }
+        int length = readNumberBytes();
+        return toDouble(length);
+    }
+
+    private long readLong() throws IOException {
+        if (skipNull()) {
+            return 0L;
+        }
+        int length = readNumberBytes();
+        long value = 0;
+        boolean negative = this.scratch[0] == '-';
+        for (int i = negative ? 1 : 0; i < length; i++) {
+            byte b = this.scratch[i];
+            if (b < '0' || b > '9' || i >= 19) {
+                return (long) toDouble(length);
+            }
+            value = value * 10 + (b - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        return readStringBody();
+    }
+
+    /**
+     * Copies the characters of a number into the scratch buffer.
+     *
+     * @return the number of bytes copied.
+     */
+    private int readNumberBytes() throws IOException {
+        peekNonWhitespace();
+        int length = 0;
+        int c;
+        while ((c = peek()) != -1 && isNumberByte(c)) {
+            ensureScratch(length + 1);
+            this.scratch[length++] = (byte) next();
+        }
+        if (length == 0) {
+            throw syntaxError(c, "a number");
+        }
+        return length;
+    }
+
+    /**
+     * Converts the number held in the scratch buffer, using an exact fast path for values with at most
+     * 53 bits of mantissa and a small exponent, and {@link Double#parseDouble(String)} otherwise.
+     */
+    private double toDouble(int length) {
+        int i = 0;
+        boolean negative = this.scratch[0] == '-';
+        if (negative || this.scratch[0] == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean fraction = false;
+        for (; i < length; i++) {
+            byte b = this.scratch[i];
+            if (b >= '0' && b <= '9') {
+                if (mantissa < MAX_EXACT_MANTISSA / 10) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (fraction) {
+                        exponent--;
+                    }
+                } else {
+                    exact = false;
+                    break;
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                exact = false;
+                break;
+            }
+        }
+        if (exact && -exponent < POWERS_OF_TEN.length) {
+            double value = mantissa / POWERS_OF_TEN[-exponent];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(new String(this.scratch, 0, length, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote was already consumed.
+     */
+    private String readStringBody() throws IOException {
+        int length = 0;
+        boolean escaped = false;
+        int c;
+        while ((c = next()) != '"') {
+            if (c == -1) {
+                throw new IOException("Unterminated string in the chart response.");
+            }
+            ensureScratch(length + 2);
+            if (c == '\\') {
+                escaped = true;
+                this.scratch[length++] = (byte) c;
+                c = next();
+            }
+            this.scratch[length++] = (byte) c;
+        }
+        String value = new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+        return escaped ? unescape(value) : value;
+    }
+
+    private static String unescape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch != '\\' || i + 1 == value.length()) {
+                sb.append(ch);
+                continue;
+            }
+            char escape = value.charAt(++i);
+            switch (escape) {
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    sb.append((char) Integer.parseInt(value, i + 1, i + 5, 16));
+                    i += 4;
+                }
+                default -> sb.append(escape);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Skips the next value, whatever its type, without decoding it.
+     */
+    private void skipValue() throws IOException {
+        int c = nextNonWhitespace();
+        switch (c) {
+            case '"' -> skipStringBody();
+            case '{', '[' -> {
+                int depth = 1;
+                while (depth > 0) {
+                    c = next();
+                    switch (c) {
+                        case -1 -> throw new IOException("Unexpected end of the chart response.");
+                        case '"' -> skipStringBody();
+                        case '{', '[' -> depth++;
+                        case '}', ']' -> depth--;
+                        default -> {
+                            // Scalar content of the skipped value.
+                        }
+                    }
+                }
+            }
+            case -1 -> throw new IOException("Unexpected end of the chart response.");
+            default -> {
+                while ((c = peek()) != -1 && c != ',' && c != '}' && c != ']' && !isWhitespace(c)) {
+                    next();
+                }
+            }
+        }
+    }
+
+    private void skipStringBody() throws IOException {
+        int c;
+        while ((c = next()) != '"') {
+            if (c == '\\') {
+                next();
+            } else if (c == -1) {
+                throw new IOException("Unterminated string in the chart response.");
+            }
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        int c = nextNonWhitespace();
+        if (c != expected) {
+            throw syntaxError(c, "'" + expected + "'");
+        }
+    }
+
+    private IOException syntaxError(int found, String expected) {
+        String token = found == -1 ? "end of input" : "'" + (char) found + "'";
+        return new IOException("Malformed chart response: expected " + expected + " but found " + token + ".");
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private static boolean isNumberByte(int c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    private void ensureScratch(int capacity) {
+        if (capacity > this.scratch.length) {
+            this.scratch = Arrays.copyOf(this.scratch, Math.max(capacity, this.scratch.length << 1));
+        }
+    }
+
+    // ---- Byte source ----
+
+    private int nextNonWhitespace() throws IOException {
+        int c;
+        do {
+            c = next();
+        } while (isWhitespace(c));
+        return c;
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        int c;
+        while (isWhitespace(c = peek())) {
+            next();
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (this.peeked == -2) {
+            this.peeked = read();
+        }
+        return this.peeked;
+    }
+
+    private int next() throws IOException {
+        if (this.peeked != -2) {
+            int c = this.peeked;
+            this.peeked = -2;
+            return c;
+        }
+        return read();
+    }
+
+    private int read() throws IOException {
+        if (this.source != null) {
+            return this.source.hasRemaining() ? this.source.get() & 0xFF : -1;
+        }
+        if (this.position == this.limit) {
+            this.limit = this.in.read(this.buffer, 0, this.buffer.length);
+            this.position = 0;
+            if (this.limit <= 0) {
+                this.limit = 0;
+                return -1;
+            }
+        }
+        return this.buffer[this.position++] & 0xFF;
+    }
+}
@@ -2,17 +2,37 @@ package br.dev.rplus.finv.provider;
 
 import br.dev.rplus.cup.utils.DateUtils;
 import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.cache.CachedHistory;
+import br.dev.rplus.finv.cache.HistoryCache;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.data.StockSplit;
+import br.dev.rplus.finv.enums.ConfigParams;
 import br.dev.rplus.finv.enums.Event;
 import br.dev.rplus.finv.enums.Frequency;
 import br.dev.rplus.finv.enums.RequestParams;
+import org.json.JSONObject;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Fetches historical stock data for specific events (such as dividends, splits, or historical quotes)
  * from an external API and populates the associated {@link Stock} object.
+ * <p>
+ * When the {@link HistoryCache} is enabled, the history already stored on disk is reused and only the bars after the
+ * last cached one are requested from the API. The merged history is stored again before the stock is populated.
  */
 public class EventsStockData extends AbstractStockDataProvider {
 
@@ -20,6 +40,7 @@ public class EventsStockData extends AbstractStockDataProvider {
     private final String endDate;
     private final Frequency frequency;
     private final List<Event> events;
+    private CacheWindow window;
 
     /**
      * Constructs an {@code EventsStockData} object for fetching stock event data.
@@ -47,23 +68,96 @@ public class EventsStockData extends AbstractStockDataProvider {
     private String getEvents() {
         StringBuilder sb = new StringBuilder();
         if (this.events != null) {
-            for (var event : this.events) {
-                sb.append(event.getName());
-                if (this.events.indexOf(event) < this.events.size() - 1) {
+            for (var event : this.window != null ? this.window.fetchEvents : this.events) {
+                if (!sb.isEmpty()) {
                     sb.append("|");
                 }
+                sb.append(event.getName());
             }
         }
         return sb.toString();
     }
 
+    @Override
+    public void fetchData() {
+        HistoryCache cache = HistoryCache.getInstance();
+        if (!cache.isEnabled() || this.events == null || this.events.isEmpty()) {
+            super.fetchData();
+            return;
+        }
+
+        long start;
+        long end;
+        try {
+            DateUtils du = new DateUtils();
+            start = du.parse(this.startDate).getTime();
+            end = du.parse(this.endDate).getTime();
+        } catch (Exception e) {
+            logger.warn("Error parsing the requested period.", e);
+            super.fetchData();
+            return;
+        }
+
+        Set<Event> requested = EnumSet.copyOf(this.events);
+        CachedHistory stored = cache.load(getStock().getTicker(), this.frequency).orElse(null);
+        this.window = new CacheWindow(start, end);
+
+        if (stored != null && stored.covers(requested, start)) {
+            this.window.cached = stored;
+            this.window.fetchFrom = stored.resumePoint();
+            this.window.fetchTo = Math.max(end, stored.to());
+            this.window.fetchEvents = stored.events();
+            if (this.window.fetchFrom >= end) {
+                logger.debug("History of %s served from the local cache.", getStock().getTicker());
+                setEvents(stored, start, end);
+                return;
+            }
+        } else {
+            Set<Event> union = EnumSet.copyOf(requested);
+            this.window.fetchFrom = start;
+            this.window.fetchTo = end;
+            if (stored != null) {
+                union.addAll(stored.events());
+                this.window.fetchFrom = Math.min(start, stored.from());
+                this.window.fetchTo = Math.max(end, stored.to());
+            }
+            this.window.fetchEvents = union;
+        }
+
+        super.fetchData();
+
+        if (!this.window.applied && this.window.cached != null) {
+            logger.warn("Could not refresh the cached history of %s. Serving the cached data.", getStock().getTicker());
+            setEvents(this.window.cached, start, end);
+        }
+    }
+
+    /**
+     * Fetches the events without blocking the calling thread.
+     * <p>
+     * When the {@link HistoryCache} is enabled, the cache is read and written on the given executor through
+     * {@link #fetchData()}; otherwise the request is sent asynchronously.
+     */
+    @Override
+    public CompletableFuture<Stock> fetchDataAsync(Executor executor) {
+        if (HistoryCache.getInstance().isEnabled()) {
+            return CompletableFuture.runAsync(this::fetchData, executor).thenApply(ignored -> getStock());
+        }
+        return super.fetchDataAsync(executor);
+    }
+
     @Override
     protected Map<String, String> getRequestParameters() {
         Map<String, String> params = new LinkedHashMap<>();
         DateUtils du = new DateUtils();
         try {
-            params.put("period1", DateUtils.toTimestamp(du.parse(this.startDate)));
-            params.put("period2", DateUtils.toTimestamp(du.parse(this.endDate)));
+            if (this.window != null) {
+                params.put("period1", String.valueOf(this.window.fetchFrom / 1000L));
+                params.put("period2", String.valueOf(this.window.fetchTo / 1000L));
+            } else {
+                params.put("period1", DateUtils.toTimestamp(du.parse(this.startDate)));
+                params.put("period2", DateUtils.toTimestamp(du.parse(this.endDate)));
+            }
             params.put("interval", this.frequency.getName());
             params.put("events", this.getEvents());
             params.put("includeAdjustedClose", "true");
@@ -73,6 +167,32 @@ public class EventsStockData extends AbstractStockDataProvider {
         return params;
     }
 
+    /**
+     * The key of an events request also holds the requested period and events, because with the {@link HistoryCache}
+     * enabled the same URL may be sent to serve different slices of the cached history.
+     */
+    @Override
+    protected String getRequestKey(URI url) {
+        return url + "#" + this.startDate + "|" + this.endDate + "|" + this.events;
+    }
+
+    @Override
+    protected void adopt(Stock source) {
+        if (this.events == null) {
+            return;
+        }
+        if (this.window != null) {
+            this.window.applied = true;
+        }
+        for (Event event : this.events) {
+            switch (event) {
+                case DIVIDENDS -> getStock().setDividendHistory(new ArrayList<>(orEmpty(source.getDividendHistory())));
+                case SPLIT -> getStock().setSplitHistory(new ArrayList<>(orEmpty(source.getSplitHistory())));
+                case HISTORY -> getStock().setQuoteSeries(source.getQuoteSeries() == null ? QuoteSeries.EMPTY : source.getQuoteSeries());
+            }
+        }
+    }
+
     @Override
     protected String getApiUrl() {
         return prepareUrl(RequestParams.STOCKS_QUERY_URL_V8.get().asString());
@@ -80,14 +200,150 @@ public class EventsStockData extends AbstractStockDataProvider {
 
     @Override
     protected void parseApiResponse(String response) {
-        if (this.events != null) {
-            this.events.forEach(event -> {
-                switch (event) {
-                    case DIVIDENDS -> getStock().setDividendHistory(StockDividendData.getInstance().parse(response));
-                    case SPLIT -> getStock().setSplitHistory(StockSplitData.getInstance().parse(response));
-                    case HISTORY -> getStock().setQuoteHistory(HistoricalStockData.getInstance().parse(response));
+        if (this.events == null) {
+            return;
+        }
+
+        JSONObject oResult = null;
+        try {
+            oResult = ChartEventParse.chartResult(response);
+        } catch (Exception e) {
+            logger.warn("Error parsing the API response.", e);
+            fail(e);
+        }
+
+        try {
+            if (oResult == null) {
+                if (this.window == null) {
+                    setEvents(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
                 }
-            });
+                return;
+            }
+            Set<Event> fetched = fetchedEvents();
+            apply(
+                fetched.contains(Event.HISTORY) ? HistoricalStockData.getInstance().parse(oResult) : null,
+                fetched.contains(Event.DIVIDENDS) ? StockDividendData.getInstance().parse(oResult) : null,
+                fetched.contains(Event.SPLIT) ? StockSplitData.getInstance().parse(oResult) : null
+            );
+        } finally {
+            if (oResult != null) oResult.clear();
+        }
+    }
+
+    @Override
+    protected boolean isStreaming() {
+        return ConfigParams.STREAMING_PARSER.get().asBoolean();
+    }
+
+    @Override
+    protected void parseApiResponse(InputStream response) throws IOException {
+        if (this.events != null) {
+            apply(ChartStreamParser.parse(response));
+        }
+    }
+
+    @Override
+    protected boolean isBuffered() {
+        return ConfigParams.POOLED_BUFFERS.get().asBoolean();
+    }
+
+    @Override
+    protected void parseApiResponse(ByteBuffer response) throws IOException {
+        if (this.events != null) {
+            apply(ChartStreamParser.parse(response));
+        }
+    }
+
+    /**
+     * Applies the columns decoded by the {@link ChartStreamParser} to the stock.
+     *
+     * @param columns the decoded chart response.
+     */
+    private void apply(ChartColumns columns) {
+        Set<Event> fetched = fetchedEvents();
+        apply(
+            fetched.contains(Event.HISTORY) ? columns.toQuotes() : null,
+            fetched.contains(Event.DIVIDENDS) ? columns.toDividends() : null,
+            fetched.contains(Event.SPLIT) ? columns.toSplits() : null
+        );
+        logger.info("Stock events parsed successfully for %s", getStock().getTicker());
+    }
+
+    /**
+     * Returns the events actually requested from the API, which may include more events than the requested ones
+     * when the local history cache is being filled.
+     *
+     * @return the events present in the API response.
+     */
+    private Set<Event> fetchedEvents() {
+        return this.window != null ? this.window.fetchEvents : EnumSet.copyOf(this.events);
+    }
+
+    /**
+     * Applies the parsed events to the stock, first merging them into the local history cache when it is enabled.
+     *
+     * @param quotes    the parsed historical quotes, or {@code null} if they were not requested.
+     * @param dividends the parsed dividends, or {@code null} if they were not requested.
+     * @param splits    the parsed splits, or {@code null} if they were not requested.
+     */
+    private void apply(List<StockHistoricalQuote> quotes, List<StockDividend> dividends, List<StockSplit> splits) {
+        if (this.window == null) {
+            setEvents(quotes, dividends, splits);
+            return;
+        }
+
+        long until = Math.min(this.window.fetchTo, System.currentTimeMillis());
+        CachedHistory history = this.window.cached != null
+            ? this.window.cached.merge(until, quotes, dividends, splits)
+            : CachedHistory.of(this.window.fetchFrom, until, this.window.fetchEvents, orEmpty(quotes), orEmpty(dividends), orEmpty(splits));
+        if (history != this.window.cached) {
+            HistoryCache.getInstance().store(getStock().getTicker(), this.frequency, history);
+        }
+
+        this.window.applied = true;
+        setEvents(history, this.window.start, this.window.end);
+    }
+
+    /**
+     * Sets the requested events of the stock to the slice {@code [start, end)} of a cached history.
+     */
+    private void setEvents(CachedHistory history, long start, long end) {
+        setEvents(history.quotesBetween(start, end), history.dividendsBetween(start, end), history.splitsBetween(start, end));
+    }
+
+    /**
+     * Sets the requested events of the stock.
+     */
+    private void setEvents(List<StockHistoricalQuote> quotes, List<StockDividend> dividends, List<StockSplit> splits) {
+        for (Event event : this.events) {
+            switch (event) {
+                case DIVIDENDS -> getStock().setDividendHistory(orEmpty(dividends));
+                case SPLIT -> getStock().setSplitHistory(orEmpty(splits));
+                case HISTORY -> getStock().setQuoteHistory(orEmpty(quotes));
+            }
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? new ArrayList<>() : list;
+    }
+
+    /**
+     * The period and events requested from the API when the local history cache is enabled.
+     */
+    private static final class CacheWindow {
+
+        private final long start;
+        private final long end;
+        private long fetchFrom;
+        private long fetchTo;
+        private Set<Event> fetchEvents;
+        private CachedHistory cached;
+        private boolean applied;
+
+        private CacheWindow(long start, long end) {
+            this.start = start;
+            this.end = end;
         }
     }
 }
@@ -2,20 +2,23 @@ package br.dev.rplus.finv.provider;
 
 import br.dev.rplus.cup.log.Logger;
 import br.dev.rplus.cup.utils.Parser;
+import br.dev.rplus.finv.data.QuoteSeries;
 import br.dev.rplus.finv.data.StockHistoricalQuote;
-import br.dev.rplus.cup.utils.DateUtils;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
  * Singleton class that fetches and parses historical stock data from an API response.
  * <p>
- * Implements the {@link EventParse} interface to convert the API response into a list of {@link StockHistoricalQuote} objects.
+ * Implements the {@link ChartEventParse} interface to convert the API response into a list of {@link StockHistoricalQuote} objects,
+ * backed by a columnar {@link QuoteSeries}.
  * This class extracts information such as open, close, high, low, volume, and adjusted close prices for a stock within a given time range.
  */
-public class HistoricalStockData implements EventParse<StockHistoricalQuote> {
+public class HistoricalStockData implements ChartEventParse<StockHistoricalQuote> {
 
     private static HistoricalStockData instance;
     private final Logger logger = Logger.getInstance();
@@ -38,19 +41,21 @@ public class HistoricalStockData implements EventParse<StockHistoricalQuote> {
     }
 
     @Override
-    public List<StockHistoricalQuote> parse(String response) {
-        List<StockHistoricalQuote> historicalQuotes = new ArrayList<>();
-        JSONObject oResponse = null;
+    public List<StockHistoricalQuote> parse(JSONObject oResult) {
+        return parseSeries(oResult).asList();
+    }
 
+    /**
+     * Parses the quotes of a chart result straight into a columnar {@link QuoteSeries}.
+     *
+     * @param oResult the first element of {@code chart.result}.
+     * @return the parsed series, empty if the result cannot be parsed.
+     */
+    public QuoteSeries parseSeries(JSONObject oResult) {
         try {
-            oResponse = new JSONObject(response)
-                .getJSONObject("chart")
-                .getJSONArray("result")
-                .getJSONObject(0);
+            JSONArray timestamps = oResult.getJSONArray("timestamp");
 
-            JSONArray timestamps = oResponse.getJSONArray("timestamp");
-
-            JSONObject oQuote = oResponse.getJSONObject("indicators")
+            JSONObject oQuote = oResult.getJSONObject("indicators")
                 .getJSONArray("quote")
                 .getJSONObject(0);
 
@@ -60,29 +65,87 @@ public class HistoricalStockData implements EventParse<StockHistoricalQuote> {
             JSONArray lowArray = oQuote.getJSONArray("low");
             JSONArray volumeArray = oQuote.getJSONArray("volume");
 
-            JSONArray adjCloseArray = oResponse.getJSONObject("indicators")
+            JSONArray adjCloseArray = oResult.getJSONObject("indicators")
                 .getJSONArray("adjclose")
                 .getJSONObject(0)
                 .getJSONArray("adjclose");
 
-            for (int i = 0; i < timestamps.length(); i++) {
-                StockHistoricalQuote historicalQuote = new StockHistoricalQuote(
-                    DateUtils.fromTimestamp(String.valueOf(timestamps.get(i))),
-                    Parser.toDouble(openArray.get(i)),
-                    Parser.toDouble(closeArray.get(i)),
-                    Parser.toDouble(adjCloseArray.get(i)),
-                    Parser.toDouble(lowArray.get(i)),
-                    Parser.toDouble(highArray.get(i)),
-                    Parser.toLong(volumeArray.get(i))
-                );
-                historicalQuotes.add(historicalQuote);
+            int size = timestamps.length();
+            long[] epochSeconds = new long[size];
+            double[] open = new double[size];
+            double[] high = new double[size];
+            double[] low = new double[size];
+            double[] close = new double[size];
+            double[] adjClose = new double[size];
+            long[] volume = new long[size];
+
+            for (int i = 0; i < size; i++) {
+                epochSeconds[i] = timestamps.getLong(i);
+                open[i] = Parser.toDouble(openArray.get(i));
+                close[i] = Parser.toDouble(closeArray.get(i));
+                adjClose[i] = Parser.toDouble(adjCloseArray.get(i));
+                low[i] = Parser.toDouble(lowArray.get(i));
+                high[i] = Parser.toDouble(highArray.get(i));
+                Long barVolume = Parser.toLong(volumeArray.get(i));
+                volume[i] = barVolume == null ? 0L : barVolume;
             }
             this.logger.info("Historical stock quotes fetched successfully.");
+            return new QuoteSeries(epochSeconds, open, high, low, close, adjClose, volume);
+        } catch (Exception e) {
+            this.logger.warn("Error parsing the API response.", e);
+            return QuoteSeries.EMPTY;
+        }
+    }
+
+    /**
+     * Parses a chart response with the streaming parser, reading it directly from the given stream.
+     * <p>
+     * The price and volume arrays are decoded straight into primitive arrays, without building a JSON tree.
+     *
+     * @param response the stream of the API response body, encoded as UTF-8. It is not closed.
+     * @return the list of parsed historical quotes, empty if the response cannot be parsed.
+     */
+    public List<StockHistoricalQuote> parse(InputStream response) {
+        return parseSeries(response).asList();
+    }
+
+    /**
+     * Parses a chart response with the streaming parser into a columnar {@link QuoteSeries}.
+     *
+     * @param response the stream of the API response body, encoded as UTF-8. It is not closed.
+     * @return the parsed series, empty if the response cannot be parsed.
+     */
+    public QuoteSeries parseSeries(InputStream response) {
+        try {
+            return ChartStreamParser.parse(response).toQuoteSeries();
+        } catch (Exception e) {
+            this.logger.warn("Error parsing the API response.", e);
+            return QuoteSeries.EMPTY;
+        }
+    }
+
+    /**
+     * Parses a chart response with the streaming parser, reading it in place from the given buffer.
+     *
+     * @param response the buffer holding the API response body, encoded as UTF-8. Its position is not modified.
+     * @return the list of parsed historical quotes, empty if the response cannot be parsed.
+     */
+    public List<StockHistoricalQuote> parse(ByteBuffer response) {
+        return parseSeries(response).asList();
+    }
+
+    /**
+     * Parses a chart response with the streaming parser into a columnar {@link QuoteSeries}, reading it in place.
+     *
+     * @param response the buffer holding the API response body, encoded as UTF-8. Its position is not modified.
+     * @return the parsed series, empty if the response cannot be parsed.
+     */
+    public QuoteSeries parseSeries(ByteBuffer response) {
+        try {
+            return ChartStreamParser.parse(response).toQuoteSeries();
         } catch (Exception e) {
             this.logger.warn("Error parsing the API response.", e);
-        } finally {
-            if (oResponse != null) oResponse.clear();
+            return QuoteSeries.EMPTY;
         }
-        return historicalQuotes;
     }
 }
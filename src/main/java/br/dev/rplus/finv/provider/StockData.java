@@ -1,11 +1,10 @@
 package br.dev.rplus.finv.provider;
 
-import br.dev.rplus.cup.utils.DateUtils;
 import br.dev.rplus.cup.utils.Parser;
 import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.StockDescriptor;
 import br.dev.rplus.finv.data.StockQuote;
 import br.dev.rplus.finv.enums.RequestParams;
-import br.dev.rplus.finv.provider.yahoo.CrumbYahoo;
 import org.json.JSONObject;
 
 import java.util.LinkedHashMap;
@@ -36,18 +35,24 @@ public class StockData extends AbstractStockDataProvider {
 
     @Override
     protected Map<String, String> getRequestParameters() {
-        Map<String, String> params = new LinkedHashMap<>();
-        try {
-            params.put("crumb", CrumbYahoo.getCrumb());
-        } catch (Exception e) {
-            logger.warn("Error building the request parameters.", e);
-        }
-        return params;
+        return new LinkedHashMap<>();
+    }
+
+    @Override
+    protected boolean requiresCrumb() {
+        return true;
+    }
+
+    @Override
+    protected void adopt(Stock source) {
+        Stock stock = getStock();
+        stock.setName(source.getName());
+        stock.setDescriptor(source.getDescriptor());
+        stock.setQuote(source.getQuote());
     }
 
     @Override
     protected void parseApiResponse(String response) {
-        StockQuote stockQuote;
         JSONObject oResponse = null;
 
         try {
@@ -57,35 +62,52 @@ public class StockData extends AbstractStockDataProvider {
                 .getJSONObject(0)
                 .getJSONObject("quote");
 
-            getStock().setName(oResponse.optString("longName"));
-            getStock().setCurrency(oResponse.optString("currency"));
-            getStock().setMarket(oResponse.optString("fullExchangeName"));
-            getStock().setMarketState(oResponse.optString("marketState"));
-            getStock().setQuoteType(oResponse.optString("quoteType"));
-            getStock().setRegion(oResponse.optString("region"));
-            getStock().setExchangeTimezone(oResponse.optString("exchangeTimezoneName"));
-            getStock().setQuoteSource(oResponse.optString("quoteSourceName"));
-
-            stockQuote = new StockQuote(
-                DateUtils.fromTimestamp(String.valueOf(oResponse.get("regularMarketTime"))),
-                Parser.toDouble(oResponse.get("regularMarketPrice")),
-                Parser.toDouble(oResponse.get("regularMarketChange")),
-                Parser.toDouble(oResponse.get("regularMarketOpen")),
-                Parser.toDouble(oResponse.get("regularMarketPreviousClose")),
-                Parser.toDouble(oResponse.get("regularMarketDayLow")),
-                Parser.toDouble(oResponse.get("regularMarketDayHigh")),
-                Parser.toLong(oResponse.get("regularMarketVolume")),
-                Parser.toDouble(oResponse.get("bid")),
-                Parser.toDouble(oResponse.get("ask"))
-            );
-            getStock().setQuote(stockQuote);
+            populate(getStock(), oResponse);
 
             logger.info("Stock data fetched successfully for %s", getStock().getTicker());
         } catch (Exception e) {
             logger.warn("Error parsing the API response.", e);
             logger.warn("The stock ticker might be invalid: %s. Please check the ticker and try again.", getStock().getTicker());
+            fail(e);
         } finally {
             if (oResponse != null) oResponse.clear();
         }
     }
+
+    /**
+     * Populates the given {@link Stock} with the information and the {@link StockQuote} contained in a quote object.
+     * <p>
+     * Both the single stock endpoint and the batched quote endpoint return quote objects with the same layout,
+     * so this method is shared with {@link BatchStockData}. The market metadata is resolved to a shared
+     * {@link StockDescriptor}, so stocks of the same market do not keep their own copies of it.
+     *
+     * @param stock  the stock to be populated.
+     * @param oQuote the JSON quote object returned by the API.
+     */
+    static void populate(Stock stock, JSONObject oQuote) {
+        stock.setName(oQuote.optString("longName"));
+        stock.setDescriptor(StockDescriptor.of(
+            oQuote.optString("currency"),
+            oQuote.optString("fullExchangeName"),
+            oQuote.optString("marketState"),
+            oQuote.optString("quoteType"),
+            oQuote.optString("region"),
+            oQuote.optString("exchangeTimezoneName"),
+            oQuote.optString("quoteSourceName")
+        ));
+
+        StockQuote stockQuote = new StockQuote(
+            oQuote.getLong("regularMarketTime") * 1000L,
+            Parser.toDouble(oQuote.get("regularMarketPrice")),
+            Parser.toDouble(oQuote.get("regularMarketChange")),
+            Parser.toDouble(oQuote.get("regularMarketOpen")),
+            Parser.toDouble(oQuote.get("regularMarketPreviousClose")),
+            Parser.toDouble(oQuote.get("regularMarketDayLow")),
+            Parser.toDouble(oQuote.get("regularMarketDayHigh")),
+            Parser.toLong(oQuote.get("regularMarketVolume")),
+            Parser.toDouble(oQuote.get("bid")),
+            Parser.toDouble(oQuote.get("ask"))
+        );
+        stock.setQuote(stockQuote);
+    }
 }
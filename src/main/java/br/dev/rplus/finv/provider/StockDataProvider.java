@@ -2,6 +2,9 @@ package br.dev.rplus.finv.provider;
 
 import br.dev.rplus.finv.Stock;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Defines the contract for fetching stock data from external APIs.
  * Implementations of this interface should handle the process of building requests,
@@ -16,6 +19,20 @@ public interface StockDataProvider {
      */
     void fetchData();
 
+    /**
+     * Fetches stock data without blocking the calling thread.
+     * <p>
+     * The default implementation runs {@link #fetchData()} on the given executor. Implementations that can send
+     * their requests asynchronously should override it, so that no thread is held while waiting for the response.
+     * As with {@link #fetchData()}, errors are logged and the returned future still completes with the stock.
+     *
+     * @param executor the executor used to build the request and parse the response.
+     * @return a {@link CompletableFuture} completed with the populated {@link Stock}.
+     */
+    default CompletableFuture<Stock> fetchDataAsync(Executor executor) {
+        return CompletableFuture.runAsync(this::fetchData, executor).thenApply(ignored -> getStock());
+    }
+
     /**
      * Retrieves the {@link Stock} object associated with the provider.
      * This object is populated with data fetched from the external API.
@@ -1,7 +1,6 @@
 package br.dev.rplus.finv.provider;
 
 import br.dev.rplus.cup.log.Logger;
-import br.dev.rplus.cup.utils.DateUtils;
 import br.dev.rplus.cup.utils.Parser;
 import br.dev.rplus.finv.data.StockDividend;
 import org.json.JSONObject;
@@ -11,10 +10,10 @@ import java.util.*;
 /**
  * Singleton class responsible for fetching and parsing stock dividend data from the API.
  * <p>
- * This class implements the {@link EventParse} interface to transform the API response into a list of {@link StockDividend} objects.
+ * This class implements the {@link ChartEventParse} interface to transform the API response into a list of {@link StockDividend} objects.
  * It extracts dividend-related information, such as the amount and date, from the response JSON.
  */
-public class StockDividendData implements EventParse<StockDividend> {
+public class StockDividendData implements ChartEventParse<StockDividend> {
 
     private static StockDividendData instance;
     private final Logger logger = Logger.getInstance();
@@ -37,34 +36,27 @@ public class StockDividendData implements EventParse<StockDividend> {
     }
 
     @Override
-    public List<StockDividend> parse(String response) {
+    public List<StockDividend> parse(JSONObject oResult) {
         List<StockDividend> dividends = new ArrayList<>();
-        JSONObject oResponse = null;
 
         try {
-            oResponse = new JSONObject(response)
-                .getJSONObject("chart")
-                .getJSONArray("result")
-                .getJSONObject(0)
-                .getJSONObject("events");
+            JSONObject oEvents = oResult.getJSONObject("events");
 
-            if (oResponse.has("dividends")) {
-                JSONObject oDividends = oResponse.getJSONObject("dividends");
+            if (oEvents.has("dividends")) {
+                JSONObject oDividends = oEvents.getJSONObject("dividends");
 
                 for (String timestamp : oDividends.keySet()) {
                     JSONObject dividendInfo = oDividends.getJSONObject(timestamp);
 
                     double amount = Parser.toDouble(dividendInfo.get("amount"));
-                    Date date = DateUtils.fromTimestamp(timestamp);
+                    long epochSeconds = dividendInfo.has("date") ? dividendInfo.getLong("date") : Long.parseLong(timestamp);
 
-                    dividends.add(new StockDividend(amount, date));
+                    dividends.add(new StockDividend(amount, epochSeconds * 1000L));
                 }
             }
             this.logger.info("Dividend data fetched successfully.");
         } catch (Exception e) {
             this.logger.warn("Error parsing the API response.", e);
-        } finally {
-            if (oResponse != null) oResponse.clear();
         }
         return dividends;
     }
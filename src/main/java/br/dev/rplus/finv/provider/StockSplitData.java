@@ -2,7 +2,6 @@ package br.dev.rplus.finv.provider;
 
 import br.dev.rplus.cup.log.Logger;
 import br.dev.rplus.finv.data.StockSplit;
-import br.dev.rplus.cup.utils.DateUtils;
 import org.json.JSONObject;
 
 import java.util.*;
@@ -10,10 +9,10 @@ import java.util.*;
 /**
  * Singleton class responsible for fetching and parsing stock split data from the API.
  * <p>
- * This class implements the {@link EventParse} interface to transform the API response into a list of {@link StockSplit} objects.
+ * This class implements the {@link ChartEventParse} interface to transform the API response into a list of {@link StockSplit} objects.
  * It extracts stock split events, including the split ratio and the corresponding date, from the response JSON.
  */
-public class StockSplitData implements EventParse<StockSplit> {
+public class StockSplitData implements ChartEventParse<StockSplit> {
 
     private static StockSplitData instance;
     private final Logger logger = Logger.getInstance();
@@ -36,33 +35,25 @@ public class StockSplitData implements EventParse<StockSplit> {
     }
 
     @Override
-    public List<StockSplit> parse(String response) {
+    public List<StockSplit> parse(JSONObject oResult) {
         List<StockSplit> splits = new ArrayList<>();
-        JSONObject oResponse = null;
 
         try {
-            oResponse = new JSONObject(response)
-                .getJSONObject("chart")
-                .getJSONArray("result")
-                .getJSONObject(0);
-
-            if (oResponse.has("events") && oResponse.getJSONObject("events").has("splits")) {
-                JSONObject oSplits = oResponse.getJSONObject("events").getJSONObject("splits");
+            if (oResult.has("events") && oResult.getJSONObject("events").has("splits")) {
+                JSONObject oSplits = oResult.getJSONObject("events").getJSONObject("splits");
 
                 for (String timestamp : oSplits.keySet()) {
                     JSONObject splitInfo = oSplits.getJSONObject(timestamp);
 
                     String splitRatio = splitInfo.getString("splitRatio");
-                    Date date = DateUtils.fromTimestamp(timestamp);
+                    long epochSeconds = splitInfo.has("date") ? splitInfo.getLong("date") : Long.parseLong(timestamp);
 
-                    splits.add(new StockSplit(splitRatio, date));
+                    splits.add(new StockSplit(splitRatio, epochSeconds * 1000L));
                 }
             }
             this.logger.info("Stock split data parsed successfully.");
         } catch (Exception e) {
             this.logger.warn("Error parsing the API response.", e);
-        } finally {
-            if (oResponse != null) oResponse.clear();
         }
         return splits;
     }
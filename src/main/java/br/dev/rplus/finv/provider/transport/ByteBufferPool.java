@@ -0,0 +1,90 @@
+package br.dev.rplus.finv.provider.transport;
+
+import br.dev.rplus.finv.enums.ConfigParams;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Singleton pool of direct {@link ByteBuffer}s used to receive response bodies.
+ * <p>
+ * Buffers are grouped in power-of-two size classes, from 16 KiB to 64 MiB, and each class keeps at most
+ * {@link ConfigParams#BUFFER_POOL_SIZE} idle buffers. Larger requests are served with buffers that are not pooled.
+ * Direct buffers are expensive to allocate and are only reclaimed by the garbage collector, so reusing them keeps
+ * polling workers from allocating a new body for every response.
+ */
+public final class ByteBufferPool {
+
+    private static final int MIN_SHIFT = 14;
+    private static final int MAX_SHIFT = 26;
+
+    private static ByteBufferPool instance;
+    private final List<ArrayBlockingQueue<ByteBuffer>> classes;
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private ByteBufferPool() {
+        this(ConfigParams.BUFFER_POOL_SIZE.get().asInteger());
+    }
+
+    /**
+     * Constructs a pool keeping at most the given number of idle buffers per size class.
+     *
+     * @param buffersPerClass the maximum number of idle buffers of each size class.
+     */
+    ByteBufferPool(int buffersPerClass) {
+        List<ArrayBlockingQueue<ByteBuffer>> classes = new ArrayList<>(MAX_SHIFT - MIN_SHIFT + 1);
+        for (int shift = MIN_SHIFT; shift <= MAX_SHIFT; shift++) {
+            classes.add(new ArrayBlockingQueue<>(Math.max(1, buffersPerClass)));
+        }
+        this.classes = List.copyOf(classes);
+    }
+
+    /**
+     * Returns the singleton instance of {@code ByteBufferPool}.
+     *
+     * @return the singleton instance of {@code ByteBufferPool}.
+     */
+    public static synchronized ByteBufferPool getInstance() {
+        if (instance == null) {
+            instance = new ByteBufferPool();
+        }
+        return instance;
+    }
+
+    /**
+     * Takes a cleared direct buffer with at least the given capacity from the pool, allocating one if none is idle.
+     *
+     * @param minCapacity the minimum capacity of the buffer, in bytes.
+     * @return a buffer positioned at zero, with its limit set to its capacity.
+     */
+    public ByteBuffer acquire(int minCapacity) {
+        int shift = Math.max(MIN_SHIFT, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, minCapacity) - 1));
+        if (shift > MAX_SHIFT) {
+            return ByteBuffer.allocateDirect(minCapacity);
+        }
+        ByteBuffer buffer = this.classes.get(shift - MIN_SHIFT).poll();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(1 << shift);
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers that were not taken from a pool, or that would exceed the limit of idle
+     * buffers, are left to the garbage collector.
+     * <p>
+     * The buffer, and any view of it, must not be used after it is released.
+     *
+     * @param buffer the buffer to be released.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || buffer.isReadOnly() || Integer.bitCount(buffer.capacity()) != 1) {
+            return;
+        }
+        int shift = Integer.numberOfTrailingZeros(buffer.capacity());
+        if (shift >= MIN_SHIFT && shift <= MAX_SHIFT) {
+            this.classes.get(shift - MIN_SHIFT).offer(buffer.clear());
+        }
+    }
+}
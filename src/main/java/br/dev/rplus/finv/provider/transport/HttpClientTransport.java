@@ -0,0 +1,185 @@
+package br.dev.rplus.finv.provider.transport;
+
+import br.dev.rplus.finv.enums.RequestParams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Singleton {@link HttpTransport} backed by a single, shared {@link HttpClient}.
+ * <p>
+ * The client keeps its connections alive and pools them per host, and it negotiates HTTP/2 when the server supports it,
+ * multiplexing concurrent requests over the same connection. TCP setup and TLS handshakes are therefore paid once per
+ * host instead of once per request.
+ */
+public class HttpClientTransport implements HttpTransport {
+
+    private static HttpClientTransport instance;
+    private final HttpClient client;
+    private final Duration timeout;
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private HttpClientTransport() {
+        this(HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofMillis(RequestParams.TIMEOUT.get().asInteger()))
+            .build());
+    }
+
+    /**
+     * Creates a transport backed by the given client.
+     * <p>
+     * Used by the benchmarks to plug in a client with a custom {@link javax.net.ssl.SSLContext}.
+     *
+     * @param client the client used to send the requests.
+     */
+    HttpClientTransport(HttpClient client) {
+        this.client = client;
+        this.timeout = Duration.ofMillis(RequestParams.TIMEOUT.get().asInteger());
+    }
+
+    /**
+     * Returns the singleton instance of {@code HttpClientTransport}.
+     *
+     * @return the singleton instance of {@code HttpClientTransport}.
+     */
+    public static synchronized HttpClientTransport getInstance() {
+        if (instance == null) {
+            instance = new HttpClientTransport();
+        }
+        return instance;
+    }
+
+    @Override
+    public TransportResponse send(URI url, Map<String, String> headers) throws IOException {
+        try {
+            return toResponse(this.client.send(buildRequest(url, headers), HttpResponse.BodyHandlers.ofString()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response of " + url);
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(URI url, Map<String, String> headers) {
+        return this.client.sendAsync(buildRequest(url, headers), HttpResponse.BodyHandlers.ofString())
+            .thenApply(HttpClientTransport::toResponse);
+    }
+
+    @Override
+    public InputStream sendStreaming(URI url, Map<String, String> headers) throws IOException {
+        try {
+            HttpResponse<InputStream> response = this.client.send(buildRequest(url, headers), HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                response.body().close();
+                throw new HttpStatusException(response.statusCode());
+            }
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response of " + url);
+        }
+    }
+
+    @Override
+    public PooledBody sendBuffered(URI url, Map<String, String> headers) throws IOException {
+        try {
+            HttpResponse<PooledBody> response = this.client.send(buildRequest(url, headers), info ->
+                info.statusCode() < 200 || info.statusCode() >= 300
+                    ? HttpResponse.BodySubscribers.replacing(null)
+                    : new PooledBodySubscriber(info.headers().firstValueAsLong("Content-Length").orElse(-1L)));
+            if (response.body() == null) {
+                throw new HttpStatusException(response.statusCode());
+            }
+            return response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response of " + url);
+        }
+    }
+
+    /**
+     * Builds a GET request with the given headers.
+     *
+     * @param url     the full URL of the request.
+     * @param headers the request headers. Headers with a {@code null} value are skipped.
+     * @return the built request.
+     */
+    private HttpRequest buildRequest(URI url, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(url)
+            .timeout(this.timeout)
+            .GET();
+        headers.forEach((name, value) -> {
+            if (value != null) {
+                builder.header(name, value);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Converts a {@link HttpResponse} into a {@link TransportResponse}.
+     *
+     * @param response the response received by the client.
+     * @return the converted response.
+     */
+    private static TransportResponse toResponse(HttpResponse<String> response) {
+        return new TransportResponse(response.statusCode(), response.body(), response.headers());
+    }
+
+    /**
+     * Body subscriber that copies every chunk received by the client into a {@link PooledBody}.
+     */
+    private static final class PooledBodySubscriber implements HttpResponse.BodySubscriber<PooledBody> {
+
+        private final CompletableFuture<PooledBody> result = new CompletableFuture<>();
+        private final PooledBody body;
+
+        private PooledBodySubscriber(long expectedSize) {
+            this.body = new PooledBody(expectedSize);
+        }
+
+        @Override
+        public CompletionStage<PooledBody> getBody() {
+            return this.result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            for (ByteBuffer item : items) {
+                this.body.append(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.body.close();
+            this.result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.result.complete(this.body);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package br.dev.rplus.finv.provider.transport;
+
+import java.io.IOException;
+
+/**
+ * Signals that the server answered a request with an unsuccessful HTTP status code.
+ * <p>
+ * Thrown by the methods of {@link HttpTransport} that do not return the whole {@link TransportResponse},
+ * such as {@link HttpTransport#sendStreaming}, so that callers can still react to the status code.
+ */
+public class HttpStatusException extends IOException {
+
+    private final int statusCode;
+
+    /**
+     * Constructs a new {@code HttpStatusException}.
+     *
+     * @param statusCode the HTTP status code of the response.
+     */
+    public HttpStatusException(int statusCode) {
+        super("The API answered with HTTP status " + statusCode + ".");
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Returns the HTTP status code of the response.
+     *
+     * @return the HTTP status code.
+     */
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+}
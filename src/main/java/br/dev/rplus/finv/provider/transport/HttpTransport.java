@@ -0,0 +1,76 @@
+package br.dev.rplus.finv.provider.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Defines the contract for sending HTTP GET requests to the external APIs.
+ * <p>
+ * Implementations are shared by every data provider, so they must be thread-safe. The transport used by the library
+ * can be replaced through {@link HttpTransports#setDefault(HttpTransport)}.
+ */
+public interface HttpTransport {
+
+    /**
+     * Sends a GET request and waits for its response.
+     *
+     * @param url     the full URL of the request, including its parameters.
+     * @param headers the request headers.
+     * @return the response of the request.
+     * @throws IOException if the request could not be sent or its response could not be read.
+     */
+    TransportResponse send(URI url, Map<String, String> headers) throws IOException;
+
+    /**
+     * Sends a GET request without blocking the calling thread.
+     *
+     * @param url     the full URL of the request, including its parameters.
+     * @param headers the request headers.
+     * @return a {@link CompletableFuture} completed with the response of the request.
+     */
+    CompletableFuture<TransportResponse> sendAsync(URI url, Map<String, String> headers);
+
+    /**
+     * Sends a GET request and returns its body as a stream, so that it can be parsed while it is being received.
+     * <p>
+     * The default implementation buffers the whole body; implementations should override it when they can stream it.
+     * The caller is responsible for closing the returned stream.
+     *
+     * @param url     the full URL of the request, including its parameters.
+     * @param headers the request headers.
+     * @return the response body.
+     * @throws HttpStatusException if the server answers with an unsuccessful status code.
+     * @throws IOException if the request fails.
+     */
+    default InputStream sendStreaming(URI url, Map<String, String> headers) throws IOException {
+        TransportResponse response = send(url, headers);
+        if (!response.isSuccessful()) {
+            throw new HttpStatusException(response.statusCode());
+        }
+        return new ByteArrayInputStream(response.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends a GET request and receives its body into a direct buffer taken from the {@link ByteBufferPool}.
+     * <p>
+     * The default implementation copies the stream returned by {@link #sendStreaming(URI, Map)}; implementations
+     * should override it when they can write the received bytes straight into the pooled buffer.
+     * The caller is responsible for closing the returned body, which returns its buffer to the pool.
+     *
+     * @param url     the full URL of the request, including its parameters.
+     * @param headers the request headers.
+     * @return the response body.
+     * @throws HttpStatusException if the server answers with an unsuccessful status code.
+     * @throws IOException if the request fails.
+     */
+    default PooledBody sendBuffered(URI url, Map<String, String> headers) throws IOException {
+        try (InputStream in = sendStreaming(url, headers)) {
+            return PooledBody.read(in);
+        }
+    }
+}
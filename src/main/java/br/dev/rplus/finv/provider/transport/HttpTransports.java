@@ -0,0 +1,48 @@
+package br.dev.rplus.finv.provider.transport;
+
+import br.dev.rplus.finv.enums.RequestParams;
+
+/**
+ * Holds the {@link HttpTransport} used by the data providers of the library.
+ * <p>
+ * The initial transport is selected by {@link RequestParams#TRANSPORT} and can be replaced at runtime, for example
+ * to plug in a custom client or a stub in tests.
+ */
+public final class HttpTransports {
+
+    private static volatile HttpTransport defaultTransport;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HttpTransports() {}
+
+    /**
+     * Returns the transport currently used by the library.
+     *
+     * @return the default {@link HttpTransport}.
+     */
+    public static HttpTransport getDefault() {
+        HttpTransport transport = defaultTransport;
+        if (transport == null) {
+            synchronized (HttpTransports.class) {
+                if (defaultTransport == null) {
+                    defaultTransport = "legacy".equalsIgnoreCase(RequestParams.TRANSPORT.get().asString())
+                        ? LegacyHttpTransport.getInstance()
+                        : HttpClientTransport.getInstance();
+                }
+                transport = defaultTransport;
+            }
+        }
+        return transport;
+    }
+
+    /**
+     * Replaces the transport used by the library.
+     *
+     * @param transport the new default {@link HttpTransport}.
+     */
+    public static void setDefault(HttpTransport transport) {
+        defaultTransport = transport;
+    }
+}
@@ -0,0 +1,90 @@
+package br.dev.rplus.finv.provider.transport;
+
+import br.dev.rplus.cup.request.HttpRequester;
+import br.dev.rplus.finv.enums.RequestParams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Singleton {@link HttpTransport} that sends every request through {@link HttpRequester}, opening a new
+ * {@link HttpURLConnection} each time.
+ * <p>
+ * This is the transport used by previous versions of the library. It is kept for environments where
+ * {@link HttpClientTransport} cannot be used, and as a baseline for benchmarks.
+ */
+public class LegacyHttpTransport implements HttpTransport {
+
+    private static LegacyHttpTransport instance;
+    private final Executor executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private LegacyHttpTransport() {}
+
+    /**
+     * Returns the singleton instance of {@code LegacyHttpTransport}.
+     *
+     * @return the singleton instance of {@code LegacyHttpTransport}.
+     */
+    public static synchronized LegacyHttpTransport getInstance() {
+        if (instance == null) {
+            instance = new LegacyHttpTransport();
+        }
+        return instance;
+    }
+
+    @Override
+    public TransportResponse send(URI url, Map<String, String> headers) throws IOException {
+        HttpURLConnection conn = HttpRequester.builder()
+            .url(url)
+            .method(HttpRequester.HttpMethod.GET)
+            .connectionTimeout(RequestParams.TIMEOUT.get().asInteger())
+            .headers(headers.entrySet().stream()
+                .filter(header -> header.getValue() != null)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+            .sendRaw();
+
+        try {
+            int statusCode = conn.getResponseCode();
+            InputStream stream = statusCode < HttpURLConnection.HTTP_BAD_REQUEST ? conn.getInputStream() : conn.getErrorStream();
+            String body = "";
+            if (stream != null) {
+                try (stream) {
+                    body = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+
+            Map<String, List<String>> headerFields = conn.getHeaderFields().entrySet().stream()
+                .filter(header -> Objects.nonNull(header.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            return new TransportResponse(statusCode, body, HttpHeaders.of(headerFields, (name, value) -> true));
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(URI url, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return send(url, headers);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, this.executor);
+    }
+}
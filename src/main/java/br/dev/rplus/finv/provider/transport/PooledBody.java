@@ -0,0 +1,114 @@
+package br.dev.rplus.finv.provider.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A response body held in a direct buffer taken from the {@link ByteBufferPool}.
+ * <p>
+ * The body grows by moving to a larger pooled buffer when needed. Closing it returns its buffer to the pool, so the
+ * views returned by {@link #buffer()} must not be used afterwards. Instances are not thread-safe.
+ */
+public final class PooledBody implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private final ByteBufferPool pool;
+    private ByteBuffer buffer;
+
+    /**
+     * Constructs an empty body.
+     *
+     * @param expectedSize the expected size of the body in bytes, or a negative value if it is unknown.
+     */
+    public PooledBody(long expectedSize) {
+        this(ByteBufferPool.getInstance(), expectedSize);
+    }
+
+    /**
+     * Constructs an empty body whose buffers are taken from the given pool.
+     *
+     * @param pool         the pool of the buffers.
+     * @param expectedSize the expected size of the body in bytes, or a negative value if it is unknown.
+     */
+    PooledBody(ByteBufferPool pool, long expectedSize) {
+        this.pool = pool;
+        this.buffer = this.pool.acquire(expectedSize > 0 && expectedSize <= Integer.MAX_VALUE ? (int) expectedSize : DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Reads a whole stream into a new pooled body. The stream is not closed.
+     *
+     * @param in the stream to be read.
+     * @return the body holding every byte of the stream.
+     * @throws IOException if the stream cannot be read.
+     */
+    public static PooledBody read(InputStream in) throws IOException {
+        PooledBody body = new PooledBody(-1);
+        try {
+            ReadableByteChannel channel = Channels.newChannel(in);
+            while (true) {
+                if (!body.buffer.hasRemaining()) {
+                    body.grow(body.buffer.capacity() + 1);
+                }
+                if (channel.read(body.buffer) < 0) {
+                    return body;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            body.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the remaining bytes of the given buffer to the body.
+     *
+     * @param data the bytes to be appended. Its position is moved to its limit.
+     */
+    public void append(ByteBuffer data) {
+        if (data.remaining() > this.buffer.remaining()) {
+            grow(this.buffer.position() + data.remaining());
+        }
+        this.buffer.put(data);
+    }
+
+    /**
+     * Returns a read-only view of the received bytes, positioned at the start of the body.
+     *
+     * @return the body, valid until this object is closed.
+     */
+    public ByteBuffer buffer() {
+        return this.buffer.asReadOnlyBuffer().flip();
+    }
+
+    /**
+     * Returns the number of bytes received.
+     *
+     * @return the size of the body in bytes.
+     */
+    public int size() {
+        return this.buffer.position();
+    }
+
+    /**
+     * Returns the buffer of the body to the pool.
+     */
+    @Override
+    public void close() {
+        if (this.buffer != null) {
+            this.pool.release(this.buffer);
+            this.buffer = null;
+        }
+    }
+
+    private void grow(int minCapacity) {
+        ByteBuffer larger = this.pool.acquire(Math.max(minCapacity, this.buffer.capacity() << 1));
+        larger.put(this.buffer.flip());
+        this.pool.release(this.buffer);
+        this.buffer = larger;
+    }
+}
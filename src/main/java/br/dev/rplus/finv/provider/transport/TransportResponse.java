@@ -0,0 +1,38 @@
+package br.dev.rplus.finv.provider.transport;
+
+import java.net.HttpURLConnection;
+import java.net.http.HttpHeaders;
+import java.util.Optional;
+
+/**
+ * TransportResponse is a record that represents the response of an HTTP request sent through a {@link HttpTransport}.
+ *
+ * @param statusCode the HTTP status code of the response.
+ * @param body the response body, decoded as UTF-8.
+ * @param headers the response headers.
+ */
+public record TransportResponse(
+        int statusCode,
+        String body,
+        HttpHeaders headers
+) {
+
+    /**
+     * Checks whether the response has a successful (2xx) status code.
+     *
+     * @return {@code true} if the status code is in the 2xx range, {@code false} otherwise.
+     */
+    public boolean isSuccessful() {
+        return statusCode >= HttpURLConnection.HTTP_OK && statusCode < HttpURLConnection.HTTP_MULT_CHOICE;
+    }
+
+    /**
+     * Retrieves the first value of the given header, ignoring the case of its name.
+     *
+     * @param name the name of the header.
+     * @return an {@link Optional} with the first value of the header, or empty if it is not present.
+     */
+    public Optional<String> firstHeader(String name) {
+        return headers.firstValue(name);
+    }
+}
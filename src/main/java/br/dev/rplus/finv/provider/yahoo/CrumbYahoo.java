@@ -1,26 +1,46 @@
 package br.dev.rplus.finv.provider.yahoo;
 
 import br.dev.rplus.cup.log.Logger;
-import br.dev.rplus.cup.request.HttpRequester;
 import br.dev.rplus.finv.enums.RequestParams;
+import br.dev.rplus.finv.provider.transport.HttpTransports;
+import br.dev.rplus.finv.provider.transport.TransportResponse;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.net.HttpCookie;
 import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * The {@code CrumbYahoo} class is responsible for obtaining the Yahoo Finance authentication cookie and crumb.
  * These are required to make authenticated requests to the Yahoo Finance APIs.
  * <p>
- * This class uses a lazy initialization strategy to retrieve and cache the cookie and crumb on first access.
+ * The cookie and crumb are obtained on first access and kept as a single immutable set of {@link Credentials}, which
+ * readers take without locking. A request should take one snapshot with {@link #getCredentials()} and read both the
+ * crumb and the cookie from it, so that a refresh in between cannot make it send a mismatched pair. The credentials
+ * expire after {@link RequestParams#CREDENTIALS_TTL}, or earlier if the cookie says so, and are refreshed in the
+ * background shortly before that. Requests rejected by the API can force a new authentication through
+ * {@link #reauthenticate(Credentials)}. After an authentication fails, no other is attempted for
+ * {@link RequestParams#CREDENTIALS_RETRY}, so that callers do not queue up behind requests to Yahoo that keep failing.
  */
 public class CrumbYahoo {
 
-    private static volatile String cookie;
-    private static volatile String crumb;
+    private static final AtomicReference<Credentials> credentials = new AtomicReference<>();
+    private static volatile long retryAt;
+    private static final ReentrantLock refreshLock = new ReentrantLock();
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "finv-crumb-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
     private static final Logger logger = Logger.getInstance();
 
     /**
@@ -30,99 +50,213 @@ public class CrumbYahoo {
 
     /**
      * Returns the Yahoo authentication cookie.
-     * If the cookie has not been obtained yet, it will be retrieved from Yahoo Finance.
+     * If the cookie has not been obtained yet or has expired, it will be retrieved from Yahoo Finance.
      *
-     * @return the Yahoo authentication cookie.
+     * @return the Yahoo authentication cookie, or {@code null} if it could not be obtained.
      */
-    public static synchronized String getCookie() {
-        if (cookie == null) {
-            obtainYahooCookie();
-        }
-        return cookie;
+    public static String getCookie() {
+        Credentials current = getCredentials();
+        return current == null ? null : current.cookie();
     }
 
     /**
      * Returns the Yahoo crumb.
-     * If the crumb has not been obtained yet, it will be retrieved from Yahoo Finance.
+     * If the crumb has not been obtained yet or has expired, it will be retrieved from Yahoo Finance.
+     *
+     * @return the Yahoo crumb, or {@code null} if it could not be obtained.
+     */
+    public static String getCrumb() {
+        Credentials current = getCredentials();
+        return current == null ? null : current.crumb();
+    }
+
+    /**
+     * Returns the current credentials without locking, obtaining them first if they are missing or expired.
+     * <p>
+     * While no new authentication is attempted after a failure, the last credentials obtained are returned even if
+     * they expired.
+     *
+     * @return the current credentials, or {@code null} if they could not be obtained.
+     */
+    public static Credentials getCredentials() {
+        Credentials current = credentials.get();
+        if (current != null && !current.isExpired() || isBackingOff()) {
+            return current;
+        }
+
+        refreshLock.lock();
+        try {
+            current = credentials.get();
+            if (current != null && !current.isExpired() || isBackingOff()) {
+                return current;
+            }
+            Credentials refreshed = refresh();
+            return refreshed != null ? refreshed : current;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Obtains new credentials after a request was rejected by the API (HTTP 401 or 403).
+     * <p>
+     * When many requests are rejected at the same time, only the first one authenticates again: the others see that
+     * the credentials were already replaced and reuse the new ones.
      *
-     * @return the Yahoo crumb.
+     * @param rejected the credentials sent with the rejected request, possibly {@code null}.
+     * @return the credentials to retry the request with, or {@code null} if no credentials different from the rejected
+     *         ones could be obtained.
      */
-    public static synchronized String getCrumb() {
+    public static Credentials reauthenticate(Credentials rejected) {
+        refreshLock.lock();
+        try {
+            Credentials current = credentials.get();
+            if (current != null && current.crumb() != null && !current.equals(rejected)) {
+                return current;
+            }
+            if (isBackingOff()) {
+                return null;
+            }
+            logger.info("Yahoo rejected the credentials. Authenticating again...");
+            return refresh();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Discards the credentials and the failure backoff, so that the next request authenticates again.
+     */
+    static void reset() {
+        refreshLock.lock();
+        try {
+            credentials.set(null);
+            retryAt = 0L;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether an authentication failed less than {@link RequestParams#CREDENTIALS_RETRY} ago.
+     */
+    private static boolean isBackingOff() {
+        return System.currentTimeMillis() < retryAt;
+    }
+
+    /**
+     * Obtains a new cookie and crumb and schedules their background refresh. Must be called holding the refresh lock.
+     * When they cannot be obtained, no new authentication is attempted for {@link RequestParams#CREDENTIALS_RETRY}.
+     *
+     * @return the new credentials, or {@code null} if they could not be obtained.
+     */
+    private static Credentials refresh() {
+        Optional<HttpCookie> cookie = obtainYahooCookie();
+        String cookieHeader = cookie.map(value -> value.getName() + "=" + value.getValue()).orElse(null);
+        String crumb = cookieHeader == null ? null : obtainYahooCrumb(cookieHeader);
         if (crumb == null) {
-            obtainYahooCrumb();
+            retryAt = System.currentTimeMillis() + RequestParams.CREDENTIALS_RETRY.get().asInteger();
+            return null;
+        }
+        retryAt = 0L;
+
+        long now = System.currentTimeMillis();
+        long ttl = RequestParams.CREDENTIALS_TTL.get().asInteger();
+        long maxAge = cookie.get().getMaxAge();
+        if (maxAge > 0) {
+            ttl = Math.min(ttl, TimeUnit.SECONDS.toMillis(maxAge));
         }
-        return crumb;
+
+        Credentials refreshed = new Credentials(cookieHeader, crumb, now + ttl);
+        credentials.set(refreshed);
+        scheduleRefresh(refreshed, ttl);
+        return refreshed;
+    }
+
+    /**
+     * Schedules the background refresh of the given credentials at 90% of their lifetime.
+     */
+    private static void scheduleRefresh(Credentials scheduled, long ttl) {
+        scheduler.schedule(() -> {
+            if (!refreshLock.tryLock()) {
+                return;
+            }
+            try {
+                if (credentials.get() == scheduled) {
+                    logger.debug("Refreshing the Yahoo credentials before they expire.");
+                    refresh();
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to refresh the Yahoo credentials.", e);
+            } finally {
+                refreshLock.unlock();
+            }
+        }, ttl - ttl / 10, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Obtains the Yahoo authentication cookie if not already retrieved.
+     * Obtains the Yahoo authentication cookie.
+     *
+     * @return the cookie, or empty if it could not be obtained.
      */
-    private static void obtainYahooCookie() {
+    private static Optional<HttpCookie> obtainYahooCookie() {
         logger.info("Obtaining Yahoo authentication cookie...");
 
         try {
-            HttpURLConnection conn = sendRequest(RequestParams.YAHOO_COOKIE.get().asString(), Map.of(
+            TransportResponse response = sendRequest(RequestParams.YAHOO_COOKIE.get().asString(), Map.of(
                 "User-Agent", getUserAgent()
             ));
 
-            Optional.ofNullable(conn.getHeaderFields())
-                .map(headers -> headers.get("Set-Cookie"))
-                .flatMap(list -> list.stream().findFirst())
-                .ifPresentOrElse(
-                    c -> {
-                        cookie = c;
-                        logger.debug("Yahoo auth cookie obtained: %s", cookie);
-                    },
-                    () -> logger.warn("No 'Set-Cookie' header found in the response.")
-                );
-
-            conn.disconnect();
-        } catch (IOException e) {
+            Optional<String> header = response.firstHeader("Set-Cookie");
+            if (header.isEmpty()) {
+                logger.warn("No 'Set-Cookie' header found in the response.");
+                return Optional.empty();
+            }
+
+            List<HttpCookie> cookies = HttpCookie.parse(header.get());
+            if (cookies.isEmpty()) {
+                logger.warn("Invalid 'Set-Cookie' header found in the response.");
+                return Optional.empty();
+            }
+            logger.debug("Yahoo auth cookie obtained: %s", cookies.getFirst().getName());
+            return Optional.of(cookies.getFirst());
+        } catch (IOException | IllegalArgumentException e) {
             logger.warn("Failed to obtain Yahoo authentication cookie.", e);
+            return Optional.empty();
         }
     }
 
     /**
-     * Obtains the Yahoo crumb if not already retrieved.
+     * Obtains the Yahoo crumb bound to the given cookie.
+     *
+     * @return the crumb, or {@code null} if it could not be obtained.
      */
-    private static void obtainYahooCrumb() {
-        if (cookie == null) {
-            obtainYahooCookie();
-        }
-
+    private static String obtainYahooCrumb(String cookie) {
         logger.info("Obtaining Yahoo crumb...");
 
         try {
-            HttpURLConnection conn = sendRequest(RequestParams.YAHOO_CRUMB.get().asString(), Map.of(
-                "User-Agent", getUserAgent(),
-                "Cookie", cookie
-            ));
+            Map<String, String> headers = new HashMap<>();
+            headers.put("User-Agent", getUserAgent());
+            headers.put("Cookie", cookie);
+            TransportResponse response = sendRequest(RequestParams.YAHOO_CRUMB.get().asString(), headers);
 
-            if (conn.getResponseCode() == HttpURLConnection.HTTP_OK) {
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-                    crumb = reader.readLine();
-                    logger.debug("Yahoo crumb obtained: %s", crumb);
-                }
-            } else {
-                logger.warn("Failed to retrieve Yahoo crumb. Response code: %d", conn.getResponseCode());
+            if (response.statusCode() == HttpURLConnection.HTTP_OK) {
+                String crumb = response.body().lines().findFirst().orElse(null);
+                logger.debug("Yahoo crumb obtained: %s", crumb);
+                return crumb;
             }
-
-            conn.disconnect();
+            logger.warn("Failed to retrieve Yahoo crumb. Response code: %d", response.statusCode());
         } catch (IOException e) {
             logger.warn("Failed to retrieve Yahoo crumb.", e);
         }
+        return null;
     }
 
     /**
-     * Sends an HTTP request with the specified headers.
+     * Sends an HTTP request with the specified headers through the default {@link HttpTransports transport}.
      */
-    private static HttpURLConnection sendRequest(String url, Map<String, String> headers) throws IOException {
-        return HttpRequester.builder()
-            .url(url)
-            .method(HttpRequester.HttpMethod.GET)
-            .connectionTimeout(RequestParams.TIMEOUT.get().asInteger())
-            .headers(headers)
-            .sendRaw();
+    private static TransportResponse sendRequest(String url, Map<String, String> headers) throws IOException {
+        return HttpTransports.getDefault().send(URI.create(url), headers);
     }
 
     /**
@@ -131,4 +265,18 @@ public class CrumbYahoo {
     private static String getUserAgent() {
         return "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/90.0.4430.93 Safari/537.36";
     }
+
+    /**
+     * Immutable set of Yahoo credentials.
+     *
+     * @param cookie    the authentication cookie, formatted as a {@code Cookie} request header.
+     * @param crumb     the crumb bound to the cookie.
+     * @param expiresAt the time, in epoch milliseconds, after which the credentials are no longer used.
+     */
+    public record Credentials(String cookie, String crumb, long expiresAt) {
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() >= this.expiresAt;
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.enums.ConfigParams;
+
+/**
+ * AnnualizedVolatilityCalculator is a class that calculates the annualized volatility of a stock based on its historical quotes.
+ * <p>
+ * The volatility is the sample standard deviation of the logarithmic returns of the adjusted closing prices, scaled by
+ * the square root of {@link ConfigParams#PERIODS_PER_YEAR}. The returns are taken in a single pass over the prices and
+ * reduced with the sum and variance {@linkplain br.dev.rplus.finv.stats.kernel.DoubleKernels kernels}.
+ * </p>
+ *
+ * @see Stock
+ * @see Returns
+ */
+public class AnnualizedVolatilityCalculator implements StatisticsCalculator {
+
+    /**
+     * The default constructor.
+     */
+    public AnnualizedVolatilityCalculator() {}
+
+    @Override
+    public double calculate(Stock stock) {
+        QuoteSeries quotes = stock.getQuoteSeries();
+
+        // Return 0 if there are no quotes
+        if (quotes == null || quotes.isEmpty()) {
+            return 0;
+        }
+
+        Accumulator accumulator = new Accumulator();
+        accumulator.accept(quotes);
+        return accumulator.result();
+    }
+
+    /**
+     * Accumulator that calculates the annualized volatility incrementally.
+     */
+    public static final class Accumulator extends ReturnAccumulator {
+
+        private final Moments moments = new Moments();
+
+        @Override
+        void acceptReturn(double previous, double price) {
+            this.moments.add(Math.log(price / previous));
+        }
+
+        @Override
+        void acceptReturns(double[] previous, double[] prices, int count) {
+            double[] returns = new double[count];
+            for (int i = 0; i < count; i++) {
+                returns[i] = Math.log(prices[i] / previous[i]);
+            }
+            this.moments.addAll(returns, 0, count);
+        }
+
+        @Override
+        void mergeReturns(ReturnAccumulator other) {
+            this.moments.merge(((Accumulator) other).moments);
+        }
+
+        @Override
+        public double result() {
+            return this.moments.sampleDeviation() * Math.sqrt(ConfigParams.PERIODS_PER_YEAR.get().asInteger());
+        }
+    }
+}
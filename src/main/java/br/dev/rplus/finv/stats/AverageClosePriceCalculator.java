@@ -1,9 +1,9 @@
 package br.dev.rplus.finv.stats;
 
 import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
 import br.dev.rplus.finv.data.StockHistoricalQuote;
-
-import java.util.List;
+import br.dev.rplus.finv.stats.kernel.DoubleKernels;
 
 /**
  * AverageClosePriceCalculator is a class that calculates the average closing price of a stock based on its historical quotes.
@@ -24,21 +24,55 @@ public class AverageClosePriceCalculator implements StatisticsCalculator {
 
     @Override
     public double calculate(Stock stock) {
-        List<StockHistoricalQuote> quotes = stock.getQuoteHistory();
+        QuoteSeries quotes = stock.getQuoteSeries();
 
         // Return 0 if there are no quotes
         if (quotes == null || quotes.isEmpty()) {
             return 0;
         }
 
-        double sum = 0;
+        // Sum the closing prices of all quotes and return their average
+        return DoubleKernels.getInstance().sum(quotes.close()) / quotes.size();
+    }
 
-        // Sum the closing prices of all quotes
-        for (StockHistoricalQuote quote : quotes) {
-            sum += quote.close();
+    /**
+     * Accumulator that calculates the average closing price incrementally.
+     */
+    public static final class Accumulator implements ClosingPriceAccumulator {
+
+        private double sum;
+        private long count;
+
+        @Override
+        public void acceptBar(long epochMillis, double open, double high, double low, double close, double adjClose, long volume) {
+            this.sum += close;
+            this.count++;
         }
 
-        // Return the average closing price
-        return sum / quotes.size();
+        @Override
+        public void accept(QuoteSeries quotes) {
+            this.sum += DoubleKernels.getInstance().sum(quotes.close());
+            this.count += quotes.size();
+        }
+
+        @Override
+        public void accept(DoubleKernels.Summary summary, int count) {
+            this.sum += summary.sum();
+            this.count += count;
+        }
+
+        @Override
+        public double result() {
+            return this.count == 0 ? 0 : this.sum / this.count;
+        }
+
+        @Override
+        public void merge(StatisticsAccumulator other) {
+            if (!(other instanceof Accumulator accumulator)) {
+                throw new IllegalArgumentException("Cannot merge " + other + " into " + this + ".");
+            }
+            this.sum += accumulator.sum;
+            this.count += accumulator.count;
+        }
     }
 }
@@ -0,0 +1,97 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.stats.kernel.DoubleKernels;
+
+/**
+ * BetaCalculator is a class that calculates the beta of a stock against a benchmark, such as a market index.
+ * <p>
+ * The beta is the covariance between the simple returns of the adjusted closing prices of the stock and of the
+ * benchmark, divided by the variance of the returns of the benchmark. The histories are aligned by date, so only the
+ * bars present in both are used, and the returns are taken between consecutive aligned bars. Missing and non-positive
+ * prices are skipped. The aligned returns are collected in a single pass over both histories, which are expected in
+ * chronological order, and reduced with the dot product and variance {@linkplain DoubleKernels kernels}.
+ * </p>
+ * <p>
+ * Unlike the other calculators, the beta depends on a second stock, so it has no {@link br.dev.rplus.finv.enums.Stats}
+ * constant: a calculator is created for each benchmark instead.
+ * </p>
+ *
+ * @see Stock
+ * @see Returns
+ */
+public class BetaCalculator implements StatisticsCalculator {
+
+    private final Stock benchmark;
+
+    /**
+     * Constructs a new {@code BetaCalculator}.
+     *
+     * @param benchmark the stock whose returns the returns of other stocks are compared with.
+     */
+    public BetaCalculator(Stock benchmark) {
+        this.benchmark = benchmark;
+    }
+
+    @Override
+    public double calculate(Stock stock) {
+        QuoteSeries quotes = stock.getQuoteSeries();
+        QuoteSeries benchmarkQuotes = this.benchmark.getQuoteSeries();
+
+        // Return 0 if there are no quotes
+        if (quotes == null || quotes.isEmpty() || benchmarkQuotes == null || benchmarkQuotes.isEmpty()) {
+            return 0;
+        }
+
+        long[] dates = quotes.epochSeconds();
+        long[] benchmarkDates = benchmarkQuotes.epochSeconds();
+        double[] prices = quotes.adjClose();
+        double[] benchmarkPrices = benchmarkQuotes.adjClose();
+
+        int capacity = Math.min(dates.length, benchmarkDates.length);
+        double[] returns = new double[capacity];
+        double[] benchmarkReturns = new double[capacity];
+        int count = 0;
+        double previous = Double.NaN;
+        double benchmarkPrevious = Double.NaN;
+
+        int i = 0;
+        int j = 0;
+        while (i < dates.length && j < benchmarkDates.length) {
+            if (dates[i] < benchmarkDates[j]) {
+                i++;
+            } else if (dates[i] > benchmarkDates[j]) {
+                j++;
+            } else {
+                double price = prices[i++];
+                double benchmarkPrice = benchmarkPrices[j++];
+                if (!(price > 0.0) || !(benchmarkPrice > 0.0)) {
+                    continue;
+                }
+                if (!Double.isNaN(previous)) {
+                    returns[count] = price / previous - 1.0;
+                    benchmarkReturns[count++] = benchmarkPrice / benchmarkPrevious - 1.0;
+                }
+                previous = price;
+                benchmarkPrevious = benchmarkPrice;
+            }
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        // The deviations of the stock returns sum to zero, so their dot product with the benchmark returns is the co-moment
+        DoubleKernels kernels = DoubleKernels.getInstance();
+        double mean = kernels.sum(returns, 0, count) / count;
+        for (int k = 0; k < count; k++) {
+            returns[k] -= mean;
+        }
+        double covariance = kernels.dot(returns, benchmarkReturns, 0, count) / count;
+        double variance = kernels.variance(benchmarkReturns, 0, count);
+
+        // Return 0 if the benchmark does not vary
+        return variance == 0.0 ? 0.0 : covariance / variance;
+    }
+}
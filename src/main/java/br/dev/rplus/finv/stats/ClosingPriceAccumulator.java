@@ -0,0 +1,21 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.stats.kernel.DoubleKernels;
+
+/**
+ * Accumulator whose statistic only depends on the sum, minimum and maximum of the closing prices.
+ * <p>
+ * The {@link FusedStatsEvaluator} summarizes the close column once with {@link DoubleKernels#summarize(double[])} and
+ * hands the same summary to every accumulator of this kind, instead of feeding them the bars one at a time.
+ * </p>
+ */
+interface ClosingPriceAccumulator extends StatisticsAccumulator {
+
+    /**
+     * Accumulates a summary of consecutive closing prices.
+     *
+     * @param summary the sum, minimum and maximum of the closing prices.
+     * @param count   the number of closing prices summarized.
+     */
+    void accept(DoubleKernels.Summary summary, int count);
+}
@@ -65,4 +65,54 @@ public class DividendYieldCalculator implements StatisticsCalculator {
         // Annualize the total dividends based on the previous close price of the stock
         return totalDividends * (365.0 / stock.getQuote().previousClose());
     }
+
+    /**
+     * Accumulator that calculates the dividend yield incrementally.
+     * <p>
+     * The yield is calculated against the most recent quote accumulated.
+     * </p>
+     */
+    public static final class Accumulator implements StatisticsAccumulator {
+
+        private double dividends;
+        private long count;
+        private StockQuote quote;
+
+        @Override
+        public void acceptBar(long epochMillis, double open, double high, double low, double close, double adjClose, long volume) {}
+
+        @Override
+        public void accept(StockDividend dividend) {
+            this.dividends += dividend.amount();
+            this.count++;
+        }
+
+        @Override
+        public void accept(StockQuote quote) {
+            if (this.quote == null || quote.epochMillis() >= this.quote.epochMillis()) {
+                this.quote = quote;
+            }
+        }
+
+        @Override
+        public double result() {
+            if (this.quote == null || this.quote.price() == 0.0) {
+                return 0.0;
+            }
+            double annualDividends = this.count == 0 ? 0.0 : this.dividends * (365.0 / this.quote.previousClose());
+            return (annualDividends / this.quote.price()) * 100;
+        }
+
+        @Override
+        public void merge(StatisticsAccumulator other) {
+            if (!(other instanceof Accumulator accumulator)) {
+                throw new IllegalArgumentException("Cannot merge " + other + " into " + this + ".");
+            }
+            this.dividends += accumulator.dividends;
+            this.count += accumulator.count;
+            if (accumulator.quote != null) {
+                accept(accumulator.quote);
+            }
+        }
+    }
 }
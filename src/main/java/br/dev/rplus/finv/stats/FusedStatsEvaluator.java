@@ -0,0 +1,128 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.enums.Stats;
+import br.dev.rplus.finv.stats.kernel.DoubleKernels;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * FusedStatsEvaluator is a class that computes several statistics of a stock with a single pass over each of its histories.
+ * <p>
+ * Running one {@link StatisticsCalculator} per statistic walks the quote history once for each of the closing price and
+ * return-based statistics, and the dividend history once for each of the total dividends and dividend yield. This
+ * evaluator creates one {@link StatisticsAccumulator} per requested statistic and reads each history once: the closing
+ * price statistics share a single {@link DoubleKernels#summarize(double[])} of the close column, the return-based
+ * statistics share a single collection of the valid adjusted closing prices, every other accumulator is fed each bar
+ * in one interleaved loop over the quote history, and every dividend is fed to all accumulators in one loop over the
+ * dividend history. It returns the same values as the individual calculators.
+ * </p>
+ *
+ * @see Stats
+ * @see StatsResult
+ */
+public final class FusedStatsEvaluator {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FusedStatsEvaluator() {}
+
+    /**
+     * Computes the given statistics of a stock.
+     *
+     * @param stock     the stock for which the statistics are calculated.
+     * @param statsList the statistics to be calculated. Duplicates are computed once.
+     * @return the computed statistics.
+     */
+    public static StatsResult evaluate(Stock stock, Collection<Stats> statsList) {
+        EnumSet<Stats> requested = statsList.isEmpty() ? EnumSet.noneOf(Stats.class) : EnumSet.copyOf(statsList);
+        Stats[] stats = requested.toArray(new Stats[0]);
+        StatisticsAccumulator[] accumulators = new StatisticsAccumulator[stats.length];
+        for (int i = 0; i < stats.length; i++) {
+            accumulators[i] = stats[i].newAccumulator();
+        }
+
+        if (stock.getQuote() != null) {
+            for (StatisticsAccumulator accumulator : accumulators) {
+                accumulator.accept(stock.getQuote());
+            }
+        }
+
+        QuoteSeries quotes = accumulators.length == 0 ? null : stock.getQuoteSeries();
+        if (quotes != null) {
+            accept(quotes, accumulators);
+        }
+
+        List<StockDividend> dividends = stock.getDividendHistory();
+        if (dividends != null) {
+            for (StockDividend dividend : dividends) {
+                for (StatisticsAccumulator accumulator : accumulators) {
+                    accumulator.accept(dividend);
+                }
+            }
+        }
+
+        EnumMap<Stats, Double> values = new EnumMap<>(Stats.class);
+        for (int i = 0; i < stats.length; i++) {
+            values.put(stats[i], accumulators[i].result());
+        }
+        return new StatsResult(values);
+    }
+
+    /**
+     * Feeds the quote history to the accumulators, reading each of its columns once.
+     */
+    private static void accept(QuoteSeries quotes, StatisticsAccumulator[] accumulators) {
+        List<ClosingPriceAccumulator> closing = new ArrayList<>(accumulators.length);
+        List<ReturnAccumulator> returns = new ArrayList<>(accumulators.length);
+        List<StatisticsAccumulator> others = new ArrayList<>(accumulators.length);
+        for (StatisticsAccumulator accumulator : accumulators) {
+            if (accumulator instanceof ClosingPriceAccumulator closingAccumulator) {
+                closing.add(closingAccumulator);
+            } else if (accumulator instanceof ReturnAccumulator returnAccumulator) {
+                returns.add(returnAccumulator);
+            } else {
+                others.add(accumulator);
+            }
+        }
+
+        if (!closing.isEmpty()) {
+            DoubleKernels.Summary summary = DoubleKernels.getInstance().summarize(quotes.close());
+            for (ClosingPriceAccumulator accumulator : closing) {
+                accumulator.accept(summary, quotes.size());
+            }
+        }
+
+        if (!returns.isEmpty()) {
+            ReturnAccumulator.PricePairs pairs = ReturnAccumulator.PricePairs.of(quotes.adjClose());
+            for (ReturnAccumulator accumulator : returns) {
+                accumulator.accept(pairs);
+            }
+        }
+
+        if (others.isEmpty()) {
+            return;
+        }
+        StatisticsAccumulator[] bars = others.toArray(new StatisticsAccumulator[0]);
+        long[] epochSeconds = quotes.epochSeconds();
+        double[] open = quotes.open();
+        double[] high = quotes.high();
+        double[] low = quotes.low();
+        double[] close = quotes.close();
+        double[] adjClose = quotes.adjClose();
+        long[] volume = quotes.volume();
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochMillis = epochSeconds[i] * 1000L;
+            for (StatisticsAccumulator accumulator : bars) {
+                accumulator.acceptBar(epochMillis, open[i], high[i], low[i], close[i], adjClose[i], volume[i]);
+            }
+        }
+    }
+}
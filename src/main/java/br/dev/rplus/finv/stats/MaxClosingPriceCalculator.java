@@ -1,9 +1,9 @@
 package br.dev.rplus.finv.stats;
 
 import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
 import br.dev.rplus.finv.data.StockHistoricalQuote;
-
-import java.util.List;
+import br.dev.rplus.finv.stats.kernel.DoubleKernels;
 
 /**
  * MaxClosingPriceCalculator is a class that calculates the maximum closing price of a stock based on its historical quotes.
@@ -23,20 +23,55 @@ public class MaxClosingPriceCalculator implements StatisticsCalculator {
 
     @Override
     public double calculate(Stock stock) {
-        List<StockHistoricalQuote> historicalQuotes = stock.getQuoteHistory();
+        QuoteSeries historicalQuotes = stock.getQuoteSeries();
 
         // Return 0 if no historical quotes are available
         if (historicalQuotes == null || historicalQuotes.isEmpty()) {
             return 0.0;
         }
 
-        double maxClosingPrice = Double.MIN_VALUE;
+        // Find the maximum closing price of the historical quotes
+        return Math.max(Double.MIN_VALUE, DoubleKernels.getInstance().max(historicalQuotes.close()));
+    }
 
-        // Iterate through historical quotes to find the maximum closing price
-        for (StockHistoricalQuote quote : historicalQuotes) {
-            maxClosingPrice = Math.max(maxClosingPrice, quote.close());
+    /**
+     * Accumulator that calculates the maximum closing price incrementally.
+     */
+    public static final class Accumulator implements ClosingPriceAccumulator {
+
+        private double max = Double.MIN_VALUE;
+        private long count;
+
+        @Override
+        public void acceptBar(long epochMillis, double open, double high, double low, double close, double adjClose, long volume) {
+            this.max = Math.max(this.max, close);
+            this.count++;
         }
 
-        return maxClosingPrice;
+        @Override
+        public void accept(QuoteSeries quotes) {
+            this.max = Math.max(this.max, DoubleKernels.getInstance().max(quotes.close()));
+            this.count += quotes.size();
+        }
+
+        @Override
+        public void accept(DoubleKernels.Summary summary, int count) {
+            this.max = Math.max(this.max, summary.max());
+            this.count += count;
+        }
+
+        @Override
+        public double result() {
+            return this.count == 0 ? 0.0 : this.max;
+        }
+
+        @Override
+        public void merge(StatisticsAccumulator other) {
+            if (!(other instanceof Accumulator accumulator)) {
+                throw new IllegalArgumentException("Cannot merge " + other + " into " + this + ".");
+            }
+            this.max = Math.max(this.max, accumulator.max);
+            this.count += accumulator.count;
+        }
     }
 }
@@ -0,0 +1,102 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+
+import java.util.Arrays;
+
+/**
+ * MaxDrawdownCalculator is a class that calculates the maximum drawdown of a stock based on its historical quotes.
+ * <p>
+ * The drawdown of a bar is its fall from the highest adjusted closing price seen so far, as a fraction of that price,
+ * and the maximum drawdown is the largest of them. It is calculated in a single pass over the prices. Missing and
+ * non-positive prices are skipped.
+ * </p>
+ *
+ * @see Stock
+ */
+public class MaxDrawdownCalculator implements StatisticsCalculator {
+
+    /**
+     * The default constructor.
+     */
+    public MaxDrawdownCalculator() {}
+
+    @Override
+    public double calculate(Stock stock) {
+        QuoteSeries quotes = stock.getQuoteSeries();
+
+        // Return 0 if there are no quotes
+        if (quotes == null || quotes.isEmpty()) {
+            return 0;
+        }
+
+        Accumulator accumulator = new Accumulator();
+        accumulator.accept(quotes);
+        return accumulator.result();
+    }
+
+    /**
+     * Accumulator that calculates the maximum drawdown incrementally.
+     * <p>
+     * Besides the running peak, the accumulator keeps every new peak together with the lowest price until the next one.
+     * When a chunk is merged after another, its peaks below the running peak of the first chunk no longer start a
+     * drawdown of their own, and the lows that follow them are measured from that running peak instead.
+     * </p>
+     */
+    public static final class Accumulator implements StatisticsAccumulator {
+
+        private double[] peaks = new double[16];
+        private double[] lows = new double[16];
+        private int size;
+        private double drawdown;
+
+        @Override
+        public void acceptBar(long epochMillis, double open, double high, double low, double close, double adjClose, long volume) {
+            if (adjClose > 0.0) {
+                accept(adjClose, adjClose);
+            }
+        }
+
+        @Override
+        public void accept(QuoteSeries quotes) {
+            for (double price : quotes.adjClose()) {
+                if (price > 0.0) {
+                    accept(price, price);
+                }
+            }
+        }
+
+        @Override
+        public double result() {
+            return this.drawdown;
+        }
+
+        @Override
+        public void merge(StatisticsAccumulator other) {
+            if (!(other instanceof Accumulator accumulator)) {
+                throw new IllegalArgumentException("Cannot merge " + other + " into " + this + ".");
+            }
+            for (int i = 0; i < accumulator.size; i++) {
+                accept(accumulator.peaks[i], accumulator.lows[i]);
+            }
+        }
+
+        /**
+         * Accumulates a peak followed by its lowest price until the next peak. A single price is both.
+         */
+        private void accept(double peak, double low) {
+            if (this.size == 0 || peak > this.peaks[this.size - 1]) {
+                if (this.size == this.peaks.length) {
+                    this.peaks = Arrays.copyOf(this.peaks, this.size << 1);
+                    this.lows = Arrays.copyOf(this.lows, this.size << 1);
+                }
+                this.peaks[this.size] = peak;
+                this.lows[this.size++] = low;
+            } else {
+                this.lows[this.size - 1] = Math.min(this.lows[this.size - 1], low);
+            }
+            this.drawdown = Math.max(this.drawdown, 1.0 - this.lows[this.size - 1] / this.peaks[this.size - 1]);
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package br.dev.rplus.finv.stats;
 
 import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
 import br.dev.rplus.finv.data.StockHistoricalQuote;
-
-import java.util.List;
+import br.dev.rplus.finv.stats.kernel.DoubleKernels;
 
 /**
  * MinClosingPriceCalculator is a class that calculates the minimum closing price of a stock based on its historical quotes.
@@ -23,20 +23,55 @@ public class MinClosingPriceCalculator implements StatisticsCalculator {
 
     @Override
     public double calculate(Stock stock) {
-        List<StockHistoricalQuote> historicalQuotes = stock.getQuoteHistory();
+        QuoteSeries historicalQuotes = stock.getQuoteSeries();
 
         // Return 0 if no historical quotes are available
         if (historicalQuotes == null || historicalQuotes.isEmpty()) {
             return 0.0;
         }
 
-        double minClosingPrice = Double.MAX_VALUE;
+        // Find the minimum closing price of the historical quotes
+        return Math.min(Double.MAX_VALUE, DoubleKernels.getInstance().min(historicalQuotes.close()));
+    }
 
-        // Iterate through historical quotes to find the minimum closing price
-        for (StockHistoricalQuote quote : historicalQuotes) {
-            minClosingPrice = Math.min(minClosingPrice, quote.close());
+    /**
+     * Accumulator that calculates the minimum closing price incrementally.
+     */
+    public static final class Accumulator implements ClosingPriceAccumulator {
+
+        private double min = Double.MAX_VALUE;
+        private long count;
+
+        @Override
+        public void acceptBar(long epochMillis, double open, double high, double low, double close, double adjClose, long volume) {
+            this.min = Math.min(this.min, close);
+            this.count++;
         }
 
-        return minClosingPrice;
+        @Override
+        public void accept(QuoteSeries quotes) {
+            this.min = Math.min(this.min, DoubleKernels.getInstance().min(quotes.close()));
+            this.count += quotes.size();
+        }
+
+        @Override
+        public void accept(DoubleKernels.Summary summary, int count) {
+            this.min = Math.min(this.min, summary.min());
+            this.count += count;
+        }
+
+        @Override
+        public double result() {
+            return this.count == 0 ? 0.0 : this.min;
+        }
+
+        @Override
+        public void merge(StatisticsAccumulator other) {
+            if (!(other instanceof Accumulator accumulator)) {
+                throw new IllegalArgumentException("Cannot merge " + other + " into " + this + ".");
+            }
+            this.min = Math.min(this.min, accumulator.min);
+            this.count += accumulator.count;
+        }
     }
 }
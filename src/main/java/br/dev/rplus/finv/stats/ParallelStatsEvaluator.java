@@ -0,0 +1,133 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.cup.log.Logger;
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.enums.ConfigParams;
+import br.dev.rplus.finv.enums.Stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelStatsEvaluator is a class that computes the same statistics for many stocks on a {@link ForkJoinPool}.
+ * <p>
+ * The stocks are split recursively into ranges that are evaluated in parallel, each stock with the
+ * {@link FusedStatsEvaluator} through {@link Stock#stats(java.util.Collection)}, so values already cached in the stock
+ * are reused, and the values are written straight into the row of the stock in a {@link StatsMatrix}.
+ * A stock whose statistics cannot be computed is logged with its ticker and gets {@link Double#NaN} values,
+ * so a single bad stock never aborts the whole run.
+ * </p>
+ *
+ * @see StatsMatrix
+ */
+public final class ParallelStatsEvaluator {
+
+    private static final Logger logger = Logger.getInstance();
+
+    /**
+     * The number of ranges created per worker thread, so that faster workers can steal the ranges of slower ones.
+     */
+    private static final int RANGES_PER_THREAD = 4;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelStatsEvaluator() {}
+
+    /**
+     * Computes the statistics of the stocks using the parallelism defined by {@link ConfigParams#STATS_PARALLELISM}.
+     *
+     * @param stocks    the stocks, in the desired row order.
+     * @param statsList the statistics to compute, in the desired column order.
+     * @return the matrix of statistics.
+     */
+    public static StatsMatrix evaluate(Collection<Stock> stocks, List<Stats> statsList) {
+        return evaluate(stocks, statsList, ConfigParams.STATS_PARALLELISM.get().asInteger());
+    }
+
+    /**
+     * Computes the statistics of the stocks using at most {@code parallelism} threads.
+     * <p>
+     * A parallelism of zero or less runs the evaluation on the {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     * @param stocks      the stocks, in the desired row order.
+     * @param statsList   the statistics to compute, in the desired column order.
+     * @param parallelism the maximum number of threads running at the same time.
+     * @return the matrix of statistics.
+     */
+    public static StatsMatrix evaluate(Collection<Stock> stocks, List<Stats> statsList, int parallelism) {
+        List<Stock> rows = new ArrayList<>(stocks);
+        List<String> tickers = new ArrayList<>(rows.size());
+        rows.forEach(stock -> tickers.add(stock.getTicker()));
+        double[] values = new double[rows.size() * statsList.size()];
+        if (values.length == 0) {
+            return new StatsMatrix(tickers, statsList, values);
+        }
+
+        if (parallelism <= 0) {
+            ForkJoinPool pool = ForkJoinPool.commonPool();
+            pool.invoke(new RangeTask(rows, statsList, values, 0, rows.size(), threshold(rows.size(), pool.getParallelism())));
+        } else {
+            try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                pool.invoke(new RangeTask(rows, statsList, values, 0, rows.size(), threshold(rows.size(), parallelism)));
+            }
+        }
+        return new StatsMatrix(tickers, statsList, values);
+    }
+
+    private static int threshold(int size, int parallelism) {
+        return Math.max(1, size / (Math.max(1, parallelism) * RANGES_PER_THREAD));
+    }
+
+    /**
+     * Evaluates the stocks of the range {@code [from, to)}, splitting it in halves while it is larger than the threshold.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private final List<Stock> stocks;
+        private final List<Stats> statsList;
+        private final double[] values;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private RangeTask(List<Stock> stocks, List<Stats> statsList, double[] values, int from, int to, int threshold) {
+            this.stocks = stocks;
+            this.statsList = statsList;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > this.threshold) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(
+                    new RangeTask(this.stocks, this.statsList, this.values, this.from, middle, this.threshold),
+                    new RangeTask(this.stocks, this.statsList, this.values, middle, this.to, this.threshold)
+                );
+                return;
+            }
+            int columns = this.statsList.size();
+            for (int row = this.from; row < this.to; row++) {
+                Stock stock = this.stocks.get(row);
+                int offset = row * columns;
+                try {
+                    StatsResult result = stock.stats(this.statsList);
+                    for (int column = 0; column < columns; column++) {
+                        this.values[offset + column] = result.get(this.statsList.get(column));
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Error calculating the statistics of %s.", stock.getTicker(), e);
+                    Arrays.fill(this.values, offset, offset + columns, Double.NaN);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.stats.kernel.DoubleKernels;
+
+/**
+ * Base class of the accumulators of statistics calculated over the returns of the adjusted closing prices.
+ * <p>
+ * The accumulator pairs every price with the previous one and hands the pair to {@link #acceptReturn(double, double)},
+ * so subclasses only keep the moments they need. Missing and non-positive prices are skipped, and the return is taken
+ * from the last valid price. On a merge, the state of the other accumulator is merged first and the return across the
+ * boundary of both chunks is accepted afterwards.
+ * </p>
+ * <p>
+ * A whole series is accepted in bulk: its valid consecutive prices are collected once into {@link PricePairs} and
+ * handed to {@link #acceptReturns(double[], double[], int)}, which subclasses can override to reduce all returns with
+ * the {@link DoubleKernels}. The {@link FusedStatsEvaluator} collects the pairs once for all return accumulators.
+ * </p>
+ */
+abstract class ReturnAccumulator implements StatisticsAccumulator {
+
+    private double first = Double.NaN;
+    private double last = Double.NaN;
+
+    @Override
+    public void acceptBar(long epochMillis, double open, double high, double low, double close, double adjClose, long volume) {
+        acceptPrice(adjClose);
+    }
+
+    @Override
+    public void accept(QuoteSeries quotes) {
+        accept(PricePairs.of(quotes.adjClose()));
+    }
+
+    /**
+     * Accumulates the valid consecutive prices of a series, after the return from the last price already accepted.
+     *
+     * @param pairs the valid consecutive prices of the series.
+     */
+    void accept(PricePairs pairs) {
+        if (Double.isNaN(pairs.first)) {
+            return;
+        }
+        if (Double.isNaN(this.last)) {
+            this.first = pairs.first;
+        } else {
+            acceptReturn(this.last, pairs.first);
+        }
+        acceptReturns(pairs.previous, pairs.prices, pairs.count);
+        this.last = pairs.last;
+    }
+
+    @Override
+    public void merge(StatisticsAccumulator other) {
+        if (other == null || other.getClass() != getClass()) {
+            throw new IllegalArgumentException("Cannot merge " + other + " into " + this + ".");
+        }
+        ReturnAccumulator accumulator = (ReturnAccumulator) other;
+        if (Double.isNaN(accumulator.first)) {
+            return;
+        }
+        mergeReturns(accumulator);
+        if (Double.isNaN(this.last)) {
+            this.first = accumulator.first;
+        } else {
+            acceptReturn(this.last, accumulator.first);
+        }
+        this.last = accumulator.last;
+    }
+
+    /**
+     * Accumulates the return between two consecutive valid prices.
+     *
+     * @param previous the previous price.
+     * @param price    the current price.
+     */
+    abstract void acceptReturn(double previous, double price);
+
+    /**
+     * Accumulates the returns between pairs of consecutive valid prices, in order.
+     * The default implementation hands each pair to {@link #acceptReturn(double, double)}.
+     *
+     * @param previous the previous prices. It must not be modified.
+     * @param prices   the current prices. It must not be modified.
+     * @param count    the number of pairs.
+     */
+    void acceptReturns(double[] previous, double[] prices, int count) {
+        for (int i = 0; i < count; i++) {
+            acceptReturn(previous[i], prices[i]);
+        }
+    }
+
+    /**
+     * Merges the returns accumulated by another accumulator of the same class.
+     *
+     * @param other the accumulator to be merged.
+     */
+    abstract void mergeReturns(ReturnAccumulator other);
+
+    private void acceptPrice(double price) {
+        if (!(price > 0.0)) {
+            return;
+        }
+        if (Double.isNaN(this.last)) {
+            this.first = price;
+        } else {
+            acceptReturn(this.last, price);
+        }
+        this.last = price;
+    }
+
+    /**
+     * The valid consecutive prices of a series: the pair {@code (previous[i], prices[i])} holds the prices of the
+     * {@code i}-th return, for the {@code count} returns of the series.
+     */
+    static final class PricePairs {
+
+        final double[] previous;
+        final double[] prices;
+        int count;
+        double first = Double.NaN;
+        double last = Double.NaN;
+
+        private PricePairs(int capacity) {
+            this.previous = new double[capacity];
+            this.prices = new double[capacity];
+        }
+
+        /**
+         * Collects the valid consecutive prices of a series. Missing and non-positive prices are skipped.
+         *
+         * @param prices the price series.
+         * @return the valid consecutive prices.
+         */
+        static PricePairs of(double[] prices) {
+            PricePairs pairs = new PricePairs(Math.max(0, prices.length - 1));
+            for (double price : prices) {
+                if (!(price > 0.0)) {
+                    continue;
+                }
+                if (Double.isNaN(pairs.last)) {
+                    pairs.first = price;
+                } else {
+                    pairs.previous[pairs.count] = pairs.last;
+                    pairs.prices[pairs.count++] = price;
+                }
+                pairs.last = price;
+            }
+            return pairs;
+        }
+    }
+
+    /**
+     * Running mean and sum of squared deviations of a series, updated with Welford's algorithm.
+     */
+    static final class Moments {
+
+        long count;
+        double mean;
+        double m2;
+
+        void add(double value) {
+            this.count++;
+            double delta = value - this.mean;
+            this.mean += delta / this.count;
+            this.m2 += delta * (value - this.mean);
+        }
+
+        /**
+         * Adds the values of a range at once, reducing them with the {@link DoubleKernels}.
+         */
+        void addAll(double[] values, int from, int to) {
+            int count = to - from;
+            if (count <= 0) {
+                return;
+            }
+            DoubleKernels kernels = DoubleKernels.getInstance();
+            Moments chunk = new Moments();
+            chunk.count = count;
+            chunk.mean = kernels.sum(values, from, to) / count;
+            chunk.m2 = kernels.variance(values, from, to) * count;
+            merge(chunk);
+        }
+
+        void merge(Moments other) {
+            if (other.count == 0) {
+                return;
+            }
+            if (this.count == 0) {
+                this.count = other.count;
+                this.mean = other.mean;
+                this.m2 = other.m2;
+                return;
+            }
+            long count = this.count + other.count;
+            double delta = other.mean - this.mean;
+            this.mean += delta * other.count / count;
+            this.m2 += other.m2 + delta * delta * this.count * other.count / count;
+            this.count = count;
+        }
+
+        double sampleDeviation() {
+            return this.count < 2 ? 0.0 : Math.sqrt(this.m2 / (this.count - 1));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.data.QuoteSeries;
+
+/**
+ * Returns is a class that calculates the returns of a price series.
+ * <p>
+ * The output has the same length as the input: the value at index {@code i} is the return from the price at
+ * {@code i - 1} to the price at {@code i}, so the first value is {@link Double#NaN}, as are the returns involving a
+ * missing price. Every method accepts an output buffer, which is reused when it holds at least as many values as the input.
+ * </p>
+ * <p>
+ * The series overloads read the adjusted closing prices, so dividends and splits do not show up as price jumps.
+ * </p>
+ *
+ * @see QuoteSeries
+ */
+public final class Returns {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Returns() {}
+
+    /**
+     * Calculates the simple returns of the adjusted closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the simple returns.
+     */
+    public static double[] simple(QuoteSeries quotes, double[] out) {
+        return simple(quotes.adjClose(), out);
+    }
+
+    /**
+     * Calculates the simple returns of a price series, {@code p[i] / p[i - 1] - 1}.
+     *
+     * @param prices the price series.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the simple returns.
+     */
+    public static double[] simple(double[] prices, double[] out) {
+        double[] result = buffer(prices.length, out);
+        for (int i = 1; i < prices.length; i++) {
+            result[i] = prices[i] / prices[i - 1] - 1.0;
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the logarithmic returns of the adjusted closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the logarithmic returns.
+     */
+    public static double[] log(QuoteSeries quotes, double[] out) {
+        return log(quotes.adjClose(), out);
+    }
+
+    /**
+     * Calculates the logarithmic returns of a price series, {@code ln(p[i] / p[i - 1])}.
+     *
+     * @param prices the price series.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the logarithmic returns.
+     */
+    public static double[] log(double[] prices, double[] out) {
+        double[] result = buffer(prices.length, out);
+        for (int i = 1; i < prices.length; i++) {
+            result[i] = Math.log(prices[i] / prices[i - 1]);
+        }
+        return result;
+    }
+
+    private static double[] buffer(int length, double[] out) {
+        double[] result = out != null && out.length >= length ? out : new double[length];
+        if (length > 0) {
+            result[0] = Double.NaN;
+        }
+        return result;
+    }
+}
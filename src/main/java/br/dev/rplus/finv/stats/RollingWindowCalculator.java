@@ -0,0 +1,317 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.data.QuoteSeries;
+
+import java.util.Arrays;
+
+/**
+ * RollingWindowCalculator is a class that calculates statistics over a sliding window of a series.
+ * <p>
+ * Every method produces a full output series in a single pass, updating the statistic incrementally as each value
+ * enters the window and the oldest one leaves it, so the cost is O(n) whatever the window size. The output has the
+ * same length as the input: the value at index {@code i} covers the window ending at {@code i}, and the first
+ * {@code window - 1} values, for which the window is not full yet, are {@link Double#NaN}. A window holding a missing
+ * ({@link Double#NaN}) value also yields {@link Double#NaN}.
+ * </p>
+ * <p>
+ * Some statistics also accept an output buffer, which is reused when it holds at least as many values as the input,
+ * so that series can be recomputed on every refresh without allocating.
+ * </p>
+ *
+ * @see QuoteSeries
+ */
+public final class RollingWindowCalculator {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RollingWindowCalculator() {}
+
+    /**
+     * Calculates the simple moving average of the closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param window the number of bars of the window.
+     * @return the moving average, one value per bar.
+     */
+    public static double[] movingAverage(QuoteSeries quotes, int window) {
+        return movingAverage(quotes.close(), window);
+    }
+
+    /**
+     * Calculates the simple moving average of a series.
+     *
+     * @param values the input series.
+     * @param window the number of values of the window.
+     * @return the moving average, one value per input value.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     */
+    public static double[] movingAverage(double[] values, int window) {
+        return movingAverage(values, window, null);
+    }
+
+    /**
+     * Calculates the simple moving average of a series into an output buffer.
+     *
+     * @param values the input series.
+     * @param window the number of values of the window.
+     * @param out    the buffer to be written, or {@code null} to allocate one. A buffer shorter than the input is replaced.
+     * @return the buffer holding the moving average in its first {@code values.length} positions.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     */
+    public static double[] movingAverage(double[] values, int window, double[] out) {
+        double[] sums = rollingSum(values, window, out);
+        for (int i = window - 1; i < values.length; i++) {
+            sums[i] /= window;
+        }
+        return sums;
+    }
+
+    /**
+     * Calculates the rolling sum of a series.
+     *
+     * @param values the input series.
+     * @param window the number of values of the window.
+     * @return the rolling sum, one value per input value.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     */
+    public static double[] rollingSum(double[] values, int window) {
+        return rollingSum(values, window, null);
+    }
+
+    /**
+     * Calculates the rolling sum of a series into an output buffer.
+     *
+     * @param values the input series.
+     * @param window the number of values of the window.
+     * @param out    the buffer to be written, or {@code null} to allocate one. A buffer shorter than the input is replaced.
+     * @return the buffer holding the rolling sum in its first {@code values.length} positions.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     */
+    public static double[] rollingSum(double[] values, int window, double[] out) {
+        double[] result = warmUp(values.length, window, out);
+        double sum = 0.0;
+        int missing = 0;
+        for (int i = 0; i < values.length; i++) {
+            double value = values[i];
+            if (Double.isNaN(value)) {
+                missing++;
+            } else {
+                sum += value;
+            }
+            if (i >= window) {
+                double leaving = values[i - window];
+                if (Double.isNaN(leaving)) {
+                    missing--;
+                } else {
+                    sum -= leaving;
+                }
+            }
+            if (i >= window - 1) {
+                result[i] = missing > 0 ? Double.NaN : sum;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the rolling sum of the volumes.
+     * <p>
+     * Volumes are summed as exact {@code long} values before being stored in the output.
+     *
+     * @param quotes the historical quotes.
+     * @param window the number of bars of the window.
+     * @return the rolling volume, one value per bar.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     */
+    public static double[] rollingVolume(QuoteSeries quotes, int window) {
+        long[] volume = quotes.volume();
+        double[] result = warmUp(volume.length, window);
+        long sum = 0L;
+        for (int i = 0; i < volume.length; i++) {
+            sum += volume[i];
+            if (i >= window) {
+                sum -= volume[i - window];
+            }
+            if (i >= window - 1) {
+                result[i] = sum;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the rolling minimum of the closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param window the number of bars of the window.
+     * @return the rolling minimum, one value per bar.
+     */
+    public static double[] rollingMin(QuoteSeries quotes, int window) {
+        return rollingMin(quotes.close(), window);
+    }
+
+    /**
+     * Calculates the rolling minimum of a series, using a monotonic deque of candidate indexes.
+     *
+     * @param values the input series.
+     * @param window the number of values of the window.
+     * @return the rolling minimum, one value per input value.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     */
+    public static double[] rollingMin(double[] values, int window) {
+        return rollingExtreme(values, window, false);
+    }
+
+    /**
+     * Calculates the rolling maximum of the closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param window the number of bars of the window.
+     * @return the rolling maximum, one value per bar.
+     */
+    public static double[] rollingMax(QuoteSeries quotes, int window) {
+        return rollingMax(quotes.close(), window);
+    }
+
+    /**
+     * Calculates the rolling maximum of a series, using a monotonic deque of candidate indexes.
+     *
+     * @param values the input series.
+     * @param window the number of values of the window.
+     * @return the rolling maximum, one value per input value.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     */
+    public static double[] rollingMax(double[] values, int window) {
+        return rollingExtreme(values, window, true);
+    }
+
+    /**
+     * Calculates the rolling standard deviation of the closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param window the number of bars of the window.
+     * @return the rolling standard deviation, one value per bar.
+     */
+    public static double[] rollingStandardDeviation(QuoteSeries quotes, int window) {
+        return rollingStandardDeviation(quotes.close(), window);
+    }
+
+    /**
+     * Calculates the rolling population standard deviation of a series.
+     * <p>
+     * The mean and the sum of squared deviations are updated with Welford's method as values enter and leave the window,
+     * which avoids the cancellation of the naive sum-of-squares formula.
+     *
+     * @param values the input series.
+     * @param window the number of values of the window.
+     * @return the rolling standard deviation, one value per input value.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     */
+    public static double[] rollingStandardDeviation(double[] values, int window) {
+        return rollingStandardDeviation(values, window, null);
+    }
+
+    /**
+     * Calculates the rolling population standard deviation of a series into an output buffer.
+     *
+     * @param values the input series.
+     * @param window the number of values of the window.
+     * @param out    the buffer to be written, or {@code null} to allocate one. A buffer shorter than the input is replaced.
+     * @return the buffer holding the rolling standard deviation in its first {@code values.length} positions.
+     * @throws IllegalArgumentException if the window is smaller than one.
+     * @see #rollingStandardDeviation(double[], int)
+     */
+    public static double[] rollingStandardDeviation(double[] values, int window, double[] out) {
+        double[] result = warmUp(values.length, window, out);
+        int count = 0;
+        int missing = 0;
+        double mean = 0.0;
+        double squares = 0.0;
+        for (int i = 0; i < values.length; i++) {
+            double value = values[i];
+            if (Double.isNaN(value)) {
+                missing++;
+            } else {
+                count++;
+                double delta = value - mean;
+                mean += delta / count;
+                squares += delta * (value - mean);
+            }
+            if (i >= window) {
+                double leaving = values[i - window];
+                if (Double.isNaN(leaving)) {
+                    missing--;
+                } else if (--count == 0) {
+                    mean = 0.0;
+                    squares = 0.0;
+                } else {
+                    double delta = leaving - mean;
+                    mean -= delta / count;
+                    squares -= delta * (leaving - mean);
+                }
+            }
+            if (i >= window - 1) {
+                result[i] = missing > 0 ? Double.NaN : Math.sqrt(Math.max(0.0, squares) / window);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the rolling minimum or maximum of a series.
+     * <p>
+     * The deque holds the indexes of the window whose values can still become the extreme, in decreasing order of
+     * preference, so its head is always the extreme of the window. Each index is pushed and popped at most once.
+     */
+    private static double[] rollingExtreme(double[] values, int window, boolean max) {
+        double[] result = warmUp(values.length, window);
+        int[] deque = new int[Math.min(window, Math.max(1, values.length))];
+        int head = 0;
+        int size = 0;
+        int lastMissing = Integer.MIN_VALUE;
+        for (int i = 0; i < values.length; i++) {
+            if (size > 0 && deque[head] <= i - window) {
+                head = (head + 1) % deque.length;
+                size--;
+            }
+            double value = values[i];
+            if (Double.isNaN(value)) {
+                lastMissing = i;
+            } else {
+                while (size > 0) {
+                    double tail = values[deque[(head + size - 1) % deque.length]];
+                    if (max ? tail > value : tail < value) {
+                        break;
+                    }
+                    size--;
+                }
+                deque[(head + size) % deque.length] = i;
+                size++;
+            }
+            if (i >= window - 1) {
+                result[i] = lastMissing > i - window ? Double.NaN : values[deque[head]];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the output series, filled with {@link Double#NaN}.
+     */
+    private static double[] warmUp(int length, int window) {
+        return warmUp(length, window, null);
+    }
+
+    /**
+     * Prepares the output series, reusing the given buffer when it is large enough, and fills it with {@link Double#NaN}.
+     */
+    private static double[] warmUp(int length, int window, double[] out) {
+        if (window < 1) {
+            throw new IllegalArgumentException("The window must have at least one value: " + window);
+        }
+        double[] result = out != null && out.length >= length ? out : new double[length];
+        Arrays.fill(result, 0, length, Double.NaN);
+        return result;
+    }
+}
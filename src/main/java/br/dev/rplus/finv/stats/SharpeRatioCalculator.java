@@ -0,0 +1,78 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.enums.ConfigParams;
+
+/**
+ * SharpeRatioCalculator is a class that calculates the annualized Sharpe ratio of a stock based on its historical quotes.
+ * <p>
+ * The ratio is the mean excess simple return of the adjusted closing prices over the risk-free rate of a period,
+ * divided by the sample standard deviation of the returns and scaled by the square root of
+ * {@link ConfigParams#PERIODS_PER_YEAR}. The risk-free rate of a period is {@link ConfigParams#RISK_FREE_RATE} divided
+ * by the periods of a year. The returns are taken in a single pass over the prices and reduced with the sum and
+ * variance {@linkplain br.dev.rplus.finv.stats.kernel.DoubleKernels kernels}. It is zero when the returns do not vary.
+ * </p>
+ *
+ * @see Stock
+ * @see Returns
+ */
+public class SharpeRatioCalculator implements StatisticsCalculator {
+
+    /**
+     * The default constructor.
+     */
+    public SharpeRatioCalculator() {}
+
+    @Override
+    public double calculate(Stock stock) {
+        QuoteSeries quotes = stock.getQuoteSeries();
+
+        // Return 0 if there are no quotes
+        if (quotes == null || quotes.isEmpty()) {
+            return 0;
+        }
+
+        Accumulator accumulator = new Accumulator();
+        accumulator.accept(quotes);
+        return accumulator.result();
+    }
+
+    /**
+     * Accumulator that calculates the Sharpe ratio incrementally.
+     */
+    public static final class Accumulator extends ReturnAccumulator {
+
+        private final Moments moments = new Moments();
+
+        @Override
+        void acceptReturn(double previous, double price) {
+            this.moments.add(price / previous - 1.0);
+        }
+
+        @Override
+        void acceptReturns(double[] previous, double[] prices, int count) {
+            double[] returns = new double[count];
+            for (int i = 0; i < count; i++) {
+                returns[i] = prices[i] / previous[i] - 1.0;
+            }
+            this.moments.addAll(returns, 0, count);
+        }
+
+        @Override
+        void mergeReturns(ReturnAccumulator other) {
+            this.moments.merge(((Accumulator) other).moments);
+        }
+
+        @Override
+        public double result() {
+            double deviation = this.moments.sampleDeviation();
+            if (deviation == 0.0) {
+                return 0.0;
+            }
+            int periods = ConfigParams.PERIODS_PER_YEAR.get().asInteger();
+            double riskFree = ConfigParams.RISK_FREE_RATE.get().getTypedValue(Double.class) / periods;
+            return (this.moments.mean - riskFree) / deviation * Math.sqrt(periods);
+        }
+    }
+}
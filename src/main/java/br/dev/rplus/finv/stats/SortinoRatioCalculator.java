@@ -0,0 +1,77 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.enums.ConfigParams;
+
+/**
+ * SortinoRatioCalculator is a class that calculates the annualized Sortino ratio of a stock based on its historical quotes.
+ * <p>
+ * The ratio is the mean excess simple return of the adjusted closing prices over the risk-free rate of a period,
+ * divided by the downside deviation, the root mean square of the returns that fall short of the risk-free rate, and
+ * scaled by the square root of {@link ConfigParams#PERIODS_PER_YEAR}. It is calculated in a single pass over the
+ * prices, and is zero when no return falls short of the risk-free rate.
+ * </p>
+ *
+ * @see Stock
+ * @see SharpeRatioCalculator
+ */
+public class SortinoRatioCalculator implements StatisticsCalculator {
+
+    /**
+     * The default constructor.
+     */
+    public SortinoRatioCalculator() {}
+
+    @Override
+    public double calculate(Stock stock) {
+        QuoteSeries quotes = stock.getQuoteSeries();
+
+        // Return 0 if there are no quotes
+        if (quotes == null || quotes.isEmpty()) {
+            return 0;
+        }
+
+        Accumulator accumulator = new Accumulator();
+        accumulator.accept(quotes);
+        return accumulator.result();
+    }
+
+    /**
+     * Accumulator that calculates the Sortino ratio incrementally.
+     */
+    public static final class Accumulator extends ReturnAccumulator {
+
+        private final int periods = ConfigParams.PERIODS_PER_YEAR.get().asInteger();
+        private final double target = ConfigParams.RISK_FREE_RATE.get().getTypedValue(Double.class) / this.periods;
+        private long count;
+        private double excess;
+        private double downside;
+
+        @Override
+        void acceptReturn(double previous, double price) {
+            double shortfall = price / previous - 1.0 - this.target;
+            this.count++;
+            this.excess += shortfall;
+            if (shortfall < 0) {
+                this.downside += shortfall * shortfall;
+            }
+        }
+
+        @Override
+        void mergeReturns(ReturnAccumulator other) {
+            Accumulator accumulator = (Accumulator) other;
+            this.count += accumulator.count;
+            this.excess += accumulator.excess;
+            this.downside += accumulator.downside;
+        }
+
+        @Override
+        public double result() {
+            if (this.downside == 0.0) {
+                return 0.0;
+            }
+            return (this.excess / this.count) / Math.sqrt(this.downside / this.count) * Math.sqrt(this.periods);
+        }
+    }
+}
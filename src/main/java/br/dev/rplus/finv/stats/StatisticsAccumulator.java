@@ -0,0 +1,125 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.data.StockQuote;
+import br.dev.rplus.finv.enums.Stats;
+
+import java.util.List;
+
+/**
+ * Interface for stateful accumulators that calculate a statistic incrementally.
+ * <p>
+ * Where a {@link StatisticsCalculator} recomputes a statistic from the whole history of a stock, an accumulator is fed
+ * the data one element at a time and keeps only what it needs to produce the result, so a new bar updates the statistic
+ * in constant time. Accumulators of the same kind can be merged, which allows the histories to be split in chunks that
+ * are accumulated in parallel. Once fed the same data, an accumulator yields the same result as the calculator of its
+ * {@link Stats} constant.
+ * </p>
+ * <p>
+ * Accumulators are not thread-safe. New instances are created with {@link Stats#newAccumulator()}.
+ * </p>
+ *
+ * @see StatisticsCalculator
+ */
+public interface StatisticsAccumulator {
+
+    /**
+     * Accumulates a historical bar.
+     * <p>
+     * This is the primitive operation of the accumulator, so bars kept in columnar form can be accumulated without
+     * creating objects. Accumulators that do not depend on historical bars ignore them.
+     * </p>
+     *
+     * @param epochMillis the date of the bar, in milliseconds since the epoch.
+     * @param open        the opening price.
+     * @param high        the highest price.
+     * @param low         the lowest price.
+     * @param close       the closing price.
+     * @param adjClose    the adjusted closing price.
+     * @param volume      the volume, or zero if it is unknown.
+     */
+    void acceptBar(long epochMillis, double open, double high, double low, double close, double adjClose, long volume);
+
+    /**
+     * Accumulates a historical quote.
+     *
+     * @param quote the historical quote.
+     */
+    default void accept(StockHistoricalQuote quote) {
+        acceptBar(quote.epochMillis(), quote.open(), quote.high(), quote.low(), quote.close(), quote.adjClose(),
+            quote.volume() == null ? 0L : quote.volume());
+    }
+
+    /**
+     * Accumulates every bar of a series, in order.
+     *
+     * @param quotes the historical quotes.
+     */
+    default void accept(QuoteSeries quotes) {
+        long[] epochSeconds = quotes.epochSeconds();
+        double[] open = quotes.open();
+        double[] high = quotes.high();
+        double[] low = quotes.low();
+        double[] close = quotes.close();
+        double[] adjClose = quotes.adjClose();
+        long[] volume = quotes.volume();
+        for (int i = 0; i < epochSeconds.length; i++) {
+            acceptBar(epochSeconds[i] * 1000L, open[i], high[i], low[i], close[i], adjClose[i], volume[i]);
+        }
+    }
+
+    /**
+     * Accumulates a dividend. Accumulators that do not depend on dividends ignore it.
+     *
+     * @param dividend the dividend.
+     */
+    default void accept(StockDividend dividend) {}
+
+    /**
+     * Accumulates the current quote of the stock. Accumulators that do not depend on the current quote ignore it.
+     *
+     * @param quote the current quote.
+     */
+    default void accept(StockQuote quote) {}
+
+    /**
+     * Accumulates the current quote, the historical quotes and the dividends of a stock.
+     *
+     * @param stock the stock to be accumulated.
+     */
+    default void accept(Stock stock) {
+        if (stock.getQuote() != null) {
+            accept(stock.getQuote());
+        }
+        QuoteSeries quotes = stock.getQuoteSeries();
+        if (quotes != null) {
+            accept(quotes);
+        }
+        List<StockDividend> dividends = stock.getDividendHistory();
+        if (dividends != null) {
+            dividends.forEach(this::accept);
+        }
+    }
+
+    /**
+     * Returns the statistic of the data accumulated so far.
+     *
+     * @return the calculated statistic.
+     */
+    double result();
+
+    /**
+     * Merges the state of another accumulator of the same kind into this one.
+     * <p>
+     * Statistics that depend on the order of the data expect {@code other} to hold the data that follows the data of
+     * this accumulator. The other accumulator is left unchanged.
+     * </p>
+     *
+     * @param other the accumulator to be merged.
+     * @throws IllegalArgumentException if the other accumulator is not of the same kind.
+     */
+    void merge(StatisticsAccumulator other);
+}
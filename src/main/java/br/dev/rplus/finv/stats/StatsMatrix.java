@@ -0,0 +1,161 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.enums.Stats;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * StatsMatrix is a class that holds the statistics computed for many stocks, with one row per stock and one column
+ * per statistic.
+ * <p>
+ * Instances are immutable. Rows keep the order of the stocks they were computed from, and a statistic that could not be
+ * computed for a stock is stored as {@link Double#NaN}. When the same ticker appears more than once, lookups by ticker
+ * return its first row.
+ * </p>
+ *
+ * @see ParallelStatsEvaluator
+ */
+public final class StatsMatrix {
+
+    private final List<String> tickers;
+    private final List<Stats> stats;
+    private final double[] values;
+    private final Map<String, Integer> rowsByTicker = new HashMap<>();
+
+    /**
+     * Constructs a new matrix.
+     *
+     * @param tickers the ticker of each row.
+     * @param stats   the statistic of each column.
+     * @param values  the values, row by row. The array is not copied.
+     */
+    StatsMatrix(List<String> tickers, List<Stats> stats, double[] values) {
+        this.tickers = List.copyOf(tickers);
+        this.stats = List.copyOf(stats);
+        this.values = values;
+        for (int row = 0; row < this.tickers.size(); row++) {
+            this.rowsByTicker.putIfAbsent(this.tickers.get(row), row);
+        }
+    }
+
+    /**
+     * Retrieves the tickers of the rows.
+     *
+     * @return an unmodifiable list of tickers, one per row.
+     */
+    public List<String> getTickers() {
+        return this.tickers;
+    }
+
+    /**
+     * Retrieves the statistics of the columns.
+     *
+     * @return an unmodifiable list of statistics, one per column.
+     */
+    public List<Stats> getStats() {
+        return this.stats;
+    }
+
+    /**
+     * Retrieves the value of a statistic for the stock of a row.
+     *
+     * @param row   the index of the row.
+     * @param stats the statistic to be retrieved.
+     * @return the value of the statistic, or {@link Double#NaN} if it could not be computed.
+     * @throws IndexOutOfBoundsException if the row does not exist.
+     * @throws IllegalArgumentException  if the statistic is not a column of the matrix.
+     */
+    public double get(int row, Stats stats) {
+        return this.values[offset(row, columnOf(stats))];
+    }
+
+    /**
+     * Retrieves the value of a statistic for a ticker.
+     *
+     * @param ticker the ticker of the stock.
+     * @param stats  the statistic to be retrieved.
+     * @return the value of the statistic, or {@link Double#NaN} if it could not be computed.
+     * @throws IllegalArgumentException if the ticker or the statistic is not part of the matrix.
+     */
+    public double get(String ticker, Stats stats) {
+        return get(rowOf(ticker), stats);
+    }
+
+    /**
+     * Retrieves every statistic of a ticker.
+     *
+     * @param ticker the ticker of the stock.
+     * @return the statistics of the stock.
+     * @throws IllegalArgumentException if the ticker is not part of the matrix.
+     */
+    public StatsResult row(String ticker) {
+        int row = rowOf(ticker);
+        EnumMap<Stats, Double> result = new EnumMap<>(Stats.class);
+        for (int column = 0; column < this.stats.size(); column++) {
+            result.put(this.stats.get(column), this.values[offset(row, column)]);
+        }
+        return new StatsResult(result);
+    }
+
+    /**
+     * Retrieves a statistic for every stock.
+     *
+     * @param stats the statistic to be retrieved.
+     * @return a new array with one value per row.
+     * @throws IllegalArgumentException if the statistic is not a column of the matrix.
+     */
+    public double[] column(Stats stats) {
+        int column = columnOf(stats);
+        double[] result = new double[this.tickers.size()];
+        for (int row = 0; row < result.length; row++) {
+            result[row] = this.values[offset(row, column)];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of rows of the matrix.
+     *
+     * @return the number of stocks.
+     */
+    public int size() {
+        return this.tickers.size();
+    }
+
+    private int rowOf(String ticker) {
+        Integer row = this.rowsByTicker.get(ticker);
+        if (row == null) {
+            throw new IllegalArgumentException("The ticker " + ticker + " is not part of the matrix.");
+        }
+        return row;
+    }
+
+    private int columnOf(Stats stats) {
+        int column = this.stats.indexOf(stats);
+        if (column < 0) {
+            throw new IllegalArgumentException("The statistic " + stats + " was not computed.");
+        }
+        return column;
+    }
+
+    private int offset(int row, int column) {
+        return Objects.checkIndex(row, this.tickers.size()) * this.stats.size() + column;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("StatsMatrix: ").append(this.stats).append('\n');
+        for (int row = 0; row < this.tickers.size(); row++) {
+            int from = row * this.stats.size();
+            sb.append(this.tickers.get(row)).append(": ")
+                .append(Arrays.toString(Arrays.copyOfRange(this.values, from, from + this.stats.size())))
+                .append('\n');
+        }
+        return sb.toString();
+    }
+}
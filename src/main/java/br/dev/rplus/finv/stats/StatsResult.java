@@ -0,0 +1,83 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.enums.Stats;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StatsResult is a class that holds the statistics computed for a stock by the {@link FusedStatsEvaluator}.
+ * <p>
+ * Instances are immutable. Values are looked up by their {@link Stats} constant instead of by their position in a list.
+ * </p>
+ *
+ * @see FusedStatsEvaluator
+ */
+public final class StatsResult {
+
+    private final EnumMap<Stats, Double> values;
+
+    /**
+     * Constructs a new result holding the given values.
+     *
+     * @param values the computed statistics. The map is copied.
+     */
+    public StatsResult(Map<Stats, Double> values) {
+        this.values = values.isEmpty() ? new EnumMap<>(Stats.class) : new EnumMap<>(values);
+    }
+
+    /**
+     * Retrieves the value of a statistic.
+     *
+     * @param stats the statistic to be retrieved.
+     * @return the value of the statistic.
+     * @throws IllegalArgumentException if the statistic was not computed.
+     */
+    public double get(Stats stats) {
+        Double value = this.values.get(stats);
+        if (value == null) {
+            throw new IllegalArgumentException("The statistic " + stats + " was not computed.");
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether a statistic was computed.
+     *
+     * @param stats the statistic to be checked.
+     * @return {@code true} if the result holds the statistic.
+     */
+    public boolean contains(Stats stats) {
+        return this.values.containsKey(stats);
+    }
+
+    /**
+     * Returns the values of the given statistics, in the given order.
+     *
+     * @param statsList the statistics to be retrieved.
+     * @return a list with one value per statistic.
+     * @throws IllegalArgumentException if one of the statistics was not computed.
+     */
+    public List<Double> toList(List<Stats> statsList) {
+        List<Double> results = new ArrayList<>(statsList.size());
+        statsList.forEach(stats -> results.add(get(stats)));
+        return results;
+    }
+
+    /**
+     * Returns the computed statistics.
+     *
+     * @return an unmodifiable map of the statistics, in declaration order.
+     */
+    public Map<Stats, Double> asMap() {
+        return Collections.unmodifiableMap(this.values);
+    }
+
+    @Override
+    public String toString() {
+        return "StatsResult: " + this.values;
+    }
+}
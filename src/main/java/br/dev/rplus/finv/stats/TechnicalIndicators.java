@@ -0,0 +1,306 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.data.QuoteSeries;
+
+import java.util.Arrays;
+
+/**
+ * TechnicalIndicators is a class that calculates technical indicators over the columns of a {@link QuoteSeries}.
+ * <p>
+ * Every indicator is produced as a full output series in a single forward pass and written into a buffer supplied by
+ * the caller, which is reused when it holds at least as many values as the input, so no memory is allocated per bar
+ * and none at all when the buffers are reused between refreshes. Passing {@code null} allocates a new buffer. Only the
+ * first {@code n} positions of a buffer are written, where {@code n} is the length of the input.
+ * </p>
+ * <p>
+ * As in {@link RollingWindowCalculator}, output values that need more bars than are available are {@link Double#NaN},
+ * and missing input values propagate to the outputs that depend on them.
+ * </p>
+ *
+ * @see RollingWindowCalculator
+ */
+public final class TechnicalIndicators {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TechnicalIndicators() {}
+
+    /**
+     * Calculates the exponential moving average of the closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param period the number of bars of the average.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the exponential moving average.
+     */
+    public static double[] ema(QuoteSeries quotes, int period, double[] out) {
+        return ema(quotes.close(), period, out);
+    }
+
+    /**
+     * Calculates the exponential moving average of a series.
+     * <p>
+     * The average is seeded with the simple average of the first {@code period} values and then smoothed with the
+     * factor {@code 2 / (period + 1)}.
+     *
+     * @param values the input series.
+     * @param period the number of values of the average.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the exponential moving average.
+     * @throws IllegalArgumentException if the period is smaller than one.
+     */
+    public static double[] ema(double[] values, int period, double[] out) {
+        double[] result = buffer(values.length, period, out);
+        ema(values, 0, values.length, period, result);
+        return result;
+    }
+
+    /**
+     * Calculates the relative strength index of the closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param period the number of bars of the index, usually 14.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the relative strength index.
+     */
+    public static double[] rsi(QuoteSeries quotes, int period, double[] out) {
+        return rsi(quotes.close(), period, out);
+    }
+
+    /**
+     * Calculates the relative strength index of a series, with Wilder's smoothing of the average gains and losses.
+     * <p>
+     * The first value is available at index {@code period}. A window without losses yields 100, and a window without
+     * gains or losses yields 50.
+     *
+     * @param values the input series.
+     * @param period the number of values of the index, usually 14.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the relative strength index, between 0 and 100.
+     * @throws IllegalArgumentException if the period is smaller than one.
+     */
+    public static double[] rsi(double[] values, int period, double[] out) {
+        double[] result = buffer(values.length, period, out);
+        double gains = 0.0;
+        double losses = 0.0;
+        for (int i = 1; i < values.length; i++) {
+            double change = values[i] - values[i - 1];
+            double gain = change > 0 ? change : 0.0;
+            double loss = change < 0 ? -change : 0.0;
+            if (Double.isNaN(change)) {
+                gain = Double.NaN;
+                loss = Double.NaN;
+            }
+            if (i < period) {
+                gains += gain;
+                losses += loss;
+                continue;
+            }
+            if (i == period) {
+                gains = (gains + gain) / period;
+                losses = (losses + loss) / period;
+            } else {
+                gains = (gains * (period - 1) + gain) / period;
+                losses = (losses * (period - 1) + loss) / period;
+            }
+            result[i] = strengthIndex(gains, losses);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the moving average convergence divergence of the closing prices.
+     *
+     * @param quotes the historical quotes.
+     * @param fast   the period of the fast average, usually 12.
+     * @param slow   the period of the slow average, usually 26.
+     * @param signal the period of the signal line, usually 9.
+     * @param out    the buffers to be written, or {@code null} to allocate them.
+     * @return the buffers holding the MACD line, signal line and histogram.
+     */
+    public static Macd macd(QuoteSeries quotes, int fast, int slow, int signal, Macd out) {
+        return macd(quotes.close(), fast, slow, signal, out);
+    }
+
+    /**
+     * Calculates the moving average convergence divergence of a series.
+     * <p>
+     * The MACD line is the difference between the fast and slow exponential moving averages, the signal line is the
+     * exponential moving average of the MACD line, and the histogram is the difference between both lines. The slow
+     * average is kept in the histogram buffer while the lines are calculated, so no temporary buffer is needed.
+     *
+     * @param values the input series.
+     * @param fast   the period of the fast average, usually 12.
+     * @param slow   the period of the slow average, usually 26.
+     * @param signal the period of the signal line, usually 9.
+     * @param out    the buffers to be written, or {@code null} to allocate them. Buffers shorter than the input are replaced.
+     * @return the buffers holding the MACD line, signal line and histogram.
+     * @throws IllegalArgumentException if a period is smaller than one.
+     */
+    public static Macd macd(double[] values, int fast, int slow, int signal, Macd out) {
+        int length = values.length;
+        double[] line = buffer(length, fast, out == null ? null : out.line());
+        double[] histogram = buffer(length, slow, out == null ? null : out.histogram());
+        double[] signalLine = buffer(length, signal, out == null ? null : out.signal());
+
+        ema(values, 0, length, fast, line);
+        ema(values, 0, length, slow, histogram);
+        for (int i = 0; i < length; i++) {
+            line[i] -= histogram[i];
+        }
+        ema(line, Math.max(fast, slow) - 1, length, signal, signalLine);
+        for (int i = 0; i < length; i++) {
+            histogram[i] = line[i] - signalLine[i];
+        }
+        return out != null && out.line() == line && out.signal() == signalLine && out.histogram() == histogram
+            ? out
+            : new Macd(line, signalLine, histogram);
+    }
+
+    /**
+     * Calculates the Bollinger Bands of the closing prices.
+     *
+     * @param quotes     the historical quotes.
+     * @param period     the number of bars of the bands, usually 20.
+     * @param deviations the number of standard deviations between the middle band and the outer bands, usually 2.
+     * @param out        the buffers to be written, or {@code null} to allocate them.
+     * @return the buffers holding the middle, upper and lower bands.
+     */
+    public static Bands bollinger(QuoteSeries quotes, int period, double deviations, Bands out) {
+        return bollinger(quotes.close(), period, deviations, out);
+    }
+
+    /**
+     * Calculates the Bollinger Bands of a series.
+     * <p>
+     * The middle band is the simple moving average and the outer bands are placed {@code deviations} population
+     * standard deviations above and below it.
+     *
+     * @param values     the input series.
+     * @param period     the number of values of the bands, usually 20.
+     * @param deviations the number of standard deviations between the middle band and the outer bands, usually 2.
+     * @param out        the buffers to be written, or {@code null} to allocate them. Buffers shorter than the input are replaced.
+     * @return the buffers holding the middle, upper and lower bands.
+     * @throws IllegalArgumentException if the period is smaller than one.
+     */
+    public static Bands bollinger(double[] values, int period, double deviations, Bands out) {
+        double[] middle = RollingWindowCalculator.movingAverage(values, period, out == null ? null : out.middle());
+        double[] upper = RollingWindowCalculator.rollingStandardDeviation(values, period, out == null ? null : out.upper());
+        double[] lower = buffer(values.length, period, out == null ? null : out.lower());
+        for (int i = 0; i < values.length; i++) {
+            double width = deviations * upper[i];
+            upper[i] = middle[i] + width;
+            lower[i] = middle[i] - width;
+        }
+        return out != null && out.middle() == middle && out.upper() == upper && out.lower() == lower
+            ? out
+            : new Bands(middle, upper, lower);
+    }
+
+    /**
+     * Calculates the average true range of the bars, with Wilder's smoothing.
+     * <p>
+     * The true range of a bar is the largest of its range and the distances from the previous closing price to its high
+     * and low prices. The first value, at index {@code period - 1}, is the simple average of the first true ranges.
+     *
+     * @param quotes the historical quotes.
+     * @param period the number of bars of the average, usually 14.
+     * @param out    the buffer to be written, or {@code null} to allocate one.
+     * @return the buffer holding the average true range.
+     * @throws IllegalArgumentException if the period is smaller than one.
+     */
+    public static double[] atr(QuoteSeries quotes, int period, double[] out) {
+        double[] high = quotes.high();
+        double[] low = quotes.low();
+        double[] close = quotes.close();
+        double[] result = buffer(close.length, period, out);
+        double average = 0.0;
+        for (int i = 0; i < close.length; i++) {
+            double range = high[i] - low[i];
+            if (i > 0) {
+                double previousClose = close[i - 1];
+                range = Math.max(range, Math.max(Math.abs(high[i] - previousClose), Math.abs(low[i] - previousClose)));
+            }
+            if (i < period - 1) {
+                average += range;
+            } else if (i == period - 1) {
+                average = (average + range) / period;
+                result[i] = average;
+            } else {
+                average = (average * (period - 1) + range) / period;
+                result[i] = average;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes the exponential moving average of {@code values[from, to)} into {@code out[from, to)}.
+     */
+    private static void ema(double[] values, int from, int to, int period, double[] out) {
+        double alpha = 2.0 / (period + 1);
+        double average = 0.0;
+        for (int i = from; i < to; i++) {
+            int bar = i - from;
+            if (bar < period - 1) {
+                average += values[i];
+                out[i] = Double.NaN;
+            } else if (bar == period - 1) {
+                average = (average + values[i]) / period;
+                out[i] = average;
+            } else {
+                average += alpha * (values[i] - average);
+                out[i] = average;
+            }
+        }
+    }
+
+    private static double strengthIndex(double gains, double losses) {
+        if (Double.isNaN(gains) || Double.isNaN(losses)) {
+            return Double.NaN;
+        }
+        if (losses == 0.0) {
+            return gains == 0.0 ? 50.0 : 100.0;
+        }
+        return 100.0 - 100.0 / (1.0 + gains / losses);
+    }
+
+    /**
+     * Prepares an output buffer, reusing the given one when it is large enough, and fills it with {@link Double#NaN}.
+     */
+    private static double[] buffer(int length, int period, double[] out) {
+        if (period < 1) {
+            throw new IllegalArgumentException("The period must have at least one bar: " + period);
+        }
+        double[] result = out != null && out.length >= length ? out : new double[length];
+        Arrays.fill(result, 0, length, Double.NaN);
+        return result;
+    }
+
+    /**
+     * The output series of the moving average convergence divergence.
+     *
+     * @param line      the MACD line.
+     * @param signal    the signal line.
+     * @param histogram the difference between the MACD line and the signal line.
+     */
+    public record Macd(
+            double[] line,
+            double[] signal,
+            double[] histogram
+    ) {}
+
+    /**
+     * The output series of the Bollinger Bands.
+     *
+     * @param middle the middle band.
+     * @param upper  the upper band.
+     * @param lower  the lower band.
+     */
+    public record Bands(
+            double[] middle,
+            double[] upper,
+            double[] lower
+    ) {}
+}
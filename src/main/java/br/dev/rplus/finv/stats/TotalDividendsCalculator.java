@@ -29,4 +29,49 @@ public class TotalDividendsCalculator implements StatisticsCalculator {
             .mapToDouble(StockDividend::amount)
             .sum();
     }
+
+    /**
+     * Accumulator that calculates the total dividends incrementally.
+     * <p>
+     * Amounts are summed with the same compensated summation as {@link java.util.stream.DoubleStream#sum()}.
+     * </p>
+     */
+    public static final class Accumulator implements StatisticsAccumulator {
+
+        private double sum;
+        private double compensation;
+        private double simpleSum;
+
+        @Override
+        public void acceptBar(long epochMillis, double open, double high, double low, double close, double adjClose, long volume) {}
+
+        @Override
+        public void accept(StockDividend dividend) {
+            add(dividend.amount());
+            this.simpleSum += dividend.amount();
+        }
+
+        @Override
+        public double result() {
+            double total = this.sum - this.compensation;
+            return Double.isNaN(total) && Double.isInfinite(this.simpleSum) ? this.simpleSum : total;
+        }
+
+        @Override
+        public void merge(StatisticsAccumulator other) {
+            if (!(other instanceof Accumulator accumulator)) {
+                throw new IllegalArgumentException("Cannot merge " + other + " into " + this + ".");
+            }
+            add(accumulator.sum);
+            add(-accumulator.compensation);
+            this.simpleSum += accumulator.simpleSum;
+        }
+
+        private void add(double value) {
+            double corrected = value - this.compensation;
+            double next = this.sum + corrected;
+            this.compensation = (next - this.sum) - corrected;
+            this.sum = next;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.enums.ConfigParams;
+
+import java.util.Arrays;
+
+/**
+ * ValueAtRiskCalculator is a class that calculates the historical value at risk of a stock based on its historical quotes.
+ * <p>
+ * The value at risk is the loss, as a fraction of the price, that the simple return of a single period exceeds with a
+ * probability of one minus {@link ConfigParams#VAR_CONFIDENCE}. It is the negated quantile of the returns of the
+ * adjusted closing prices, interpolated linearly between the closest returns. The returns are collected in a single
+ * pass over the prices and sorted once.
+ * </p>
+ *
+ * @see Stock
+ * @see Returns
+ */
+public class ValueAtRiskCalculator implements StatisticsCalculator {
+
+    /**
+     * The default constructor.
+     */
+    public ValueAtRiskCalculator() {}
+
+    @Override
+    public double calculate(Stock stock) {
+        QuoteSeries quotes = stock.getQuoteSeries();
+
+        // Return 0 if there are no quotes
+        if (quotes == null || quotes.isEmpty()) {
+            return 0;
+        }
+
+        Accumulator accumulator = new Accumulator();
+        accumulator.accept(quotes);
+        return accumulator.result();
+    }
+
+    /**
+     * Accumulator that calculates the value at risk incrementally.
+     * <p>
+     * The quantile depends on every return, so the accumulator keeps them all, in a primitive array.
+     * </p>
+     */
+    public static final class Accumulator extends ReturnAccumulator {
+
+        private double[] returns = new double[64];
+        private int size;
+
+        @Override
+        void acceptReturn(double previous, double price) {
+            add(price / previous - 1.0);
+        }
+
+        @Override
+        void mergeReturns(ReturnAccumulator other) {
+            Accumulator accumulator = (Accumulator) other;
+            for (int i = 0; i < accumulator.size; i++) {
+                add(accumulator.returns[i]);
+            }
+        }
+
+        @Override
+        public double result() {
+            if (this.size == 0) {
+                return 0.0;
+            }
+            // The order of the returns does not matter, so they are sorted in place
+            Arrays.sort(this.returns, 0, this.size);
+            double position = (1.0 - ConfigParams.VAR_CONFIDENCE.get().getTypedValue(Double.class)) * (this.size - 1);
+            int lower = (int) Math.floor(position);
+            int upper = Math.min(lower + 1, this.size - 1);
+            double quantile = this.returns[lower] + (position - lower) * (this.returns[upper] - this.returns[lower]);
+            return -quantile;
+        }
+
+        private void add(double value) {
+            if (this.size == this.returns.length) {
+                this.returns = Arrays.copyOf(this.returns, this.size << 1);
+            }
+            this.returns[this.size++] = value;
+        }
+    }
+}
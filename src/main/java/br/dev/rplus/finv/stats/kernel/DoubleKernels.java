@@ -0,0 +1,219 @@
+package br.dev.rplus.finv.stats.kernel;
+
+import br.dev.rplus.finv.enums.ConfigParams;
+
+/**
+ * Kernels that reduce primitive arrays, such as the close and volume columns of a
+ * {@link br.dev.rplus.finv.data.QuoteSeries}, into a single value.
+ * <p>
+ * Two implementations exist: a scalar one, always available, and one built on the incubating Vector API, which
+ * processes several elements per instruction. The vectorized kernels are only built with the {@code vectorKernels}
+ * Gradle property, so the rest of the library compiles without the incubating module. {@link #getInstance()} returns
+ * them when they were built, the {@code jdk.incubator.vector} module is present at runtime (started with
+ * {@code --add-modules jdk.incubator.vector}) and {@link ConfigParams#VECTOR_KERNELS} is enabled, and the scalar
+ * kernels otherwise. The vectorized kernels add the
+ * elements in a different order, so sums may differ from the scalar ones in the last bits.
+ * <p>
+ * Every method works on the elements {@code [from, to)} of its arrays. Missing ({@link Double#NaN}) values propagate
+ * to the result, as with {@link Math#min(double, double)} and {@link Math#max(double, double)}.
+ */
+public interface DoubleKernels {
+
+    /**
+     * Returns the kernels selected for the running JVM.
+     *
+     * @return the vectorized kernels if available, the scalar kernels otherwise.
+     */
+    static DoubleKernels getInstance() {
+        return KernelSelector.INSTANCE;
+    }
+
+    /**
+     * Sums the elements of a range.
+     *
+     * @param values the array.
+     * @param from   the first index, inclusive.
+     * @param to     the last index, exclusive.
+     * @return the sum, or zero for an empty range.
+     */
+    double sum(double[] values, int from, int to);
+
+    /**
+     * Sums the elements of a range exactly.
+     *
+     * @param values the array.
+     * @param from   the first index, inclusive.
+     * @param to     the last index, exclusive.
+     * @return the sum, or zero for an empty range.
+     */
+    long sum(long[] values, int from, int to);
+
+    /**
+     * Finds the smallest element of a range.
+     *
+     * @param values the array.
+     * @param from   the first index, inclusive.
+     * @param to     the last index, exclusive.
+     * @return the minimum, or {@link Double#POSITIVE_INFINITY} for an empty range.
+     */
+    double min(double[] values, int from, int to);
+
+    /**
+     * Finds the largest element of a range.
+     *
+     * @param values the array.
+     * @param from   the first index, inclusive.
+     * @param to     the last index, exclusive.
+     * @return the maximum, or {@link Double#NEGATIVE_INFINITY} for an empty range.
+     */
+    double max(double[] values, int from, int to);
+
+    /**
+     * Sums a range and finds its smallest and largest elements in a single pass.
+     * <p>
+     * The components of the summary are equal to the results of {@link #sum(double[], int, int)},
+     * {@link #min(double[], int, int)} and {@link #max(double[], int, int)} over the same range, so statistics computed
+     * from either agree exactly.
+     *
+     * @param values the array.
+     * @param from   the first index, inclusive.
+     * @param to     the last index, exclusive.
+     * @return the sum, minimum and maximum of the range.
+     */
+    Summary summarize(double[] values, int from, int to);
+
+    /**
+     * Calculates the population variance of a range, with one pass for the mean and one for the squared deviations.
+     *
+     * @param values the array.
+     * @param from   the first index, inclusive.
+     * @param to     the last index, exclusive.
+     * @return the variance, or {@link Double#NaN} for an empty range.
+     */
+    double variance(double[] values, int from, int to);
+
+    /**
+     * Calculates the dot product of the same range of two arrays.
+     *
+     * @param a    the first array.
+     * @param b    the second array.
+     * @param from the first index, inclusive.
+     * @param to   the last index, exclusive.
+     * @return the sum of the products {@code a[i] * b[i]}, or zero for an empty range.
+     */
+    double dot(double[] a, double[] b, int from, int to);
+
+    /**
+     * Calculates the dot product of the same range of a price array and a volume array.
+     *
+     * @param prices  the prices.
+     * @param volumes the volumes.
+     * @param from    the first index, inclusive.
+     * @param to      the last index, exclusive.
+     * @return the sum of the products {@code prices[i] * volumes[i]}, or zero for an empty range.
+     */
+    double dot(double[] prices, long[] volumes, int from, int to);
+
+    /**
+     * Sums all elements.
+     *
+     * @param values the array.
+     * @return the sum, or zero for an empty array.
+     */
+    default double sum(double[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    /**
+     * Sums all elements exactly.
+     *
+     * @param values the array.
+     * @return the sum, or zero for an empty array.
+     */
+    default long sum(long[] values) {
+        return sum(values, 0, values.length);
+    }
+
+    /**
+     * Finds the smallest element.
+     *
+     * @param values the array.
+     * @return the minimum, or {@link Double#POSITIVE_INFINITY} for an empty array.
+     */
+    default double min(double[] values) {
+        return min(values, 0, values.length);
+    }
+
+    /**
+     * Finds the largest element.
+     *
+     * @param values the array.
+     * @return the maximum, or {@link Double#NEGATIVE_INFINITY} for an empty array.
+     */
+    default double max(double[] values) {
+        return max(values, 0, values.length);
+    }
+
+    /**
+     * Sums all elements and finds the smallest and largest of them in a single pass.
+     *
+     * @param values the array.
+     * @return the sum, minimum and maximum of the array.
+     */
+    default Summary summarize(double[] values) {
+        return summarize(values, 0, values.length);
+    }
+
+    /**
+     * Calculates the population variance of all elements.
+     *
+     * @param values the array.
+     * @return the variance, or {@link Double#NaN} for an empty array.
+     */
+    default double variance(double[] values) {
+        return variance(values, 0, values.length);
+    }
+
+    /**
+     * Calculates the dot product of two arrays of the same length.
+     *
+     * @param a the first array.
+     * @param b the second array.
+     * @return the sum of the products {@code a[i] * b[i]}.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    default double dot(double[] a, double[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("The arrays must have the same length.");
+        }
+        return dot(a, b, 0, a.length);
+    }
+
+    /**
+     * Calculates the dot product of a price array and a volume array of the same length.
+     *
+     * @param prices  the prices.
+     * @param volumes the volumes.
+     * @return the sum of the products {@code prices[i] * volumes[i]}.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    default double dot(double[] prices, long[] volumes) {
+        if (prices.length != volumes.length) {
+            throw new IllegalArgumentException("The arrays must have the same length.");
+        }
+        return dot(prices, volumes, 0, prices.length);
+    }
+
+    /**
+     * The sum, minimum and maximum of a range, as produced by {@link #summarize(double[], int, int)}.
+     *
+     * @param sum the sum, or zero for an empty range.
+     * @param min the minimum, or {@link Double#POSITIVE_INFINITY} for an empty range.
+     * @param max the maximum, or {@link Double#NEGATIVE_INFINITY} for an empty range.
+     */
+    record Summary(
+            double sum,
+            double min,
+            double max
+    ) {}
+}
@@ -0,0 +1,34 @@
+package br.dev.rplus.finv.stats.kernel;
+
+import br.dev.rplus.cup.log.Logger;
+import br.dev.rplus.finv.enums.ConfigParams;
+
+/**
+ * Selects the {@link DoubleKernels} of the running JVM on first use.
+ */
+final class KernelSelector {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    static final DoubleKernels INSTANCE = select();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private KernelSelector() {}
+
+    private static DoubleKernels select() {
+        if (ConfigParams.VECTOR_KERNELS.get().asBoolean() && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (DoubleKernels) Class.forName("br.dev.rplus.finv.stats.kernel.VectorDoubleKernels")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            } catch (ClassNotFoundException e) {
+                Logger.getInstance().debug("The vectorized kernels were not built. Using the scalar kernels.");
+            } catch (ReflectiveOperationException | LinkageError e) {
+                Logger.getInstance().warn("Error loading the vectorized kernels. Falling back to the scalar kernels.", e);
+            }
+        }
+        return new ScalarDoubleKernels();
+    }
+}
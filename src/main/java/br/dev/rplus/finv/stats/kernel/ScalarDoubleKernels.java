@@ -0,0 +1,90 @@
+package br.dev.rplus.finv.stats.kernel;
+
+/**
+ * Scalar implementation of the {@link DoubleKernels}, processing one element at a time.
+ */
+final class ScalarDoubleKernels implements DoubleKernels {
+
+    @Override
+    public double sum(double[] values, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long sum(long[] values, int from, int to) {
+        long sum = 0L;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] values, int from, int to) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values, int from, int to) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public Summary summarize(double[] values, int from, int to) {
+        double sum = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            double value = values[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return new Summary(sum, min, max);
+    }
+
+    @Override
+    public double variance(double[] values, int from, int to) {
+        int count = to - from;
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        double mean = sum(values, from, to) / count;
+        double squares = 0.0;
+        for (int i = from; i < to; i++) {
+            double deviation = values[i] - mean;
+            squares += deviation * deviation;
+        }
+        return squares / count;
+    }
+
+    @Override
+    public double dot(double[] a, double[] b, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double dot(double[] prices, long[] volumes, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            sum += prices[i] * volumes[i];
+        }
+        return sum;
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -62,6 +65,8 @@ class FinvTest {
         Stock stock = Finv.get("INVALID_TICKER");
         assertNotNull(stock, "Stock object should not be null even for an invalid ticker");
         assertNull(stock.getName(), "Name should be null for an invalid ticker");
+        assertTrue(stock.isFailed(), "An invalid ticker should be marked as failed");
+        assertNotNull(stock.getFailure(), "The failure of an invalid ticker should have a cause");
     }
 
     /**
@@ -165,4 +170,39 @@ class FinvTest {
         assertNotNull(stock.getDividendHistory(), "Dividend history should not be null");
         assertNotNull(stock.getSplitHistory(), "Split history should not be null");
     }
+
+    /**
+     * Test retrieving multiple stocks at once.
+     * <p>
+     * This test verifies that the stocks fetched concurrently are returned in the same order as the input tickers,
+     * that duplicated tickers are fetched only once and that an invalid ticker does not abort the whole batch.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveMultipleStocksInInputOrder() {
+        List<Stock> stocks = Finv.get("MSFT", "INVALID_TICKER", "AAPL", "MSFT");
+        assertEquals(3, stocks.size(), "Duplicated tickers should be fetched only once");
+        assertEquals("MSFT", stocks.get(0).getTicker(), "Stocks should keep the input order");
+        assertEquals("INVALID_TICKER", stocks.get(1).getTicker(), "Stocks should keep the input order");
+        assertEquals("AAPL", stocks.get(2).getTicker(), "Stocks should keep the input order");
+        assertTrue(stocks.get(1).isFailed(), "The invalid ticker should be marked as failed");
+    }
+
+    /**
+     * Test retrieving a stock and its history asynchronously.
+     * <p>
+     * This test ensures that the quote and the history fetched concurrently populate the same stock object.
+     * </p>
+     */
+    @Test
+    void shouldRetrieveStockWithEventsAsynchronously() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Stock> future = Finv.getAsync("AAPL", Event.HISTORY, executor);
+            Stock stock = future.join();
+            assertEquals("AAPL", stock.getTicker(), "Ticker should match the input");
+            assertNotNull(stock.getQuote(), "Quote should not be null");
+            assertNotNull(stock.getQuoteHistory(), "Quote history should not be null when history event is requested");
+            assertTrue(Finv.statsAsync(future, Stats.AVERAGE_CLOSE_PRICE, executor).join() > 0, "Average close price should be positive");
+        }
+    }
 }
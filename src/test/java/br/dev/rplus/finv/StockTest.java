@@ -0,0 +1,98 @@
+package br.dev.rplus.finv;
+
+import br.dev.rplus.finv.data.StockDescriptor;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.enums.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link Stock} class.
+ */
+class StockTest {
+
+    /**
+     * Test caching statistics in a stock.
+     * <p>
+     * This test ensures that cached values are reused until a setter replaces the data they were calculated from.
+     * </p>
+     */
+    @Test
+    void shouldCacheStatisticsUntilDataChanges() {
+        Stock stock = new Stock("PETR4.SA");
+        List<StockDividend> dividends = new ArrayList<>(List.of(new StockDividend(1.0, 1L)));
+        stock.setDividendHistory(dividends);
+
+        assertEquals(1.0, stock.stats(Stats.TOTAL_DIVIDENDS), "Statistic should be calculated on first use");
+
+        dividends.add(new StockDividend(2.0, 2L));
+        assertEquals(1.0, stock.stats(Stats.TOTAL_DIVIDENDS), "Cached statistic should be reused while no setter is called");
+
+        stock.setDividendHistory(dividends);
+        assertEquals(3.0, stock.stats(Stats.TOTAL_DIVIDENDS), "Setter should discard the cached statistic");
+        assertEquals(3.0, stock.stats(List.of(Stats.TOTAL_DIVIDENDS, Stats.MAX_CLOSING_PRICE)).get(Stats.TOTAL_DIVIDENDS),
+            "Cached and calculated statistics should be combined");
+    }
+
+    /**
+     * Test printing a stock with cached statistics.
+     * <p>
+     * This test ensures that the cache is not part of the printed representation.
+     * </p>
+     */
+    @Test
+    void shouldNotPrintCachedStatistics() {
+        Stock stock = new Stock("PETR4.SA");
+        stock.stats(Stats.AVERAGE_CLOSE_PRICE);
+
+        assertFalse(stock.print(false).toString().contains("statsCache"), "Transient fields should not be printed");
+    }
+
+    /**
+     * Test printing a stock with a quote history.
+     * <p>
+     * This test ensures that the history is printed once, and not a second time through its columnar form.
+     * </p>
+     */
+    @Test
+    void shouldPrintQuoteHistoryOnce() {
+        Stock stock = new Stock("PETR4.SA");
+        stock.setQuoteHistory(List.of(new StockHistoricalQuote(1704205800_000L, 1.0, 2.0, 2.0, 0.5, 2.5, 10L)));
+
+        String printed = stock.print(false).toString();
+        assertTrue(printed.contains("quoteHistory: "), "The quote history should be printed");
+        assertFalse(printed.contains("quoteSeries"), "The columnar form of the history should not be printed");
+    }
+
+    /**
+     * Test populating the market metadata of a stock one field at a time.
+     * <p>
+     * This test ensures that the partial descriptors are not interned, even when an equal descriptor is, and that the
+     * metadata is printed one value per line, as before it was grouped in a descriptor.
+     * </p>
+     */
+    @Test
+    void shouldNotInternPartialDescriptors() {
+        StockDescriptor shared = StockDescriptor.of("BRL", "SAO", null, null, "BR", null, null);
+        Stock stock = new Stock("PETR4.SA");
+        stock.setCurrency("BRL");
+        stock.setMarket("SAO");
+        stock.setRegion("BR");
+
+        assertEquals(shared, stock.getDescriptor(), "The setters should build the same values");
+        assertNotSame(shared, stock.getDescriptor(), "Descriptors built by the setters should not be interned");
+        assertSame(shared, StockDescriptor.intern(stock.getDescriptor()), "Interning should return the shared descriptor");
+        assertNotSame(StockDescriptor.of("USD", null, null, null, null, null, null), StockDescriptor.EMPTY.withCurrency("USD"),
+            "Descriptors built by the with methods should not be interned");
+        assertEquals("BRL", stock.getCurrency(), "The currency should be kept");
+
+        String printed = stock.print(false).toString();
+        assertTrue(printed.contains("currency: BRL\nmarket: SAO\n"), "Metadata should be printed one value per line");
+        assertFalse(printed.contains("descriptor"), "The descriptor itself should not be printed");
+    }
+}
@@ -0,0 +1,69 @@
+package br.dev.rplus.finv.cache;
+
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.enums.Event;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the merge of incremental refreshes into a cached history.
+ */
+class CachedHistoryTest {
+
+    private static final long DAY = 86_400_000L;
+
+    /**
+     * Test merging an incremental refresh without data.
+     * <p>
+     * This test ensures that the last cached bar, from which the refresh resumes, is kept and that the cached range is
+     * not extended.
+     * </p>
+     */
+    @Test
+    void shouldKeepHistoryOnEmptyRefresh() {
+        CachedHistory cached = history();
+
+        CachedHistory merged = cached.merge(10 * DAY, List.of(), List.of(), null);
+
+        assertSame(cached, merged, "An empty refresh should leave the history unchanged");
+        assertEquals(3, merged.quotes().size(), "The last cached bar should be kept");
+        assertEquals(3 * DAY, merged.to(), "The cached range should not be extended");
+    }
+
+    /**
+     * Test merging an incremental refresh that revises the last bar and adds a new one.
+     * <p>
+     * This test ensures that only the entries with the same date are replaced and that events without fetched data
+     * keep their cached entries.
+     * </p>
+     */
+    @Test
+    void shouldReplaceOnlySupersededEntries() {
+        CachedHistory cached = history();
+
+        CachedHistory merged = cached.merge(10 * DAY, List.of(quote(2 * DAY, 12.5), quote(3 * DAY, 13.0)), List.of(), null);
+
+        assertEquals(4, merged.quotes().size(), "The revised bar should replace the cached one and the new bar should be added");
+        assertEquals(12.0, merged.quotes().get(1).close(), "Bars not fetched again should be kept");
+        assertEquals(12.5, merged.quotes().get(2).close(), "The revised bar should replace the cached one");
+        assertEquals(13.0, merged.quotes().get(3).close(), "The new bar should be appended");
+        assertEquals(1, merged.dividends().size(), "Dividends should be kept when none were fetched");
+        assertEquals(10 * DAY, merged.to(), "The cached range should be extended");
+    }
+
+    private static CachedHistory history() {
+        return CachedHistory.of(0L, 3 * DAY, Set.of(Event.HISTORY, Event.DIVIDENDS),
+            List.of(quote(0L, 11.0), quote(DAY, 12.0), quote(2 * DAY, 12.2)),
+            List.of(new StockDividend(0.1, 2 * DAY)),
+            List.of());
+    }
+
+    private static StockHistoricalQuote quote(long epochMillis, double close) {
+        return new StockHistoricalQuote(epochMillis, close, close, close, close, close, 1000L);
+    }
+}
@@ -0,0 +1,128 @@
+package br.dev.rplus.finv.cache;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.StockDescriptor;
+import br.dev.rplus.finv.data.StockQuote;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory {@link QuoteCache}.
+ */
+class QuoteCacheTest {
+
+    private static final long MINUTE = 60_000L;
+
+    /**
+     * Test caching more tickers than the cache can hold.
+     * <p>
+     * This test ensures that the least recently used ticker is evicted, and that reading an entry makes it recently
+     * used.
+     * </p>
+     */
+    @Test
+    void shouldEvictLeastRecentlyUsedTicker() {
+        QuoteCache cache = new QuoteCache(2, MINUTE, MINUTE);
+        cache.put(stock("AAPL", "REGULAR"));
+        cache.put(stock("MSFT", "REGULAR"));
+
+        assertTrue(cache.get("AAPL").isPresent(), "A cached ticker should be returned");
+        cache.put(stock("PETR4.SA", "REGULAR"));
+
+        assertTrue(cache.get("AAPL").isPresent(), "A recently read ticker should be kept");
+        assertTrue(cache.get("MSFT").isEmpty(), "The least recently used ticker should be evicted");
+        assertTrue(cache.get("PETR4.SA").isPresent(), "The new ticker should be cached");
+    }
+
+    /**
+     * Test reading an entry after its time-to-live.
+     * <p>
+     * This test ensures that expired entries are not returned, and that the time-to-live depends on the market state
+     * the quote was fetched in.
+     * </p>
+     */
+    @Test
+    void shouldExpireEntriesByMarketState() {
+        QuoteCache cache = new QuoteCache(10, 0L, MINUTE);
+        cache.put(stock("AAPL", "REGULAR"));
+        cache.put(stock("PETR4.SA", "CLOSED"));
+
+        assertTrue(cache.get("AAPL").isEmpty(), "A quote past its time-to-live should expire");
+        assertTrue(cache.get("PETR4.SA").isPresent(), "A quote of a closed market should use the closed time-to-live");
+    }
+
+    /**
+     * Test the time-to-live of each market state.
+     * <p>
+     * This test ensures that the regular and pre-market sessions use the open time-to-live, that the other states use
+     * the closed one, and that an unknown state is treated as open.
+     * </p>
+     */
+    @Test
+    void shouldChooseTtlByMarketState() {
+        QuoteCache cache = new QuoteCache(10, 5L, 300L);
+
+        assertEquals(5L, cache.ttlOf("REGULAR"), "The regular session should use the open time-to-live");
+        assertEquals(5L, cache.ttlOf("PRE"), "The pre-market session should use the open time-to-live");
+        assertEquals(5L, cache.ttlOf(null), "An unknown state should use the open time-to-live");
+        assertEquals(300L, cache.ttlOf("POST"), "The post-market session should use the closed time-to-live");
+        assertEquals(300L, cache.ttlOf("CLOSED"), "A closed market should use the closed time-to-live");
+    }
+
+    /**
+     * Test caching stocks that could not be fetched.
+     * <p>
+     * This test ensures that stocks without a quote and failed stocks are not cached, and that a disabled cache holds
+     * nothing.
+     * </p>
+     */
+    @Test
+    void shouldNotCacheStocksWithoutQuote() {
+        QuoteCache cache = new QuoteCache(10, MINUTE, MINUTE);
+        Stock failed = stock("MSFT", "REGULAR");
+        failed.setFailure(new IOException("Unavailable"));
+
+        cache.put(new Stock("AAPL"));
+        cache.put(failed);
+        cache.put(null);
+
+        assertTrue(cache.get("AAPL").isEmpty(), "A stock without a quote should not be cached");
+        assertTrue(cache.get("MSFT").isEmpty(), "A failed stock should not be cached");
+
+        QuoteCache disabled = new QuoteCache(0, MINUTE, MINUTE);
+        disabled.put(stock("AAPL", "REGULAR"));
+        assertFalse(disabled.isEnabled(), "A cache without entries should be disabled");
+        assertTrue(disabled.get("AAPL").isEmpty(), "A disabled cache should hold nothing");
+    }
+
+    /**
+     * Test reading a cached stock and changing it.
+     * <p>
+     * This test ensures that every hit returns a new stock with the cached data, so callers cannot change the cache.
+     * </p>
+     */
+    @Test
+    void shouldReturnNewStockOnEveryHit() {
+        QuoteCache cache = new QuoteCache(10, MINUTE, MINUTE);
+        cache.put(stock("AAPL", "REGULAR"));
+
+        Stock first = cache.get("AAPL").orElseThrow();
+        first.setName("Changed");
+        Stock second = cache.get("AAPL").orElseThrow();
+
+        assertNotSame(first, second, "Every hit should return a new stock");
+        assertEquals("Apple Inc.", second.getName(), "Changes to a returned stock should not reach the cache");
+        assertEquals(190.0, second.getQuote().price(), 0.0, "The cached quote should be returned");
+    }
+
+    private static Stock stock(String ticker, String marketState) {
+        Stock stock = new Stock(ticker);
+        stock.setName("Apple Inc.");
+        stock.setDescriptor(StockDescriptor.of("USD", "NasdaqGS", marketState, "EQUITY", "US", "America/New_York", "Nasdaq Real Time"));
+        stock.setQuote(new StockQuote(1704205800_000L, 190.0, 1.0, 189.0, 189.0, 188.0, 191.0, 100L, 189.9, 190.1));
+        return stock;
+    }
+}
@@ -0,0 +1,88 @@
+package br.dev.rplus.finv.cache;
+
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.enums.Frequency;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the memory-mapped shared history store.
+ */
+class SharedHistoryStoreTest {
+
+    /**
+     * Test publishing a series, appending bars to it and rewriting it.
+     * <p>
+     * This test ensures that views read the published bars, keep the size they had when created,
+     * and that a reader sees the new file once a changed series replaces the old one.
+     * </p>
+     */
+    @Test
+    void shouldShareAppendedAndRewrittenSeries() throws IOException {
+        Path directory = Files.createTempDirectory("finv-store");
+        SharedHistoryStore writer = new SharedHistoryStore(directory);
+        SharedHistoryStore reader = new SharedHistoryStore(directory);
+
+        assertTrue(reader.view("PETR4.SA", Frequency.DAILY).isEmpty(), "No series should exist before it is written");
+
+        writer.write("PETR4.SA", Frequency.DAILY, series(37.5, 37.8));
+        List<StockHistoricalQuote> first = reader.view("PETR4.SA", Frequency.DAILY).orElseThrow();
+        assertEquals(2, first.size(), "Published bars should be visible");
+        assertEquals(37.8, first.get(1).close(), "Bars should be read from the mapped file");
+        assertEquals(1704279600000L, first.get(1).epochMillis(), "Timestamps should be returned in milliseconds");
+
+        writer.write("PETR4.SA", Frequency.DAILY, series(37.5, 37.8, 37.9));
+        assertEquals(2, first.size(), "Existing views should keep their size");
+        List<StockHistoricalQuote> appended = reader.view("PETR4.SA", Frequency.DAILY).orElseThrow();
+        assertEquals(3, appended.size(), "Appended bars should be visible to new views");
+        assertEquals(37.9, appended.get(2).close(), "Appended bars should be read from the mapped file");
+
+        writer.write("PETR4.SA", Frequency.DAILY, series(36.0, 37.8, 37.9));
+        List<StockHistoricalQuote> rewritten = reader.view("PETR4.SA", Frequency.DAILY).orElseThrow();
+        assertEquals(36.0, rewritten.get(0).close(), "Readers should map the rewritten series");
+    }
+
+    /**
+     * Test publishing a series whose last bar was revised without changing its closing price.
+     * <p>
+     * This test ensures that the revised high, low and volume replace the published ones instead of being kept.
+     * </p>
+     */
+    @Test
+    void shouldRewriteRevisedBarWithSameClose() throws IOException {
+        Path directory = Files.createTempDirectory("finv-store");
+        SharedHistoryStore writer = new SharedHistoryStore(directory);
+        SharedHistoryStore reader = new SharedHistoryStore(directory);
+
+        writer.write("PETR4.SA", Frequency.DAILY, series(37.5, 37.8));
+        QuoteSeries revised = series(37.5, 37.8, 37.9);
+        revised.high()[1] = 38.4;
+        revised.low()[1] = 37.1;
+        revised.volume()[1] = 9_000L;
+        writer.write("PETR4.SA", Frequency.DAILY, revised);
+
+        List<StockHistoricalQuote> view = reader.view("PETR4.SA", Frequency.DAILY).orElseThrow();
+        assertEquals(3, view.size(), "Every bar of the revised series should be published");
+        assertEquals(38.4, view.get(1).high(), "The revised high should be published");
+        assertEquals(37.1, view.get(1).low(), "The revised low should be published");
+        assertEquals(9_000L, view.get(1).volume().longValue(), "The revised volume should be published");
+    }
+
+    private static QuoteSeries series(double... close) {
+        int size = close.length;
+        long[] epochSeconds = new long[size];
+        long[] volume = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochSeconds[i] = 1704193200L + i * 86400L;
+            volume[i] = 1000L * (i + 1);
+        }
+        return new QuoteSeries(epochSeconds, close.clone(), close.clone(), close.clone(), close.clone(), close.clone(), volume);
+    }
+}
@@ -0,0 +1,48 @@
+package br.dev.rplus.finv.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the concurrent fetches of {@link ConcurrentFetcher}.
+ */
+class ConcurrentFetcherTest {
+
+    /**
+     * Test fetching keys when one of them fails.
+     * <p>
+     * This test ensures that the outcomes keep the input order, that the failed key reports its cause,
+     * and that the fallback value is only used for the failed key.
+     * </p>
+     */
+    @Test
+    void shouldReportFailedKeys() {
+        List<String> keys = List.of("PETR4.SA", "INVALID_TICKER", "VALE3.SA");
+        IllegalStateException cause = new IllegalStateException("Not found");
+
+        List<FetchOutcome<String>> outcomes = ConcurrentFetcher.fetchOutcomes(keys, 2, key -> {
+            if (key.startsWith("INVALID")) {
+                throw cause;
+            }
+            return key.toLowerCase();
+        });
+
+        assertEquals(3, outcomes.size(), "There should be one outcome per key");
+        assertEquals("petr4.sa", outcomes.get(0).value(), "Successful keys should hold their value");
+        assertFalse(outcomes.get(0).isFailed(), "Successful keys should not be failed");
+        assertEquals("INVALID_TICKER", outcomes.get(1).key(), "Outcomes should keep the input order");
+        assertTrue(outcomes.get(1).isFailed(), "The failing key should be reported as failed");
+        assertSame(cause, outcomes.get(1).failure(), "The failure should hold its cause");
+
+        List<String> values = ConcurrentFetcher.fetchAll(keys, 2, key -> {
+            if (key.startsWith("INVALID")) {
+                throw cause;
+            }
+            return key;
+        }, key -> "fallback");
+        assertEquals(List.of("PETR4.SA", "fallback", "VALE3.SA"), values, "Only the failed key should get the fallback value");
+    }
+}
@@ -0,0 +1,66 @@
+package br.dev.rplus.finv.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the request coalescing of {@link SingleFlight}.
+ */
+class SingleFlightTest {
+
+    /**
+     * Test coalescing concurrent calls of the same key.
+     * <p>
+     * This test ensures that callers arriving while a call is in flight share its result instead of running it again,
+     * and that the key is released once the call completes.
+     * </p>
+     */
+    @Test
+    void shouldShareTheInFlightCallOfTheSameKey() throws Exception {
+        int followerCount = 8;
+        CountDownLatch joined = new CountDownLatch(followerCount);
+        SingleFlight<String, Integer> flight = new SingleFlight<>(joined::countDown);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> leader = executor.submit(() -> flight.execute("AAPL", () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return calls.incrementAndGet();
+            }));
+            started.await();
+
+            List<Future<Integer>> followers = new ArrayList<>();
+            for (int i = 0; i < followerCount; i++) {
+                followers.add(executor.submit(() -> flight.execute("AAPL", calls::incrementAndGet)));
+            }
+            joined.await();
+            assertEquals(1, flight.inFlight(), "The leader should still be in flight while followers join");
+            release.countDown();
+
+            assertEquals(1, leader.get().intValue(), "The leader should run the call");
+            for (Future<Integer> follower : followers) {
+                assertEquals(1, follower.get().intValue(), "Followers should share the result of the leader");
+            }
+        }
+
+        assertEquals(1, calls.get(), "The call should run only once");
+        assertEquals(0, flight.inFlight(), "The key should be released after the call completes");
+        assertEquals(2, flight.execute("AAPL", calls::incrementAndGet).intValue(), "A later call should run again");
+    }
+}
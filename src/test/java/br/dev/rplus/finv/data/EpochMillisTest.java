@@ -0,0 +1,68 @@
+package br.dev.rplus.finv.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the dates of the quote and event records, stored in milliseconds since the epoch.
+ */
+class EpochMillisTest {
+
+    private static final long MILLIS = 1704205800_123L;
+
+    /**
+     * Test building the records from a {@link Date}.
+     * <p>
+     * This test ensures that the date is stored in milliseconds, and that the {@link Date} and {@link Instant}
+     * accessors return the same point in time as new objects.
+     * </p>
+     */
+    @Test
+    void shouldExposeMillisAsDateAndInstant() {
+        Date date = new Date(MILLIS);
+        StockQuote quote = new StockQuote(date, 10.0, 0.5, 9.5, 9.5, 9.0, 10.5, 100L, 9.9, 10.1);
+        StockHistoricalQuote historical = new StockHistoricalQuote(date, 9.5, 10.0, 10.0, 9.0, 10.5, 100L);
+        StockDividend dividend = new StockDividend(0.24, date);
+        StockSplit split = new StockSplit("4:1", date);
+
+        assertEquals(MILLIS, quote.epochMillis(), "The market time should be stored in milliseconds");
+        assertEquals(MILLIS, historical.epochMillis(), "The quote date should be stored in milliseconds");
+        assertEquals(MILLIS, dividend.epochMillis(), "The dividend date should be stored in milliseconds");
+        assertEquals(MILLIS, split.epochMillis(), "The split date should be stored in milliseconds");
+
+        assertEquals(date, quote.marketTime(), "The market time should be read back as a date");
+        assertEquals(date, historical.date(), "The quote date should be read back as a date");
+        assertEquals(date, dividend.date(), "The dividend date should be read back as a date");
+        assertEquals(date, split.date(), "The split date should be read back as a date");
+        assertNotSame(dividend.date(), dividend.date(), "Every read should return a new date");
+        assertEquals(Instant.ofEpochMilli(MILLIS), split.instant(), "The date should be read back as an instant");
+
+        assertEquals(dividend, new StockDividend(0.24, MILLIS), "Records built from a date or from millis should be equal");
+    }
+
+    /**
+     * Test building the records from a {@code null} {@link Date}.
+     * <p>
+     * This test ensures that a missing date is accepted, as when the records held the {@link Date} itself, and is
+     * read back as {@code null}.
+     * </p>
+     */
+    @Test
+    void shouldKeepMissingDates() {
+        StockQuote quote = new StockQuote((Date) null, 10.0, 0.5, 9.5, 9.5, 9.0, 10.5, 100L, 9.9, 10.1);
+        StockHistoricalQuote historical = new StockHistoricalQuote((Date) null, 9.5, 10.0, 10.0, 9.0, 10.5, 100L);
+        StockDividend dividend = new StockDividend(0.24, (Date) null);
+        StockSplit split = new StockSplit("4:1", (Date) null);
+
+        assertNull(quote.marketTime(), "A missing market time should be read back as null");
+        assertNull(quote.instant(), "A missing market time should have no instant");
+        assertNull(historical.date(), "A missing quote date should be read back as null");
+        assertNull(dividend.date(), "A missing dividend date should be read back as null");
+        assertNull(split.date(), "A missing split date should be read back as null");
+        assertTrue(split.toString().contains("date: null"), "A missing date should be printed as null");
+    }
+}
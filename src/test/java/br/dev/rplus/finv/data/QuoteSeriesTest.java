@@ -0,0 +1,94 @@
+package br.dev.rplus.finv.data;
+
+import br.dev.rplus.finv.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the columnar {@link QuoteSeries}.
+ */
+class QuoteSeriesTest {
+
+    private static final List<StockHistoricalQuote> QUOTES = List.of(
+        new StockHistoricalQuote(1704205800_000L, 187.15, 185.64, 184.73, 183.89, 188.44, 82488700L),
+        new StockHistoricalQuote(1704292200_000L, 184.22, 184.25, 183.35, 183.43, 185.88, 58414500L)
+    );
+
+    /**
+     * Test converting historical quotes to a series and back.
+     * <p>
+     * This test ensures that every field of every bar is kept, in the same order, and that the list view is
+     * unmodifiable.
+     * </p>
+     */
+    @Test
+    void shouldRoundTripHistoricalQuotes() {
+        QuoteSeries series = QuoteSeries.of(QUOTES);
+
+        assertEquals(2, series.size(), "Every quote should become a bar");
+        assertArrayEquals(new long[]{1704205800L, 1704292200L}, series.epochSeconds(), "Dates should be kept in seconds");
+        assertArrayEquals(new double[]{185.64, 184.25}, series.close(), 0.0, "Close prices should be kept");
+        assertEquals(QUOTES, series.asList(), "The list view should hold the original quotes");
+        assertSame(series, QuoteSeries.of(series.asList()), "A list view should be converted back without copying");
+        assertThrows(UnsupportedOperationException.class, () -> series.asList().add(QUOTES.get(0)),
+            "The list view should be unmodifiable");
+    }
+
+    /**
+     * Test converting a historical quote without volume.
+     * <p>
+     * This test ensures that a missing volume is stored as zero.
+     * </p>
+     */
+    @Test
+    void shouldStoreMissingVolumeAsZero() {
+        QuoteSeries series = QuoteSeries.of(List.of(new StockHistoricalQuote(1704205800_000L, 1.0, 2.0, 2.0, 0.5, 2.5, null)));
+
+        assertArrayEquals(new long[]{0L}, series.volume(), "A missing volume should be stored as zero");
+        assertEquals(0L, series.get(0).volume().longValue(), "A missing volume should be read as zero");
+    }
+
+    /**
+     * Test setting the quote history of a stock.
+     * <p>
+     * This test ensures that the history is stored as a series and that the history read back is a view of it.
+     * </p>
+     */
+    @Test
+    void shouldStoreQuoteHistoryAsSeries() {
+        Stock stock = new Stock("AAPL");
+        stock.setQuoteHistory(QUOTES);
+
+        QuoteSeries series = stock.getQuoteSeries();
+        assertNotNull(series, "The history should be stored as a series");
+        assertArrayEquals(new double[]{184.73, 183.35}, series.adjClose(), 0.0, "Adjusted close prices should be stored");
+        assertEquals(QUOTES, stock.getQuoteHistory(), "The history should be read back unchanged");
+        assertSame(series, QuoteSeries.of(stock.getQuoteHistory()), "The history should be a view of the series");
+
+        stock.setQuoteHistory(null);
+        assertNull(stock.getQuoteSeries(), "Clearing the history should clear the series");
+    }
+
+    /**
+     * Test reading the series of a stock whose history is an attached view.
+     * <p>
+     * This test ensures that the series is built from the view on every call and that the stock does not keep the
+     * heap copy, so a shared history is never pinned on the heap.
+     * </p>
+     */
+    @Test
+    void shouldNotKeepCopyOfHistoryView() {
+        Stock stock = new Stock("AAPL");
+        stock.setQuoteHistoryView(QUOTES);
+
+        QuoteSeries first = stock.getQuoteSeries();
+        QuoteSeries second = stock.getQuoteSeries();
+
+        assertArrayEquals(new double[]{185.64, 184.25}, first.close(), 0.0, "The series should be built from the view");
+        assertNotSame(first, second, "The copy of the view should not be kept");
+        assertSame(QUOTES, stock.getQuoteHistory(), "The view should stay attached");
+    }
+}
@@ -0,0 +1,76 @@
+package br.dev.rplus.finv.io;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDescriptor;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockQuote;
+import br.dev.rplus.finv.data.StockSplit;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the binary columnar snapshot format.
+ */
+class StockBinaryFormatTest {
+
+    /**
+     * Test writing and reading back a snapshot with several stocks.
+     * <p>
+     * This test ensures that descriptors, quotes, delta-encoded histories and missing values survive the round trip,
+     * and that absent histories stay absent.
+     * </p>
+     */
+    @Test
+    void shouldReadBackWrittenStocks() throws IOException {
+        Stock full = new Stock("PETR4.SA");
+        full.setName("Petróleo Brasileiro S.A.");
+        full.setDescriptor(StockDescriptor.of("BRL", null, "CLOSED", "EQUITY", "BR", "America/Sao_Paulo", null));
+        full.setQuote(new StockQuote(1704225600000L, 37.5, -0.2, 37.7, 37.7, 37.1, 37.9, null, 37.49, 37.51));
+        full.setQuoteSeries(new QuoteSeries(
+            new long[]{1704193200L, 1704279600L, 1704366000L},
+            new double[]{37.0, 37.4, Double.NaN},
+            new double[]{37.9, 38.0, 38.1},
+            new double[]{36.8, 37.1, 37.2},
+            new double[]{37.5, 37.8, 37.9},
+            new double[]{30.1, 30.3, 30.4},
+            new long[]{50_000_000L, 0L, 42_000_000L}
+        ));
+        full.setDividendHistory(List.of(new StockDividend(1.25, 1704193200000L), new StockDividend(0.75, 1711969200000L)));
+        full.setSplitHistory(List.of(new StockSplit("2:1", 1209600000000L)));
+
+        Stock empty = new Stock("INVALID_TICKER");
+
+        Path file = Files.createTempFile("finv", ".bin");
+        try {
+            StockBinaryFormat.write(List.of(full, empty), file);
+            List<Stock> stocks = StockBinaryFormat.read(file);
+
+            assertEquals(2, stocks.size(), "Every written stock should be read back");
+            Stock read = stocks.getFirst();
+            assertEquals("PETR4.SA", read.getTicker(), "Ticker should survive the round trip");
+            assertEquals("Petróleo Brasileiro S.A.", read.getName(), "Names should be stored as UTF-8");
+            assertSame(full.getDescriptor(), read.getDescriptor(), "Descriptors should resolve to the shared instance");
+            assertEquals(full.getQuote(), read.getQuote(), "Quote should survive the round trip");
+            assertArrayEquals(full.getQuoteSeries().epochSeconds(), read.getQuoteSeries().epochSeconds(), "Timestamps should be delta-decoded");
+            assertArrayEquals(full.getQuoteSeries().open(), read.getQuoteSeries().open(), "Missing prices should stay missing");
+            assertArrayEquals(full.getQuoteSeries().adjClose(), read.getQuoteSeries().adjClose(), "Price columns should survive the round trip");
+            assertArrayEquals(full.getQuoteSeries().volume(), read.getQuoteSeries().volume(), "Volumes should survive the round trip");
+            assertEquals(full.getDividendHistory(), read.getDividendHistory(), "Dividends should survive the round trip");
+            assertEquals(full.getSplitHistory(), read.getSplitHistory(), "Splits should survive the round trip");
+
+            Stock readEmpty = stocks.get(1);
+            assertNull(readEmpty.getQuote(), "An absent quote should stay absent");
+            assertNull(readEmpty.getQuoteSeries(), "An absent history should stay absent");
+            assertNull(readEmpty.getDividendHistory(), "An absent history should stay absent");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package br.dev.rplus.finv.io;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDescriptor;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockSplit;
+import br.dev.rplus.finv.enums.StreamFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming CSV and JSON exporter.
+ */
+class StockStreamExporterTest {
+
+    /**
+     * Test exporting stocks as CSV.
+     * <p>
+     * This test ensures that every record is written with its columns in place, that missing prices and histories
+     * are left empty, and that values holding commas or quotes are escaped.
+     * </p>
+     */
+    @Test
+    void shouldWriteCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StockStreamExporter.export(stocks(), StreamFormat.CSV, out);
+
+        String expected = """
+            ticker,record,date,price,open,high,low,close,adjClose,volume,amount,splitRatio
+            PETR4.SA,history,2024-01-02T11:00:00Z,,,38.0,36.8,37.5,30.1,500,,
+            PETR4.SA,dividend,2024-01-02T11:00:00Z,,,,,,,,1.25,
+            "ODD,""TICKER""\",split,2008-05-01T00:00:00Z,,,,,,,,,"3,2:1"
+            """;
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8), "CSV output should match the expected records");
+    }
+
+    /**
+     * Test exporting stocks as JSON, from a stream to a channel.
+     * <p>
+     * This test ensures that missing histories and quotes are written as {@code null}, that missing prices are written
+     * as {@code null}, and that names holding commas or quotes are escaped.
+     * </p>
+     */
+    @Test
+    void shouldWriteJson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StockStreamExporter.export(stocks().stream(), StreamFormat.JSON, Channels.newChannel(out));
+
+        String expected = "[\n"
+            + "{\"ticker\":\"PETR4.SA\",\"name\":\"Petróleo \\\"Brasileiro\\\", S.A.\",\"currency\":\"BRL\",\"market\":null,"
+            + "\"marketState\":\"CLOSED\",\"quoteType\":null,\"region\":null,\"exchangeTimezone\":null,\"quoteSource\":null,"
+            + "\"quote\":null,"
+            + "\"quoteHistory\":[{\"date\":\"2024-01-02T11:00:00Z\",\"open\":null,\"high\":38.0,\"low\":36.8,\"close\":37.5,\"adjClose\":30.1,\"volume\":500}],"
+            + "\"dividendHistory\":[{\"date\":\"2024-01-02T11:00:00Z\",\"amount\":1.25}],"
+            + "\"splitHistory\":null},\n"
+            + "{\"ticker\":\"ODD,\\\"TICKER\\\"\",\"name\":null,\"currency\":null,\"market\":null,"
+            + "\"marketState\":null,\"quoteType\":null,\"region\":null,\"exchangeTimezone\":null,\"quoteSource\":null,"
+            + "\"quote\":null,\"quoteHistory\":null,\"dividendHistory\":null,"
+            + "\"splitHistory\":[{\"date\":\"2008-05-01T00:00:00Z\",\"splitRatio\":\"3,2:1\"}]}\n"
+            + "]\n";
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8), "JSON output should match the expected document");
+    }
+
+    /**
+     * Test exporting no stocks.
+     * <p>
+     * This test ensures that the output is still a valid, empty document and that missing stocks are skipped.
+     * </p>
+     */
+    @Test
+    void shouldWriteEmptyDocuments() throws IOException {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        StockStreamExporter.export(Stream.<Stock>of((Stock) null), StreamFormat.CSV, csv);
+        assertEquals("ticker,record,date,price,open,high,low,close,adjClose,volume,amount,splitRatio\n", csv.toString(StandardCharsets.UTF_8),
+            "An empty CSV export should only hold the header");
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        StockStreamExporter.export(List.<Stock>of(), StreamFormat.JSON, json);
+        assertEquals("[\n]\n", json.toString(StandardCharsets.UTF_8), "An empty JSON export should be an empty array");
+    }
+
+    private static List<Stock> stocks() {
+        Stock full = new Stock("PETR4.SA");
+        full.setName("Petróleo \"Brasileiro\", S.A.");
+        full.setDescriptor(StockDescriptor.of("BRL", null, "CLOSED", null, null, null, null));
+        full.setQuoteSeries(new QuoteSeries(
+            new long[]{1704193200L},
+            new double[]{Double.NaN},
+            new double[]{38.0},
+            new double[]{36.8},
+            new double[]{37.5},
+            new double[]{30.1},
+            new long[]{500L}
+        ));
+        full.setDividendHistory(List.of(new StockDividend(1.25, 1704193200000L)));
+
+        Stock odd = new Stock("ODD,\"TICKER\"");
+        odd.setSplitHistory(List.of(new StockSplit("3,2:1", 1209600000000L)));
+
+        return Arrays.asList(full, null, odd);
+    }
+}
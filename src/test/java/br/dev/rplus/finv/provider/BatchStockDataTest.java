@@ -0,0 +1,68 @@
+package br.dev.rplus.finv.provider;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.provider.transport.HttpTransports;
+import br.dev.rplus.finv.provider.transport.StubTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the batched quotes of {@link BatchStockData}, against a {@link StubTransport}.
+ */
+class BatchStockDataTest {
+
+    private static final String RESPONSE = """
+        {"quoteResponse":{"result":[\
+        {"symbol":"PETR4.SA","longName":"Petroleo Brasileiro S.A.","currency":"BRL","marketState":"CLOSED",\
+        "regularMarketTime":1704193200,"regularMarketPrice":37.5,"regularMarketChange":0.5,"regularMarketOpen":37.0,\
+        "regularMarketPreviousClose":37.0,"regularMarketDayLow":36.8,"regularMarketDayHigh":38.0,\
+        "regularMarketVolume":500,"bid":37.4,"ask":37.6},\
+        {"symbol":"VALE3.SA","longName":"Vale S.A.","currency":"BRL","marketState":"CLOSED",\
+        "regularMarketTime":1704193200,"regularMarketPrice":77.1,"regularMarketChange":-0.4,"regularMarketOpen":77.5,\
+        "regularMarketPreviousClose":77.5,"regularMarketDayLow":76.9,"regularMarketDayHigh":78.0,\
+        "regularMarketVolume":800,"bid":77.0,"ask":77.2}],"error":null}}""";
+
+    @AfterEach
+    void restoreTransport() {
+        HttpTransports.setDefault(null);
+    }
+
+    /**
+     * Test fetching the quotes of several stocks from a single multi-result response.
+     * <p>
+     * This test ensures that symbols are matched regardless of case, that every stock sharing a symbol is populated,
+     * that each symbol is requested once, and that a stock missing from the response is marked as failed.
+     * </p>
+     */
+    @Test
+    void shouldPopulateEveryStockOfTheResponse() {
+        StubTransport transport = new StubTransport(request -> StubTransport.response(200, RESPONSE));
+        HttpTransports.setDefault(transport);
+
+        Stock lowerCase = new Stock("petr4.sa");
+        Stock duplicate = new Stock("PETR4.SA");
+        Stock vale = new Stock("VALE3.SA");
+        Stock missing = new Stock("MISSING3.SA");
+        new BatchStockData(List.of(lowerCase, duplicate, vale, missing)).fetchData();
+
+        assertEquals(37.5, lowerCase.getQuote().price(), 0.0, "A ticker in lower case should match its symbol");
+        assertEquals(37.5, duplicate.getQuote().price(), 0.0, "Every stock sharing a symbol should be populated");
+        assertEquals("Vale S.A.", vale.getName(), "Every result should be parsed");
+        assertEquals(77.1, vale.getQuote().price(), 0.0, "Every result should be parsed");
+        assertFalse(lowerCase.isFailed() || duplicate.isFailed() || vale.isFailed(), "Populated stocks should not be failed");
+
+        assertTrue(missing.isFailed(), "A stock missing from the response should be failed");
+        assertInstanceOf(NoSuchElementException.class, missing.getFailure(), "The failure should tell the quote is missing");
+
+        List<String> symbols = transport.requests().stream()
+            .map(request -> request.parameter("symbols"))
+            .filter(parameter -> parameter != null)
+            .toList();
+        assertEquals(List.of("PETR4.SA,VALE3.SA,MISSING3.SA"), symbols, "Each symbol should be requested once, in a single chunk");
+    }
+}
@@ -0,0 +1,74 @@
+package br.dev.rplus.finv.provider;
+
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockHistoricalQuote;
+import br.dev.rplus.finv.data.StockSplit;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the chart event parsers, {@link HistoricalStockData}, {@link StockDividendData} and
+ * {@link StockSplitData}.
+ */
+class ChartEventParseTest {
+
+    private static final String RESPONSE = """
+        {"chart":{"result":[{"meta":{"currency":"USD","symbol":"AAPL"},\
+        "timestamp":[1704205800,1704292200],\
+        "events":{"dividends":{"1707489000":{"amount":0.24,"date":1707489000}},\
+        "splits":{"1598880600":{"date":1598880600,"numerator":4.0,"denominator":1.0,"splitRatio":"4:1"}}},\
+        "indicators":{"quote":[{"open":[187.15,184.22],"high":[188.44,185.88],"low":[183.89,183.43],\
+        "close":[185.64,184.25],"volume":[82488700,null]}],\
+        "adjclose":[{"adjclose":[184.73,183.35]}]}}],"error":null}}
+        """;
+
+    /**
+     * Test extracting every event from a single chart result.
+     * <p>
+     * This test ensures that the quotes, dividends and splits are all parsed from the same chart result, which is
+     * parsed only once and shared by the three parsers.
+     * </p>
+     */
+    @Test
+    void shouldParseQuotesDividendsAndSplitsFromOneChartResult() {
+        JSONObject chartResult = ChartEventParse.chartResult(RESPONSE);
+
+        List<StockHistoricalQuote> quotes = HistoricalStockData.getInstance().parse(chartResult);
+        List<StockDividend> dividends = StockDividendData.getInstance().parse(chartResult);
+        List<StockSplit> splits = StockSplitData.getInstance().parse(chartResult);
+
+        assertEquals(2, quotes.size(), "A quote should be parsed for every timestamp");
+        assertEquals(1704205800_000L, quotes.get(0).epochMillis(), "The quote date should be parsed");
+        assertEquals(185.64, quotes.get(0).close(), 0.0, "The close price should be parsed");
+        assertEquals(183.35, quotes.get(1).adjClose(), 0.0, "The adjusted close price should be parsed");
+
+        assertEquals(1, dividends.size(), "The dividend should be parsed");
+        assertEquals(0.24, dividends.get(0).amount(), 0.0, "The dividend amount should be parsed");
+        assertEquals(1707489000_000L, dividends.get(0).epochMillis(), "The dividend date should be parsed");
+
+        assertEquals(1, splits.size(), "The split should be parsed");
+        assertEquals("4:1", splits.get(0).splitRatio(), "The split ratio should be parsed");
+        assertEquals(1598880600_000L, splits.get(0).epochMillis(), "The split date should be parsed");
+    }
+
+    /**
+     * Test parsing the events through the string entry point of {@link EventParse}.
+     * <p>
+     * This test ensures that the parsers can still be used as plain {@link EventParse} implementations, and that
+     * a response without results produces an empty list instead of failing.
+     * </p>
+     */
+    @Test
+    void shouldParseEventsFromResponseString() {
+        EventParse<StockDividend> dividends = StockDividendData.getInstance();
+        EventParse<StockSplit> splits = StockSplitData.getInstance();
+
+        assertEquals(0.24, dividends.parse(RESPONSE).get(0).amount(), 0.0, "The dividend should be parsed from the string");
+        assertEquals("4:1", splits.parse(RESPONSE).get(0).splitRatio(), "The split should be parsed from the string");
+        assertTrue(dividends.parse("{\"chart\":{\"result\":[],\"error\":null}}").isEmpty(), "An empty response should produce no dividends");
+    }
+}
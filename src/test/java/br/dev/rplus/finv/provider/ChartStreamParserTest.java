@@ -0,0 +1,88 @@
+package br.dev.rplus.finv.provider;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming chart parser.
+ * <p>
+ * These tests parse a captured-like v8 chart response, with metadata, events and missing values,
+ * and verify that every column is decoded exactly as {@link Double#parseDouble(String)} would.
+ * </p>
+ */
+class ChartStreamParserTest {
+
+    private static final String RESPONSE = """
+        {"chart":{"result":[{"meta":{"currency":"USD","symbol":"AAPL","exchangeName":"NMS",\
+        "validRanges":["1d","5d"],"currentTradingPeriod":{"pre":{"timezone":"EST","start":1704186000}},\
+        "longName":"Apple \\"Inc.\\" \\u00e9"},\
+        "timestamp":[1704205800,1704292200,1704378600],\
+        "events":{"dividends":{"1707489000":{"amount":0.24,"date":1707489000}},\
+        "splits":{"1598880600":{"date":1598880600,"numerator":4.0,"denominator":1.0,"splitRatio":"4:1"}}},\
+        "indicators":{"quote":[{"open":[187.14999389648438,184.22000122070312,null],\
+        "high":[188.44000244140625,185.8800018310547,183.08999633789062],\
+        "low":[183.88999938964844,183.42999267578125,180.8800018310547],\
+        "close":[185.63999938964844,184.25,181.91000366210938],\
+        "volume":[82488700,58414500,null]}],\
+        "adjclose":[{"adjclose":[184.73497009277344,1.8335E2,181.0261993408203]}]}}],"error":null}}
+        """;
+
+    /**
+     * Test parsing the price and volume columns from a stream.
+     * <p>
+     * This test ensures that timestamps, prices and volumes are decoded into primitive arrays,
+     * that long mantissas and exponents are parsed exactly and that {@code null} values become missing values.
+     * </p>
+     */
+    @Test
+    void shouldParseQuoteColumnsFromStream() throws IOException {
+        ChartColumns columns = ChartStreamParser.parse(new ByteArrayInputStream(RESPONSE.getBytes(StandardCharsets.UTF_8)));
+
+        assertArrayEquals(new long[]{1704205800L, 1704292200L, 1704378600L}, columns.timestamps, "Timestamps should be decoded");
+        assertArrayEquals(new double[]{187.14999389648438, 184.22000122070312, Double.NaN}, columns.open, 0.0, "Open prices should be decoded");
+        assertArrayEquals(new double[]{185.63999938964844, 184.25, 181.91000366210938}, columns.close, 0.0, "Close prices should be decoded");
+        assertArrayEquals(new double[]{184.73497009277344, 183.35, 181.0261993408203}, columns.adjClose, 0.0, "Adjusted close prices should be decoded");
+        assertArrayEquals(new long[]{82488700L, 58414500L, 0L}, columns.volume, "Volumes should be decoded");
+        assertEquals(3, columns.toQuotes().size(), "A quote should be created for every timestamp");
+    }
+
+    /**
+     * Test parsing the dividend and split events from a buffer.
+     * <p>
+     * This test verifies that events are decoded in place and that the position of the buffer is not modified.
+     * </p>
+     */
+    @Test
+    void shouldParseEventsFromBufferInPlace() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RESPONSE.length() * 2);
+        buffer.put(RESPONSE.getBytes(StandardCharsets.UTF_8)).flip();
+
+        ChartColumns columns = ChartStreamParser.parse(buffer);
+
+        assertEquals(0, buffer.position(), "The position of the buffer should not change");
+        assertArrayEquals(new long[]{1707489000L}, columns.dividendTimestamps, "Dividend dates should be decoded");
+        assertArrayEquals(new double[]{0.24}, columns.dividendAmounts, 0.0, "Dividend amounts should be decoded");
+        assertEquals("4:1", columns.toSplits().get(0).splitRatio(), "Split ratios should be decoded");
+    }
+
+    /**
+     * Test parsing an error response.
+     * <p>
+     * This test ensures that a response without results produces empty columns instead of failing.
+     * </p>
+     */
+    @Test
+    void shouldReturnEmptyColumnsForErrorResponse() throws IOException {
+        String error = "{\"chart\":{\"result\":null,\"error\":{\"code\":\"Not Found\",\"description\":\"No data found\"}}}";
+        ChartColumns columns = ChartStreamParser.parse(new ByteArrayInputStream(error.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(columns.toQuotes().isEmpty(), "No quotes should be parsed from an error response");
+        assertTrue(columns.toDividends().isEmpty(), "No dividends should be parsed from an error response");
+    }
+}
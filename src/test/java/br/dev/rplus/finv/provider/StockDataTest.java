@@ -0,0 +1,202 @@
+package br.dev.rplus.finv.provider;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.provider.transport.HttpStatusException;
+import br.dev.rplus.finv.provider.transport.HttpTransports;
+import br.dev.rplus.finv.provider.transport.PooledBody;
+import br.dev.rplus.finv.provider.transport.StubTransport;
+import br.dev.rplus.finv.provider.transport.StubTransport.Request;
+import br.dev.rplus.finv.provider.yahoo.CrumbYahoo;
+import br.dev.rplus.finv.provider.yahoo.CrumbYahoo.Credentials;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the failures reported by {@link StockData}, against a {@link StubTransport}.
+ */
+class StockDataTest {
+
+    private static final String QUOTE = """
+        {"optionChain":{"result":[{"quote":{"longName":"Petroleo Brasileiro S.A.","currency":"BRL",\
+        "fullExchangeName":"Sao Paulo","marketState":"CLOSED","quoteType":"EQUITY","region":"BR",\
+        "exchangeTimezoneName":"America/Sao_Paulo","quoteSourceName":"Delayed Quote","regularMarketTime":1704193200,\
+        "regularMarketPrice":37.5,"regularMarketChange":0.5,"regularMarketOpen":37.0,"regularMarketPreviousClose":37.0,\
+        "regularMarketDayLow":36.8,"regularMarketDayHigh":38.0,"regularMarketVolume":500,"bid":37.4,"ask":37.6}}]}}""";
+
+    @AfterEach
+    void restoreTransport() {
+        HttpTransports.setDefault(null);
+    }
+
+    /**
+     * Test fetching a stock that is answered with an unsuccessful status code.
+     * <p>
+     * This test ensures that the stock is marked as failed instead of being returned as a stock without data.
+     * </p>
+     */
+    @Test
+    void shouldMarkStockFailedOnUnsuccessfulStatus() {
+        HttpTransports.setDefault(new StubTransport(url -> StubTransport.response(404, "Not Found")));
+
+        Stock stock = new Stock("FAILED_STATUS");
+        new StockData(stock).fetchData();
+
+        assertTrue(stock.isFailed(), "A stock answered with HTTP 404 should be failed");
+        assertNotNull(stock.getFailure(), "The failure should have a cause");
+        assertNull(stock.getQuote(), "A failed stock should have no quote");
+    }
+
+    /**
+     * Test fetching an invalid ticker, answered with an empty result.
+     * <p>
+     * This test ensures that a response that cannot be parsed marks the stock as failed.
+     * </p>
+     */
+    @Test
+    void shouldMarkInvalidTickerFailed() {
+        HttpTransports.setDefault(new StubTransport(url -> StubTransport.response(200, "{\"optionChain\":{\"result\":[]}}")));
+
+        Stock stock = new Stock("INVALID_TICKER");
+        new StockData(stock).fetchData();
+
+        assertTrue(stock.isFailed(), "An invalid ticker should be failed");
+        assertNull(stock.getName(), "An invalid ticker should have no name");
+    }
+
+    /**
+     * Test fetching a stock asynchronously when the request is answered with an unsuccessful status code.
+     * <p>
+     * This test ensures that the asynchronous path reports the status code as the cause of the failure.
+     * </p>
+     */
+    @Test
+    void shouldMarkStockFailedAsynchronously() {
+        HttpTransports.setDefault(new StubTransport(url -> StubTransport.response(500, "Internal Server Error")));
+
+        Stock stock = new StockData(new Stock("FAILED_ASYNC")).fetchDataAsync(ForkJoinPool.commonPool()).join();
+
+        assertTrue(stock.isFailed(), "A stock answered with HTTP 500 should be failed");
+        assertEquals(500, ((HttpStatusException) stock.getFailure()).getStatusCode(), "The failure should hold the status code");
+    }
+
+    /**
+     * Test fetching a valid stock.
+     * <p>
+     * This test ensures that a stock fetched and parsed successfully is not marked as failed.
+     * </p>
+     */
+    @Test
+    void shouldNotMarkFetchedStockFailed() {
+        HttpTransports.setDefault(new StubTransport(url -> StubTransport.response(200, QUOTE)));
+
+        Stock stock = new Stock("PETR4.SA");
+        new StockData(stock).fetchData();
+
+        assertFalse(stock.isFailed(), "A fetched stock should not be failed");
+        assertEquals("Petroleo Brasileiro S.A.", stock.getName(), "The name should be parsed");
+        assertEquals(37.5, stock.getQuote().price(), "The price should be parsed");
+    }
+
+    /**
+     * Test fetching a stock whose first credentials are rejected by the API.
+     * <p>
+     * This test ensures that the request is retried once with new credentials, and that every request carries the
+     * crumb bound to the cookie it is sent with.
+     * </p>
+     */
+    @Test
+    void shouldRetryRejectedRequestWithMatchingCredentials() {
+        StubTransport transport = rejectingFirstCookie();
+        HttpTransports.setDefault(transport);
+
+        Stock stock = new Stock("PETR4.SA");
+        new StockData(stock).fetchData();
+
+        assertFalse(stock.isFailed(), "The retried request should succeed");
+        assertMatchingCredentials(transport);
+    }
+
+    /**
+     * Test fetching a stock asynchronously whose first credentials are rejected by the API.
+     * <p>
+     * This test ensures that the asynchronous path retries with new credentials as the synchronous one does.
+     * </p>
+     */
+    @Test
+    void shouldRetryRejectedRequestWithMatchingCredentialsAsynchronously() {
+        StubTransport transport = rejectingFirstCookie();
+        HttpTransports.setDefault(transport);
+
+        Stock stock = new StockData(new Stock("PETR4.SA")).fetchDataAsync(ForkJoinPool.commonPool()).join();
+
+        assertFalse(stock.isFailed(), "The retried request should succeed");
+        assertMatchingCredentials(transport);
+    }
+
+    /**
+     * Test receiving a response into a pooled buffer when the first credentials are rejected by the API.
+     * <p>
+     * This test ensures that the buffered path retries with new credentials and returns the body of the retried
+     * request.
+     * </p>
+     */
+    @Test
+    void shouldRetryRejectedBufferedRequest() throws IOException {
+        StubTransport transport = rejectingFirstCookie();
+        HttpTransports.setDefault(transport);
+
+        Credentials credentials = CrumbYahoo.getCredentials();
+        try (PooledBody body = AbstractStockDataProvider.sendBuffered(quoteUrl(credentials), credentials, StockDataTest::quoteUrl)) {
+            assertEquals(QUOTE, StandardCharsets.UTF_8.decode(body.buffer()).toString(), "The retried body should be returned");
+        }
+        assertMatchingCredentials(transport);
+    }
+
+    /**
+     * Builds the URL of a quote request carrying the crumb of the given credentials.
+     */
+    private static URI quoteUrl(Credentials credentials) {
+        return URI.create("https://query1.finance.yahoo.com/v7/finance/options/PETR4.SA?crumb=" + credentials.crumb());
+    }
+
+    /**
+     * Builds a transport that rejects the first cookie it receives in a quote request, and the requests whose crumb
+     * does not belong to their cookie.
+     */
+    private static StubTransport rejectingFirstCookie() {
+        AtomicReference<String> rejected = new AtomicReference<>();
+        return new StubTransport(request -> {
+            String cookie = request.headers().get("Cookie");
+            rejected.compareAndSet(null, cookie);
+            boolean matching = cookie != null && StubTransport.crumbOf(cookie).equals(request.parameter("crumb"));
+            return matching && !cookie.equals(rejected.get())
+                ? StubTransport.response(200, QUOTE)
+                : StubTransport.response(401, "Unauthorized");
+        });
+    }
+
+    /**
+     * Asserts that the quote request was sent twice, each time with a matching cookie and crumb.
+     */
+    private static void assertMatchingCredentials(StubTransport transport) {
+        List<Request> quotes = transport.requests().stream()
+            .filter(request -> request.parameter("crumb") != null)
+            .toList();
+        assertEquals(2, quotes.size(), "The rejected request should be retried once");
+        for (Request request : quotes) {
+            assertEquals(StubTransport.crumbOf(request.headers().get("Cookie")), request.parameter("crumb"),
+                "Every request should carry the crumb of its cookie");
+        }
+        assertNotEquals(quotes.get(0).headers().get("Cookie"), quotes.get(1).headers().get("Cookie"),
+            "The request should be retried with new credentials");
+    }
+}
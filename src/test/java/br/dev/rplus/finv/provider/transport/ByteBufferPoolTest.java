@@ -0,0 +1,117 @@
+package br.dev.rplus.finv.provider.transport;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ByteBufferPool} and the {@link PooledBody} built on it.
+ */
+class ByteBufferPoolTest {
+
+    /**
+     * Test acquiring buffers of different sizes.
+     * <p>
+     * This test ensures that sizes are rounded up to their power-of-two size class, from 16 KiB to 64 MiB, and that
+     * larger sizes are allocated exactly.
+     * </p>
+     */
+    @Test
+    void shouldRoundUpToSizeClass() {
+        ByteBufferPool pool = new ByteBufferPool(2);
+
+        assertEquals(16 * 1024, pool.acquire(0).capacity(), "Empty bodies should use the smallest class");
+        assertEquals(16 * 1024, pool.acquire(16 * 1024).capacity(), "A class size should not be rounded");
+        assertEquals(32 * 1024, pool.acquire(16 * 1024 + 1).capacity(), "Sizes should be rounded up to the next class");
+        assertEquals(1 << 26, pool.acquire((1 << 25) + 1).capacity(), "The largest class should be 64 MiB");
+        assertEquals((1 << 26) + 1, pool.acquire((1 << 26) + 1).capacity(), "Larger sizes should not be rounded");
+    }
+
+    /**
+     * Test releasing a buffer and acquiring one of the same class.
+     * <p>
+     * This test ensures that the released buffer is reused, cleared, and that each class keeps at most the
+     * configured number of idle buffers.
+     * </p>
+     */
+    @Test
+    void shouldReuseReleasedBuffers() {
+        ByteBufferPool pool = new ByteBufferPool(1);
+        ByteBuffer first = pool.acquire(1000);
+        ByteBuffer second = pool.acquire(1000);
+        first.put(new byte[10]).limit(20);
+
+        pool.release(first);
+        pool.release(second);
+
+        ByteBuffer reused = pool.acquire(2000);
+        assertSame(first, reused, "The released buffer should be reused");
+        assertEquals(0, reused.position(), "A reused buffer should be positioned at zero");
+        assertEquals(reused.capacity(), reused.limit(), "A reused buffer should be cleared");
+        assertNotSame(second, pool.acquire(2000), "Buffers beyond the limit of idle buffers should not be kept");
+    }
+
+    /**
+     * Test releasing buffers that were not taken from a pool.
+     * <p>
+     * This test ensures that heap, read-only, oversized and non-power-of-two buffers are not pooled.
+     * </p>
+     */
+    @Test
+    void shouldNotPoolForeignBuffers() {
+        ByteBufferPool pool = new ByteBufferPool(4);
+        ByteBuffer oversized = pool.acquire((1 << 26) + 1);
+        ByteBuffer tooSmall = ByteBuffer.allocateDirect(1024);
+
+        pool.release(ByteBuffer.allocate(16 * 1024));
+        pool.release(ByteBuffer.allocateDirect(16 * 1024).asReadOnlyBuffer());
+        pool.release(ByteBuffer.allocateDirect(16 * 1024 + 1));
+        pool.release(tooSmall);
+        pool.release(oversized);
+        pool.release(null);
+
+        ByteBuffer acquired = pool.acquire(1);
+        assertTrue(acquired.isDirect(), "An acquired buffer should be direct");
+        assertFalse(acquired.isReadOnly(), "An acquired buffer should be writable");
+        assertEquals(16 * 1024, acquired.capacity(), "Foreign buffers should not be pooled");
+        assertNotSame(tooSmall, acquired, "Buffers below the smallest class should not be pooled");
+        assertNotSame(oversized, pool.acquire((1 << 26) + 1), "Oversized buffers should not be pooled");
+    }
+
+    /**
+     * Test appending more bytes than the body can hold.
+     * <p>
+     * This test ensures that the body moves to a larger pooled buffer keeping its bytes, and that both the smaller
+     * buffer and, once closed, the larger one are returned to the pool.
+     * </p>
+     */
+    @Test
+    void shouldGrowIntoLargerBuffer() {
+        ByteBufferPool pool = new ByteBufferPool(2);
+        ByteBuffer small = pool.acquire(1);
+        ByteBuffer large = pool.acquire(32 * 1024);
+        pool.release(small);
+        pool.release(large);
+
+        byte[] data = new byte[20_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        PooledBody body = new PooledBody(pool, 16);
+        body.append(ByteBuffer.wrap(data, 0, 10_000));
+        body.append(ByteBuffer.wrap(data, 10_000, 10_000));
+
+        assertEquals(data.length, body.size(), "Every appended byte should be kept");
+        ByteBuffer view = body.buffer();
+        byte[] received = new byte[view.remaining()];
+        view.get(received);
+        assertArrayEquals(data, received, "The bytes should be copied to the larger buffer");
+        assertSame(small, pool.acquire(1), "The smaller buffer should be returned to the pool when growing");
+
+        body.close();
+        assertSame(large, pool.acquire(32 * 1024), "The larger buffer should be returned to the pool when closed");
+    }
+}
@@ -0,0 +1,284 @@
+package br.dev.rplus.finv.provider.transport;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark of the HTTP transports against local stub servers.
+ * <p>
+ * This class measures the average per-request latency of the {@link LegacyHttpTransport}, which opens a new connection
+ * for every request, and of the pooled {@link HttpClientTransport}, over plain HTTP and over TLS. The TLS server uses a
+ * self-signed certificate generated with {@code keytool}, so the handshake cost paid by the legacy transport on every
+ * request is part of the measurement.
+ * <p>
+ * On loopback the round trip is practically free, which hides the cost of connection setup. Both servers are therefore
+ * reached through a proxy that delays every chunk by half of the simulated round trip time, set by the
+ * {@code finv.bench.rtt} system property in milliseconds (default 5). It is tagged as {@code benchmark} and only runs
+ * with {@code ./gradlew benchmark}.
+ * </p>
+ */
+@Tag("benchmark")
+class HttpTransportBenchmark {
+
+    private static final int WARMUP_REQUESTS = 20;
+    private static final int MEASURED_REQUESTS = 200;
+    private static final long HALF_RTT_MILLIS = Long.getLong("finv.bench.rtt", 5) / 2;
+    private static final char[] PASSWORD = "changeit".toCharArray();
+    private static final Map<String, String> HEADERS = Map.of("Accept", "*/*");
+    private static final byte[] RESPONSE = responseOf("{\"chart\":{\"result\":[],\"error\":null}}");
+
+    private static Path keyStoreFile;
+    private static SSLContext sslContext;
+    private static ServerSocket plainServer;
+    private static ServerSocket tlsServer;
+    private static ServerSocket plainProxy;
+    private static ServerSocket tlsProxy;
+
+    /**
+     * Generates the self-signed certificate and starts the plain and TLS stub servers on ephemeral loopback ports.
+     */
+    @BeforeAll
+    static void startServers() throws Exception {
+        keyStoreFile = Files.createTempDirectory("finv-bench").resolve("stub.p12");
+        Process keytool = new ProcessBuilder(
+            Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+            "-genkeypair", "-alias", "stub", "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+            "-dname", "CN=localhost", "-ext", "san=dns:localhost,ip:127.0.0.1",
+            "-storetype", "PKCS12", "-keystore", keyStoreFile.toString(),
+            "-storepass", new String(PASSWORD), "-keypass", new String(PASSWORD)
+        ).inheritIO().start();
+        assertEquals(0, keytool.waitFor(), "keytool should generate the stub certificate");
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(keyStoreFile)) {
+            keyStore.load(in, PASSWORD);
+        }
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        kmf.init(keyStore, PASSWORD);
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        tmf.init(keyStore);
+        sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
+        HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
+
+        plainServer = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        tlsServer = sslContext.getServerSocketFactory().createServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        acceptLoop(plainServer, HttpTransportBenchmark::serve);
+        acceptLoop(tlsServer, HttpTransportBenchmark::serve);
+
+        plainProxy = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        tlsProxy = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        acceptLoop(plainProxy, client -> proxy(client, plainServer.getLocalPort()));
+        acceptLoop(tlsProxy, client -> proxy(client, tlsServer.getLocalPort()));
+    }
+
+    /**
+     * Stops the stub servers and removes the generated certificate.
+     */
+    @AfterAll
+    static void stopServers() throws IOException {
+        plainProxy.close();
+        tlsProxy.close();
+        plainServer.close();
+        tlsServer.close();
+        Files.deleteIfExists(keyStoreFile);
+        Files.deleteIfExists(keyStoreFile.getParent());
+    }
+
+    /**
+     * Compares the sequential per-request latency of both transports over plain HTTP.
+     */
+    @Test
+    void shouldComparePlainLatency() throws IOException {
+        URI url = URI.create("http://localhost:" + plainProxy.getLocalPort() + "/v8/finance/chart/AAPL");
+        report("HTTP", measure(LegacyHttpTransport.getInstance(), url), measure(pooledTransport(), url));
+    }
+
+    /**
+     * Compares the sequential per-request latency of both transports over TLS.
+     */
+    @Test
+    void shouldCompareTlsLatency() throws IOException {
+        URI url = URI.create("https://localhost:" + tlsProxy.getLocalPort() + "/v8/finance/chart/AAPL");
+        report("HTTPS", measure(LegacyHttpTransport.getInstance(), url), measure(pooledTransport(), url));
+    }
+
+    /**
+     * Measures the per-request cost of the asynchronous path of the pooled transport over TLS.
+     */
+    @Test
+    void shouldMeasureAsyncThroughput() {
+        URI url = URI.create("https://localhost:" + tlsProxy.getLocalPort() + "/v8/finance/chart/AAPL");
+        HttpTransport transport = pooledTransport();
+        long start = System.nanoTime();
+        List<CompletableFuture<TransportResponse>> futures = new ArrayList<>(MEASURED_REQUESTS);
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            futures.add(transport.sendAsync(url, HEADERS));
+        }
+        futures.forEach(future -> assertTrue(future.join().isSuccessful(), "The stub server should answer with 200"));
+        double elapsed = (System.nanoTime() - start) / 1_000.0 / MEASURED_REQUESTS;
+
+        System.out.printf("HTTPS pooled transport (async): %.1f us/request%n", elapsed);
+    }
+
+    /**
+     * Creates a pooled transport that trusts the self-signed certificate of the stub server.
+     *
+     * @return the pooled transport.
+     */
+    private static HttpTransport pooledTransport() {
+        return new HttpClientTransport(HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .sslContext(sslContext)
+            .build());
+    }
+
+    /**
+     * Sends the warmup and the measured requests sequentially.
+     *
+     * @param transport the transport to be measured.
+     * @param url       the URL of the stub server.
+     * @return the average latency of the measured requests, in microseconds.
+     */
+    private static double measure(HttpTransport transport, URI url) throws IOException {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            assertTrue(transport.send(url, HEADERS).isSuccessful(), "The stub server should answer with 200");
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            assertTrue(transport.send(url, HEADERS).isSuccessful(), "The stub server should answer with 200");
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_REQUESTS;
+    }
+
+    /**
+     * Prints the result of a comparison.
+     */
+    private static void report(String protocol, double legacy, double pooled) {
+        System.out.printf("%s legacy transport: %.1f us/request%n", protocol, legacy);
+        System.out.printf("%s pooled transport: %.1f us/request%n", protocol, pooled);
+        System.out.printf("%s speedup: %.2fx%n", protocol, legacy / pooled);
+    }
+
+    /**
+     * Accepts connections on a virtual thread and handles each one on its own virtual thread.
+     */
+    private static void acceptLoop(ServerSocket server, Consumer<Socket> handler) {
+        Thread.ofVirtual().start(() -> {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    Thread.ofVirtual().start(() -> handler.accept(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Forwards a client connection to the given backend port, delaying every chunk in both directions.
+     */
+    private static void proxy(Socket client, int backendPort) {
+        try (client; Socket backend = new Socket(InetAddress.getLoopbackAddress(), backendPort)) {
+            client.setTcpNoDelay(true);
+            backend.setTcpNoDelay(true);
+            Thread upstream = Thread.ofVirtual().start(() -> pump(client, backend));
+            pump(backend, client);
+            upstream.join();
+        } catch (IOException | InterruptedException ignored) {
+            // One of the sides closed the connection.
+        }
+    }
+
+    /**
+     * Copies the bytes received by one socket to the other, sleeping half of the round trip time before each chunk.
+     */
+    private static void pump(Socket from, Socket to) {
+        byte[] buffer = new byte[16 * 1024];
+        try {
+            InputStream in = from.getInputStream();
+            OutputStream out = to.getOutputStream();
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                Thread.sleep(HALF_RTT_MILLIS);
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+            to.shutdownOutput();
+        } catch (IOException | InterruptedException ignored) {
+            // One of the sides closed the connection.
+        }
+    }
+
+    /**
+     * Answers every request of a keep-alive connection with the same canned response.
+     */
+    private static void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            while (skipRequestHead(in)) {
+                out.write(RESPONSE);
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // The client closed the connection.
+        }
+    }
+
+    /**
+     * Consumes the request line and headers of a GET request.
+     *
+     * @return {@code true} if a full request head was read, {@code false} if the connection was closed.
+     */
+    private static boolean skipRequestHead(InputStream in) throws IOException {
+        int matched = 0;
+        int ch;
+        while (matched < 4 && (ch = in.read()) != -1) {
+            boolean expected = (matched % 2 == 0) ? ch == '\r' : ch == '\n';
+            matched = expected ? matched + 1 : (ch == '\r' ? 1 : 0);
+        }
+        return matched == 4;
+    }
+
+    /**
+     * Builds the raw HTTP/1.1 response returned by the stub servers.
+     */
+    private static byte[] responseOf(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String head = "HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: " + bytes.length + "\r\n\r\n";
+        byte[] response = new byte[head.length() + bytes.length];
+        System.arraycopy(head.getBytes(StandardCharsets.US_ASCII), 0, response, 0, head.length());
+        System.arraycopy(bytes, 0, response, head.length(), bytes.length);
+        return response;
+    }
+}
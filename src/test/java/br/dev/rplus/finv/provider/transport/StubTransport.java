@@ -0,0 +1,147 @@
+package br.dev.rplus.finv.provider.transport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * An {@link HttpTransport} that answers every request in memory, for tests that plug it in with
+ * {@link HttpTransports#setDefault(HttpTransport)}.
+ * <p>
+ * The Yahoo cookie endpoint answers every call with a new cookie, {@code A3=stub1}, {@code A3=stub2} and so on, never
+ * repeating one across stubs, and the crumb endpoint answers with the crumb bound to the cookie sent, as given by
+ * {@link #crumbOf(String)}, so that tests can check that a request carries a matching pair. Both fail while
+ * authentication is {@linkplain #setAuthenticating(boolean) disabled}. Every request is recorded, in the order it was sent.
+ * </p>
+ */
+public class StubTransport implements HttpTransport {
+
+    private final Function<Request, TransportResponse> responder;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger cookies = new AtomicInteger();
+    private volatile boolean authenticating = true;
+
+    /**
+     * Constructs a stub that answers the requests other than the credentials ones with the given function.
+     *
+     * @param responder builds the response of a request.
+     */
+    public StubTransport(Function<Request, TransportResponse> responder) {
+        this.responder = responder;
+    }
+
+    /**
+     * Returns the crumb the stubbed crumb endpoint binds to a cookie.
+     *
+     * @param cookie the cookie, formatted as a {@code Cookie} request header.
+     * @return the crumb bound to the cookie.
+     */
+    public static String crumbOf(String cookie) {
+        return "crumb-" + cookie.substring(cookie.indexOf('=') + 1);
+    }
+
+    /**
+     * Enables or disables the credentials endpoints. While disabled, they answer with HTTP 500.
+     *
+     * @param authenticating {@code true} to hand out credentials, {@code false} to fail.
+     */
+    public void setAuthenticating(boolean authenticating) {
+        this.authenticating = authenticating;
+    }
+
+    /**
+     * Returns the number of requests sent to the given host.
+     *
+     * @param host the host name.
+     * @return the number of recorded requests to the host.
+     */
+    public long requestsTo(String host) {
+        return this.requests.stream().filter(request -> host.equals(request.url().getHost())).count();
+    }
+
+    /**
+     * Builds a response without headers.
+     *
+     * @param statusCode the HTTP status code.
+     * @param body       the response body.
+     * @return the response.
+     */
+    public static TransportResponse response(int statusCode, String body) {
+        return new TransportResponse(statusCode, body, HttpHeaders.of(Map.of(), (name, value) -> true));
+    }
+
+    /**
+     * Returns the requests sent through this transport, including the credentials ones.
+     *
+     * @return the recorded requests, in the order they were sent.
+     */
+    public List<Request> requests() {
+        return this.requests;
+    }
+
+    @Override
+    public TransportResponse send(URI url, Map<String, String> headers) throws IOException {
+        Request request = new Request(url, headers);
+        this.requests.add(request);
+        boolean credentials = "fc.yahoo.com".equals(url.getHost()) || url.getPath().endsWith("/getcrumb");
+        if (credentials && !this.authenticating) {
+            return response(500, "Internal Server Error");
+        }
+        if ("fc.yahoo.com".equals(url.getHost())) {
+            return new TransportResponse(404, "", HttpHeaders.of(
+                Map.of("Set-Cookie", List.of("A3=stub" + cookies.incrementAndGet() + "; Max-Age=3600; Path=/")),
+                (name, value) -> true
+            ));
+        }
+        if (url.getPath().endsWith("/getcrumb")) {
+            return response(200, crumbOf(headers.get("Cookie")));
+        }
+        return this.responder.apply(request);
+    }
+
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(URI url, Map<String, String> headers) {
+        try {
+            return CompletableFuture.completedFuture(send(url, headers));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * A request sent through the stub.
+     *
+     * @param url     the full URL of the request.
+     * @param headers the request headers.
+     */
+    public record Request(URI url, Map<String, String> headers) {
+
+        /**
+         * Returns the value of a query parameter of the URL.
+         *
+         * @param name the parameter name.
+         * @return the decoded value of the parameter, or {@code null} if it is absent.
+         */
+        public String parameter(String name) {
+            String query = this.url.getRawQuery();
+            if (query == null) {
+                return null;
+            }
+            for (String pair : query.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                    return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+                }
+            }
+            return null;
+        }
+    }
+}
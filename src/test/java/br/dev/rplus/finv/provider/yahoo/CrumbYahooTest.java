@@ -0,0 +1,94 @@
+package br.dev.rplus.finv.provider.yahoo;
+
+import br.dev.rplus.finv.provider.transport.HttpTransports;
+import br.dev.rplus.finv.provider.transport.StubTransport;
+import br.dev.rplus.finv.provider.yahoo.CrumbYahoo.Credentials;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link CrumbYahoo} credentials, against a {@link StubTransport}.
+ */
+class CrumbYahooTest {
+
+    private static final String COOKIE_HOST = "fc.yahoo.com";
+
+    private StubTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        this.transport = new StubTransport(request -> StubTransport.response(404, "Not Found"));
+        HttpTransports.setDefault(this.transport);
+        CrumbYahoo.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CrumbYahoo.reset();
+        HttpTransports.setDefault(null);
+    }
+
+    /**
+     * Test reading the credentials several times.
+     * <p>
+     * This test ensures that Yahoo is contacted only once while the credentials are valid, and that the cookie and
+     * crumb returned belong together.
+     * </p>
+     */
+    @Test
+    void shouldAuthenticateOnce() {
+        Credentials first = CrumbYahoo.getCredentials();
+        Credentials second = CrumbYahoo.getCredentials();
+
+        assertNotNull(first, "The credentials should be obtained");
+        assertSame(first, second, "Valid credentials should be reused");
+        assertEquals(StubTransport.crumbOf(first.cookie()), first.crumb(), "The crumb should belong to the cookie");
+        assertEquals(first.cookie(), CrumbYahoo.getCookie(), "The cookie should be read from the same credentials");
+        assertEquals(first.crumb(), CrumbYahoo.getCrumb(), "The crumb should be read from the same credentials");
+        assertEquals(1, this.transport.requestsTo(COOKIE_HOST), "The cookie should be requested once");
+    }
+
+    /**
+     * Test reading the credentials while Yahoo keeps failing to authenticate.
+     * <p>
+     * This test ensures that, after a failed authentication, callers do not contact Yahoo again until the backoff
+     * is over, neither to read nor to replace the credentials.
+     * </p>
+     */
+    @Test
+    void shouldBackOffAfterFailedAuthentication() {
+        this.transport.setAuthenticating(false);
+
+        assertNull(CrumbYahoo.getCredentials(), "No credentials should be obtained");
+        assertNull(CrumbYahoo.getCredentials(), "No credentials should be obtained during the backoff");
+        assertNull(CrumbYahoo.getCrumb(), "No crumb should be obtained during the backoff");
+        assertNull(CrumbYahoo.reauthenticate(null), "No authentication should be attempted during the backoff");
+
+        assertEquals(1, this.transport.requestsTo(COOKIE_HOST), "Yahoo should be contacted once during the backoff");
+    }
+
+    /**
+     * Test reauthenticating after the credentials were rejected.
+     * <p>
+     * This test ensures that new credentials are obtained once, and that other requests rejected with the same
+     * credentials reuse the new ones instead of authenticating again.
+     * </p>
+     */
+    @Test
+    void shouldReuseReplacedCredentials() {
+        Credentials rejected = CrumbYahoo.getCredentials();
+
+        Credentials replaced = CrumbYahoo.reauthenticate(rejected);
+        Credentials reused = CrumbYahoo.reauthenticate(rejected);
+
+        assertNotNull(replaced, "New credentials should be obtained");
+        assertNotEquals(rejected.cookie(), replaced.cookie(), "The rejected cookie should be replaced");
+        assertEquals(StubTransport.crumbOf(replaced.cookie()), replaced.crumb(), "The new crumb should belong to the new cookie");
+        assertSame(replaced, reused, "The replaced credentials should be reused");
+        assertSame(replaced, CrumbYahoo.getCredentials(), "The new credentials should be current");
+        assertEquals(2, this.transport.requestsTo(COOKIE_HOST), "The cookie should be requested once per authentication");
+    }
+}
@@ -0,0 +1,56 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockQuote;
+import br.dev.rplus.finv.enums.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the fused statistics evaluator.
+ */
+class FusedStatsEvaluatorTest {
+
+    /**
+     * Test computing every statistic at once.
+     * <p>
+     * This test ensures that the fused evaluator returns exactly the values of the individual calculators.
+     * </p>
+     */
+    @Test
+    void shouldMatchIndividualCalculators() {
+        Stock stock = new Stock("PETR4.SA");
+        stock.setQuote(new StockQuote(1704225600000L, 37.5, -0.2, 37.7, 37.7, 37.1, 37.9, null, 37.49, 37.51));
+        double[] close = {37.5, 37.8, 36.1, 38.4, 37.9};
+        stock.setQuoteSeries(new QuoteSeries(new long[5], close, close, close, close, close, new long[5]));
+        stock.setDividendHistory(List.of(new StockDividend(0.1, 1L), new StockDividend(0.2, 2L), new StockDividend(0.3, 3L)));
+
+        List<Stats> statsList = Arrays.asList(Stats.values());
+        StatsResult result = FusedStatsEvaluator.evaluate(stock, statsList);
+
+        for (Stats stats : statsList) {
+            assertEquals(stats.getCalculator().calculate(stock), result.get(stats), "Fused value should match the calculator of " + stats);
+        }
+    }
+
+    /**
+     * Test computing statistics of a stock without histories.
+     * <p>
+     * This test ensures that missing histories yield zero and that statistics not requested are absent.
+     * </p>
+     */
+    @Test
+    void shouldReturnZeroWithoutHistories() {
+        StatsResult result = FusedStatsEvaluator.evaluate(new Stock("INVALID_TICKER"), List.of(Stats.MAX_CLOSING_PRICE, Stats.TOTAL_DIVIDENDS));
+
+        assertEquals(0.0, result.get(Stats.MAX_CLOSING_PRICE), "Maximum closing price should be zero without quotes");
+        assertEquals(0.0, result.get(Stats.TOTAL_DIVIDENDS), "Total dividends should be zero without dividends");
+        assertFalse(result.contains(Stats.AVERAGE_CLOSE_PRICE), "Statistics not requested should not be computed");
+    }
+}
@@ -0,0 +1,44 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.enums.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the parallel statistics evaluator.
+ */
+class ParallelStatsEvaluatorTest {
+
+    /**
+     * Test computing statistics for many stocks on a dedicated pool.
+     * <p>
+     * This test ensures that every row matches the statistics of its own stock, in input order.
+     * </p>
+     */
+    @Test
+    void shouldComputeOneRowPerStock() {
+        List<Stock> stocks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Stock stock = new Stock("T" + i);
+            double[] close = {i, i + 1.0, i + 2.0};
+            stock.setQuoteSeries(new QuoteSeries(new long[3], close, close, close, close, close, new long[3]));
+            stocks.add(stock);
+        }
+        List<Stats> statsList = List.of(Stats.MIN_CLOSING_PRICE, Stats.AVERAGE_CLOSE_PRICE);
+
+        StatsMatrix matrix = ParallelStatsEvaluator.evaluate(stocks, statsList, 4);
+
+        assertEquals(1000, matrix.size(), "There should be one row per stock");
+        assertEquals("T0", matrix.getTickers().getFirst(), "Rows should keep the input order");
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 1.0, matrix.get("T" + i, Stats.AVERAGE_CLOSE_PRICE), "Average of T" + i + " should match its quotes");
+        }
+        assertEquals(999.0, matrix.column(Stats.MIN_CLOSING_PRICE)[999], "Columns should be indexed by row");
+    }
+}
@@ -0,0 +1,138 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.enums.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the return and risk calculators.
+ */
+class RiskCalculatorsTest {
+
+    /**
+     * Test the one-pass risk statistics against a direct computation over the returns.
+     * <p>
+     * This test ensures that the volatility, ratios and value at risk match their textbook definitions with the
+     * default configuration of daily bars and no risk-free rate.
+     * </p>
+     */
+    @Test
+    void shouldMatchDirectComputation() {
+        double[] prices = randomPrices(500, 1);
+        Stock stock = stockOf(prices, 0);
+        double[] simple = Arrays.copyOfRange(Returns.simple(prices, null), 1, prices.length);
+        double[] log = Arrays.copyOfRange(Returns.log(prices, null), 1, prices.length);
+
+        assertEquals(deviation(log) * Math.sqrt(252), Stats.ANNUALIZED_VOLATILITY.getCalculator().calculate(stock), 1e-12,
+            "Volatility should match the deviation of the logarithmic returns");
+        assertEquals(mean(simple) / deviation(simple) * Math.sqrt(252), Stats.SHARPE_RATIO.getCalculator().calculate(stock), 1e-9,
+            "Sharpe ratio should match the mean return per unit of deviation");
+
+        double downside = 0;
+        for (double ret : simple) {
+            downside += ret < 0 ? ret * ret : 0;
+        }
+        assertEquals(mean(simple) / Math.sqrt(downside / simple.length) * Math.sqrt(252), Stats.SORTINO_RATIO.getCalculator().calculate(stock), 1e-9,
+            "Sortino ratio should match the mean return per unit of downside deviation");
+
+        double[] sorted = simple.clone();
+        Arrays.sort(sorted);
+        double position = 0.05 * (sorted.length - 1);
+        int lower = (int) position;
+        double quantile = sorted[lower] + (position - lower) * (sorted[lower + 1] - sorted[lower]);
+        assertEquals(-quantile, Stats.VALUE_AT_RISK.getCalculator().calculate(stock), 1e-12,
+            "Value at risk should match the negated quantile of the returns");
+    }
+
+    /**
+     * Test the maximum drawdown of a known series, as a whole and merged from chunks.
+     * <p>
+     * This test ensures that the deepest fall is measured from the running peak, even when the chunk holding it starts
+     * below the peak of a previous chunk.
+     * </p>
+     */
+    @Test
+    void shouldFindMaxDrawdownAcrossChunks() {
+        double[] prices = {100, 120, 90, 110, 115, 60, 130, 125};
+        assertEquals(0.5, Stats.MAX_DRAWDOWN.getCalculator().calculate(stockOf(prices, 0)), 1e-12,
+            "Maximum drawdown should be the fall from 120 to 60");
+
+        for (int split = 0; split <= prices.length; split++) {
+            StatisticsAccumulator first = Stats.MAX_DRAWDOWN.newAccumulator();
+            StatisticsAccumulator second = Stats.MAX_DRAWDOWN.newAccumulator();
+            first.accept(stockOf(Arrays.copyOfRange(prices, 0, split), 0).getQuoteSeries());
+            second.accept(stockOf(Arrays.copyOfRange(prices, split, prices.length), split).getQuoteSeries());
+            first.merge(second);
+            assertEquals(0.5, first.result(), 1e-12, "Merged maximum drawdown should not depend on the split at " + split);
+        }
+    }
+
+    /**
+     * Test the beta against a benchmark.
+     * <p>
+     * This test ensures that a stock moving twice as much as its benchmark has a beta of two, and that only the dates
+     * present in both histories are used.
+     * </p>
+     */
+    @Test
+    void shouldCalculateBetaAgainstBenchmark() {
+        double[] benchmarkPrices = randomPrices(300, 2);
+        double[] returns = Returns.simple(benchmarkPrices, null);
+        double[] prices = new double[benchmarkPrices.length];
+        prices[0] = 50;
+        for (int i = 1; i < prices.length; i++) {
+            prices[i] = prices[i - 1] * (1 + 2 * returns[i]);
+        }
+        Stock benchmark = stockOf(benchmarkPrices, 0);
+
+        assertEquals(1.0, new BetaCalculator(benchmark).calculate(benchmark), 1e-12, "A benchmark should have a beta of one against itself");
+        assertEquals(2.0, new BetaCalculator(benchmark).calculate(stockOf(prices, 0)), 1e-9, "A leveraged stock should have a beta of two");
+
+        Stock shifted = stockOf(Arrays.copyOfRange(prices, 100, prices.length), 100);
+        assertEquals(2.0, new BetaCalculator(benchmark).calculate(shifted), 1e-9, "Histories of different ranges should be aligned by date");
+        assertEquals(0.0, new BetaCalculator(new Stock("INVALID_TICKER")).calculate(shifted), "Beta should be zero without a benchmark history");
+    }
+
+    private static Stock stockOf(double[] prices, int firstDay) {
+        long[] dates = new long[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            dates[i] = (firstDay + i) * 86_400L;
+        }
+        Stock stock = new Stock("PETR4.SA");
+        stock.setQuoteSeries(new QuoteSeries(dates, prices, prices, prices, prices, prices, new long[prices.length]));
+        return stock;
+    }
+
+    private static double[] randomPrices(int size, long seed) {
+        Random random = new Random(seed);
+        double[] prices = new double[size];
+        prices[0] = 100;
+        for (int i = 1; i < size; i++) {
+            prices[i] = prices[i - 1] * (1 + random.nextGaussian() * 0.02);
+        }
+        return prices;
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double deviation(double[] values) {
+        double mean = mean(values);
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(squares / (values.length - 1));
+    }
+}
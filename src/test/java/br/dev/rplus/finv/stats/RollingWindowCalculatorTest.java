@@ -0,0 +1,74 @@
+package br.dev.rplus.finv.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the rolling window calculator.
+ */
+class RollingWindowCalculatorTest {
+
+    /**
+     * Test the incremental rolling statistics against a direct computation of every window.
+     * <p>
+     * This test ensures that the warm-up values are missing and that every full window matches its direct computation.
+     * </p>
+     */
+    @Test
+    void shouldMatchDirectComputation() {
+        Random random = new Random(42);
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 + random.nextGaussian() * 10;
+        }
+        int window = 20;
+
+        double[] average = RollingWindowCalculator.movingAverage(values, window);
+        double[] min = RollingWindowCalculator.rollingMin(values, window);
+        double[] max = RollingWindowCalculator.rollingMax(values, window);
+        double[] deviation = RollingWindowCalculator.rollingStandardDeviation(values, window);
+
+        assertTrue(Double.isNaN(average[window - 2]), "Values before the first full window should be missing");
+        for (int end = window - 1; end < values.length; end++) {
+            double sum = 0;
+            double lowest = Double.POSITIVE_INFINITY;
+            double highest = Double.NEGATIVE_INFINITY;
+            for (int i = end - window + 1; i <= end; i++) {
+                sum += values[i];
+                lowest = Math.min(lowest, values[i]);
+                highest = Math.max(highest, values[i]);
+            }
+            double mean = sum / window;
+            double squares = 0;
+            for (int i = end - window + 1; i <= end; i++) {
+                squares += (values[i] - mean) * (values[i] - mean);
+            }
+            assertEquals(mean, average[end], 1e-9, "Moving average should match at " + end);
+            assertEquals(lowest, min[end], "Rolling minimum should match at " + end);
+            assertEquals(highest, max[end], "Rolling maximum should match at " + end);
+            assertEquals(Math.sqrt(squares / window), deviation[end], 1e-9, "Rolling deviation should match at " + end);
+        }
+    }
+
+    /**
+     * Test rolling statistics over a series with a missing value.
+     * <p>
+     * This test ensures that only the windows holding the missing value are missing.
+     * </p>
+     */
+    @Test
+    void shouldPropagateMissingValuesOnlyWithinTheWindow() {
+        double[] values = {1, 2, Double.NaN, 4, 5, 6};
+
+        double[] max = RollingWindowCalculator.rollingMax(values, 2);
+        double[] average = RollingWindowCalculator.movingAverage(values, 2);
+
+        assertEquals(2.0, max[1], "Window before the missing value should be complete");
+        assertTrue(Double.isNaN(max[3]), "Window holding the missing value should be missing");
+        assertEquals(5.0, max[4], "Window after the missing value should be complete");
+        assertEquals(5.5, average[5], "Average should recover after the missing value");
+    }
+}
@@ -0,0 +1,68 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.Stock;
+import br.dev.rplus.finv.data.QuoteSeries;
+import br.dev.rplus.finv.data.StockDividend;
+import br.dev.rplus.finv.data.StockQuote;
+import br.dev.rplus.finv.enums.Stats;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the incremental statistics accumulators.
+ */
+class StatisticsAccumulatorTest {
+
+    /**
+     * Test accumulating a whole stock and merging accumulators of two halves of its data.
+     * <p>
+     * This test ensures that every {@link Stats} constant has an accumulator that matches its calculator,
+     * and that merging partial accumulators yields the result of the whole data.
+     * </p>
+     */
+    @Test
+    void shouldMatchCalculatorsWhenAccumulatedOrMerged() {
+        double[] close = {37.5, 37.8, 36.1, 38.4, 37.9, 38.2};
+        QuoteSeries series = new QuoteSeries(new long[]{1, 2, 3, 4, 5, 6}, close, close, close, close, close, new long[6]);
+        List<StockDividend> dividends = List.of(new StockDividend(0.1, 1L), new StockDividend(0.2, 2L), new StockDividend(0.3, 3L));
+        StockQuote quote = new StockQuote(1704225600000L, 37.5, -0.2, 37.7, 37.7, 37.1, 37.9, null, 37.49, 37.51);
+
+        Stock stock = new Stock("PETR4.SA");
+        stock.setQuote(quote);
+        stock.setQuoteSeries(series);
+        stock.setDividendHistory(dividends);
+
+        for (Stats stats : Stats.values()) {
+            StatisticsAccumulator whole = stats.newAccumulator();
+            whole.accept(stock);
+            assertEquals(stats.getCalculator().calculate(stock), whole.result(), 1e-12, "Accumulator should match the calculator of " + stats);
+
+            StatisticsAccumulator first = stats.newAccumulator();
+            StatisticsAccumulator second = stats.newAccumulator();
+            for (int i = 0; i < series.size(); i++) {
+                (i < 3 ? first : second).accept(series.get(i));
+            }
+            first.accept(dividends.getFirst());
+            dividends.subList(1, dividends.size()).forEach(second::accept);
+            second.accept(quote);
+            first.merge(second);
+            assertEquals(whole.result(), first.result(), 1e-12, "Merged accumulators should match the whole data for " + stats);
+        }
+    }
+
+    /**
+     * Test merging accumulators of different statistics.
+     * <p>
+     * This test ensures that the mismatch is rejected.
+     * </p>
+     */
+    @Test
+    void shouldRejectMergingDifferentStatistics() {
+        StatisticsAccumulator average = Stats.AVERAGE_CLOSE_PRICE.newAccumulator();
+        assertThrows(IllegalArgumentException.class, () -> average.merge(Stats.TOTAL_DIVIDENDS.newAccumulator()),
+            "Accumulators of different statistics should not be merged");
+    }
+}
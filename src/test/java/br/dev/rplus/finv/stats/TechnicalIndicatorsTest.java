@@ -0,0 +1,152 @@
+package br.dev.rplus.finv.stats;
+
+import br.dev.rplus.finv.data.QuoteSeries;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the technical indicators.
+ */
+class TechnicalIndicatorsTest {
+
+    /**
+     * Test the one-pass indicators against a direct computation of their textbook definitions.
+     * <p>
+     * This test ensures that the warm-up values are missing and that every other value matches the direct computation.
+     * </p>
+     */
+    @Test
+    void shouldMatchDirectComputation() {
+        QuoteSeries quotes = randomSeries(300);
+        double[] close = quotes.close();
+
+        double[] ema = TechnicalIndicators.ema(quotes, 10, null);
+        double[] expectedEma = directEma(close, 0, 10);
+        assertTrue(Double.isNaN(ema[8]), "Values before the first full period should be missing");
+        for (int i = 9; i < close.length; i++) {
+            assertEquals(expectedEma[i], ema[i], 1e-9, "EMA should match at " + i);
+        }
+
+        double[] rsi = TechnicalIndicators.rsi(quotes, 14, null);
+        assertTrue(Double.isNaN(rsi[13]), "RSI should start after the first full period of changes");
+        double gains = 0;
+        double losses = 0;
+        for (int i = 1; i < close.length; i++) {
+            double change = close[i] - close[i - 1];
+            if (i <= 14) {
+                gains += Math.max(change, 0) / 14;
+                losses += Math.max(-change, 0) / 14;
+            } else {
+                gains = (gains * 13 + Math.max(change, 0)) / 14;
+                losses = (losses * 13 + Math.max(-change, 0)) / 14;
+            }
+            if (i >= 14) {
+                assertEquals(100 - 100 / (1 + gains / losses), rsi[i], 1e-9, "RSI should match at " + i);
+            }
+        }
+
+        TechnicalIndicators.Macd macd = TechnicalIndicators.macd(quotes, 12, 26, 9, null);
+        double[] fast = directEma(close, 0, 12);
+        double[] slow = directEma(close, 0, 26);
+        double[] line = new double[close.length];
+        for (int i = 0; i < close.length; i++) {
+            line[i] = fast[i] - slow[i];
+        }
+        double[] signal = directEma(line, 25, 9);
+        for (int i = 25 + 8; i < close.length; i++) {
+            assertEquals(line[i], macd.line()[i], 1e-9, "MACD line should match at " + i);
+            assertEquals(signal[i], macd.signal()[i], 1e-9, "Signal line should match at " + i);
+            assertEquals(line[i] - signal[i], macd.histogram()[i], 1e-9, "Histogram should match at " + i);
+        }
+        assertTrue(Double.isNaN(macd.signal()[25 + 7]), "Signal line should start after its own period");
+
+        TechnicalIndicators.Bands bands = TechnicalIndicators.bollinger(quotes, 20, 2, null);
+        double[] average = RollingWindowCalculator.movingAverage(close, 20);
+        double[] deviation = RollingWindowCalculator.rollingStandardDeviation(close, 20);
+        for (int i = 19; i < close.length; i++) {
+            assertEquals(average[i], bands.middle()[i], 1e-12, "Middle band should match at " + i);
+            assertEquals(average[i] + 2 * deviation[i], bands.upper()[i], 1e-9, "Upper band should match at " + i);
+            assertEquals(average[i] - 2 * deviation[i], bands.lower()[i], 1e-9, "Lower band should match at " + i);
+        }
+
+        double[] atr = TechnicalIndicators.atr(quotes, 14, null);
+        double expectedAtr = 0;
+        for (int i = 0; i < close.length; i++) {
+            double range = quotes.high()[i] - quotes.low()[i];
+            if (i > 0) {
+                range = Math.max(range, Math.abs(quotes.high()[i] - close[i - 1]));
+                range = Math.max(range, Math.abs(quotes.low()[i] - close[i - 1]));
+            }
+            expectedAtr = i < 14 ? expectedAtr + range / 14 : (expectedAtr * 13 + range) / 14;
+            if (i >= 13) {
+                assertEquals(expectedAtr, atr[i], 1e-9, "ATR should match at " + i);
+            }
+        }
+    }
+
+    /**
+     * Test the reuse of output buffers.
+     * <p>
+     * This test ensures that large enough buffers are written in place, and that the results do not depend on their
+     * previous content.
+     * </p>
+     */
+    @Test
+    void shouldReuseBuffers() {
+        QuoteSeries quotes = randomSeries(100);
+        double[] buffer = new double[120];
+        Arrays.fill(buffer, 42);
+
+        assertSame(buffer, TechnicalIndicators.ema(quotes, 10, buffer), "A large enough buffer should be written in place");
+        assertArrayEquals(TechnicalIndicators.ema(quotes, 10, null), Arrays.copyOf(buffer, 100), "The previous content of the buffer should not leak");
+
+        TechnicalIndicators.Macd macd = new TechnicalIndicators.Macd(new double[100], new double[100], new double[100]);
+        assertSame(macd, TechnicalIndicators.macd(quotes, 12, 26, 9, macd), "The MACD buffers should be written in place");
+        TechnicalIndicators.Bands bands = new TechnicalIndicators.Bands(new double[100], new double[100], new double[100]);
+        assertSame(bands, TechnicalIndicators.bollinger(quotes, 20, 2, bands), "The band buffers should be written in place");
+
+        TechnicalIndicators.Macd small = new TechnicalIndicators.Macd(new double[10], new double[10], new double[10]);
+        assertEquals(100, TechnicalIndicators.macd(quotes, 12, 26, 9, small).line().length, "Small buffers should be replaced");
+        assertThrows(IllegalArgumentException.class, () -> TechnicalIndicators.rsi(quotes, 0, null), "A period without bars should be rejected");
+    }
+
+    private static double[] directEma(double[] values, int from, int period) {
+        double[] result = new double[values.length];
+        Arrays.fill(result, Double.NaN);
+        double sum = 0;
+        for (int i = from; i < from + period; i++) {
+            sum += values[i];
+        }
+        result[from + period - 1] = sum / period;
+        double alpha = 2.0 / (period + 1);
+        for (int i = from + period; i < values.length; i++) {
+            result[i] = alpha * values[i] + (1 - alpha) * result[i - 1];
+        }
+        return result;
+    }
+
+    private static QuoteSeries randomSeries(int size) {
+        Random random = new Random(7);
+        long[] timestamps = new long[size];
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        long[] volume = new long[size];
+        double price = 100;
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = 1_700_000_000_000L + i * 86_400_000L;
+            open[i] = price;
+            price += random.nextGaussian();
+            close[i] = price;
+            high[i] = Math.max(open[i], close[i]) + random.nextDouble();
+            low[i] = Math.min(open[i], close[i]) - random.nextDouble();
+            volume[i] = 1000 + random.nextInt(1000);
+        }
+        return new QuoteSeries(timestamps, open, high, low, close, close.clone(), volume);
+    }
+}
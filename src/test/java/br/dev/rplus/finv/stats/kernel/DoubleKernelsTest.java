@@ -0,0 +1,80 @@
+package br.dev.rplus.finv.stats.kernel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the scalar statistics kernels.
+ * <p>
+ * The vectorized kernels are tested by the {@code vectorTest} task, which runs with the incubating module.
+ */
+class DoubleKernelsTest {
+
+    /**
+     * Test the fused summary against the individual kernels.
+     * <p>
+     * This test ensures that the sum, minimum and maximum of a summary are exactly those of the individual kernels.
+     * </p>
+     */
+    @Test
+    void shouldSummarizeLikeIndividualKernels() {
+        Random random = new Random(7);
+        double[] prices = new double[1003];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 50 + random.nextDouble() * 10;
+        }
+
+        DoubleKernels kernels = new ScalarDoubleKernels();
+        DoubleKernels.Summary summary = kernels.summarize(prices, 3, 998);
+
+        assertEquals(kernels.sum(prices, 3, 998), summary.sum(), "Summary sum should match the sum kernel exactly");
+        assertEquals(kernels.min(prices, 3, 998), summary.min(), "Summary minimum should match the minimum kernel");
+        assertEquals(kernels.max(prices, 3, 998), summary.max(), "Summary maximum should match the maximum kernel");
+    }
+
+    /**
+     * Test the variance and dot product kernels.
+     * <p>
+     * This test ensures that the variance is the population variance of the range, that the dot products sum the
+     * products of both arrays, and that the volume sum is exact.
+     * </p>
+     */
+    @Test
+    void shouldCalculateVarianceAndDotProducts() {
+        DoubleKernels kernels = new ScalarDoubleKernels();
+        double[] prices = {2.0, 4.0, 4.0, 4.0, 5.0, 5.0, 7.0, 9.0};
+        double[] weights = {1.0, 0.5, 0.0, 0.0, 0.0, 0.0, 0.0, 2.0};
+        long[] volumes = {(1L << 53) + 1, 1, 1, 0, 0, 0, 0, 10};
+
+        assertEquals(4.0, kernels.variance(prices), "Variance should be the population variance");
+        assertEquals(0.0, kernels.variance(prices, 2, 4), "Variance of equal values should be zero");
+        assertEquals(22.0, kernels.dot(prices, weights), "Dot product should sum the products");
+        assertEquals((1L << 53) + 13, kernels.sum(volumes), "Volume sum should be exact beyond the precision of a double");
+        assertEquals(4.0 + 90.0, kernels.dot(prices, volumes, 2, 8), "Price-volume dot product should sum the products");
+        assertThrows(IllegalArgumentException.class, () -> kernels.dot(prices, new double[3]), "Arrays of different lengths should be rejected");
+    }
+
+    /**
+     * Test the kernels over empty ranges and missing values.
+     * <p>
+     * This test ensures that empty ranges yield the identity of each reduction and that missing values propagate.
+     * </p>
+     */
+    @Test
+    void shouldHandleEmptyRangesAndMissingValues() {
+        DoubleKernels kernels = new ScalarDoubleKernels();
+        assertEquals(0.0, kernels.sum(new double[0]), "Empty sum should be zero");
+        assertEquals(Double.POSITIVE_INFINITY, kernels.min(new double[0]), "Empty minimum should be positive infinity");
+        assertEquals(Double.NEGATIVE_INFINITY, kernels.summarize(new double[0]).max(), "Empty maximum should be negative infinity");
+        assertTrue(Double.isNaN(kernels.variance(new double[0])), "Empty variance should be missing");
+        assertEquals(0.0, kernels.dot(new double[0], new long[0]), "Empty dot product should be zero");
+
+        double[] values = new double[64];
+        values[40] = Double.NaN;
+        assertTrue(Double.isNaN(kernels.max(values)), "Missing values should propagate to the maximum");
+        assertTrue(Double.isNaN(kernels.summarize(values).min()), "Missing values should propagate to the summary");
+    }
+}
@@ -0,0 +1,151 @@
+package br.dev.rplus.finv.stats.kernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of the {@link DoubleKernels} built on the Vector API.
+ * <p>
+ * Each loop processes as many elements per iteration as the preferred vector shape of the CPU holds, accumulating
+ * lane-wise partial results that are reduced once at the end, and handles the remaining tail with scalar code.
+ * This class lives in the {@code vector} source set, which is the only one compiled against the incubating module,
+ * and is only loaded when the {@code jdk.incubator.vector} module is present.
+ */
+final class VectorDoubleKernels implements DoubleKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = VectorSpecies.of(long.class, SPECIES.vectorShape());
+
+    @Override
+    public double sum(double[] values, int from, int to) {
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            sums = sums.add(DoubleVector.fromArray(SPECIES, values, i));
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public long sum(long[] values, int from, int to) {
+        LongVector sums = LongVector.zero(LONG_SPECIES);
+        int i = from;
+        for (int bound = from + LONG_SPECIES.loopBound(to - from); i < bound; i += LONG_SPECIES.length()) {
+            sums = sums.add(LongVector.fromArray(LONG_SPECIES, values, i));
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] values, int from, int to) {
+        DoubleVector mins = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            mins = mins.min(DoubleVector.fromArray(SPECIES, values, i));
+        }
+        double min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values, int from, int to) {
+        DoubleVector maxs = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            maxs = maxs.max(DoubleVector.fromArray(SPECIES, values, i));
+        }
+        double max = maxs.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public Summary summarize(double[] values, int from, int to) {
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        DoubleVector mins = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        DoubleVector maxs = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(SPECIES, values, i);
+            sums = sums.add(vector);
+            mins = mins.min(vector);
+            maxs = maxs.max(vector);
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        double min = mins.reduceLanes(VectorOperators.MIN);
+        double max = maxs.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            double value = values[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return new Summary(sum, min, max);
+    }
+
+    @Override
+    public double variance(double[] values, int from, int to) {
+        int count = to - from;
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        double mean = sum(values, from, to) / count;
+        DoubleVector means = DoubleVector.broadcast(SPECIES, mean);
+        DoubleVector squares = DoubleVector.zero(SPECIES);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            DoubleVector deviations = DoubleVector.fromArray(SPECIES, values, i).sub(means);
+            squares = deviations.fma(deviations, squares);
+        }
+        double sum = squares.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            double deviation = values[i] - mean;
+            sum += deviation * deviation;
+        }
+        return sum / count;
+    }
+
+    @Override
+    public double dot(double[] a, double[] b, int from, int to) {
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            sums = DoubleVector.fromArray(SPECIES, a, i).fma(DoubleVector.fromArray(SPECIES, b, i), sums);
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double dot(double[] prices, long[] volumes, int from, int to) {
+        DoubleVector sums = DoubleVector.zero(SPECIES);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector volume = (DoubleVector) LongVector.fromArray(LONG_SPECIES, volumes, i).convert(VectorOperators.L2D, 0);
+            sums = DoubleVector.fromArray(SPECIES, prices, i).fma(volume, sums);
+        }
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += prices[i] * volumes[i];
+        }
+        return sum;
+    }
+}
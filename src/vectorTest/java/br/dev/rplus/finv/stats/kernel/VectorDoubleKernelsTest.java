@@ -0,0 +1,68 @@
+package br.dev.rplus.finv.stats.kernel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the vectorized statistics kernels.
+ */
+class VectorDoubleKernelsTest {
+
+    /**
+     * Test the vectorized kernels against the scalar ones.
+     * <p>
+     * This test ensures that both implementations agree on ranges whose length is not a multiple of the vector length,
+     * including the scalar tail, and that the fused summary matches the individual kernels exactly.
+     * </p>
+     */
+    @Test
+    void shouldMatchScalarKernels() {
+        Random random = new Random(7);
+        double[] prices = new double[1003];
+        double[] weights = new double[prices.length];
+        long[] volumes = new long[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 50 + random.nextDouble() * 10;
+            weights[i] = random.nextDouble();
+            volumes[i] = random.nextInt(1_000_000);
+        }
+
+        DoubleKernels scalar = new ScalarDoubleKernels();
+        DoubleKernels vector = new VectorDoubleKernels();
+
+        assertEquals(scalar.sum(prices), vector.sum(prices), 1e-9, "Sums should match");
+        assertEquals(scalar.min(prices, 3, 998), vector.min(prices, 3, 998), "Minimums should match");
+        assertEquals(scalar.max(prices, 3, 998), vector.max(prices, 3, 998), "Maximums should match");
+        assertEquals(scalar.sum(volumes), vector.sum(volumes), "Volume sums should be exact");
+        assertEquals(scalar.variance(prices), vector.variance(prices), 1e-9, "Variances should match");
+        assertEquals(scalar.dot(prices, weights), vector.dot(prices, weights), 1e-6, "Dot products should match");
+        assertEquals(scalar.dot(prices, volumes), vector.dot(prices, volumes), 1e-3, "Price-volume dot products should match");
+
+        DoubleKernels.Summary summary = vector.summarize(prices, 3, 998);
+        assertEquals(vector.sum(prices, 3, 998), summary.sum(), "Summary sum should match the sum kernel exactly");
+        assertEquals(vector.min(prices, 3, 998), summary.min(), "Summary minimum should match the minimum kernel");
+        assertEquals(vector.max(prices, 3, 998), summary.max(), "Summary maximum should match the maximum kernel");
+    }
+
+    /**
+     * Test the vectorized kernels over empty ranges and missing values.
+     * <p>
+     * This test ensures that empty ranges yield the identity of each reduction and that missing values propagate.
+     * </p>
+     */
+    @Test
+    void shouldHandleEmptyRangesAndMissingValues() {
+        DoubleKernels kernels = new VectorDoubleKernels();
+        assertEquals(0.0, kernels.sum(new double[0]), "Empty sum should be zero");
+        assertEquals(Double.POSITIVE_INFINITY, kernels.summarize(new double[0]).min(), "Empty minimum should be positive infinity");
+        assertTrue(Double.isNaN(kernels.variance(new double[0])), "Empty variance should be missing");
+
+        double[] values = new double[64];
+        values[40] = Double.NaN;
+        assertTrue(Double.isNaN(kernels.max(values)), "Missing values should propagate to the maximum");
+        assertTrue(Double.isNaN(kernels.summarize(values).sum()), "Missing values should propagate to the summary");
+    }
+}